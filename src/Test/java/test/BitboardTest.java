@@ -0,0 +1,95 @@
+package test;
+
+import Core.Bitboard;
+import org.junit.jupiter.api.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This class tests the square layout and shifts of the bitboard
+ *
+ * @author Jacob Barrios
+ * @version 1.0, 10/18/2026
+ */
+public class BitboardTest {
+
+	/**
+	 * Tests that every playable square converts to an index and back
+	 */
+	@Test
+	public void squareRoundTrip() {
+		for(int row = 0; row < 8; row++) {
+			for(int col = 0; col < 8; col++) {
+				int square = Bitboard.square(row, col);
+				
+				if((row + col) % 2 == 0) {
+					assertEquals(-1, square, "Light squares should not have an index");
+				}
+				else {
+					assertEquals(row, Bitboard.row(square), "Row should match for square " + square);
+					assertEquals(col, Bitboard.col(square), "Column should match for square " + square);
+				}
+			}
+		}
+		
+	}
+	
+	/**
+	 * Tests that each shift matches stepping one row and one column on the 8x8 board
+	 */
+	@Test
+	public void shiftsMatchBoard() {
+		for(int square = 0; square < Bitboard.SQUARES; square++) {
+			int row = Bitboard.row(square);
+			int col = Bitboard.col(square);
+			int bit = 1 << square;
+			
+			assertEquals(bitOf(row - 1, col - 1), Bitboard.upLeft(bit), "Up left from square " + square);
+			assertEquals(bitOf(row - 1, col + 1), Bitboard.upRight(bit), "Up right from square " + square);
+			assertEquals(bitOf(row + 1, col - 1), Bitboard.downLeft(bit), "Down left from square " + square);
+			assertEquals(bitOf(row + 1, col + 1), Bitboard.downRight(bit), "Down right from square " + square);
+		}
+		
+	}
+	
+	/**
+	 * Tests that the lookup tables agree with the shifts
+	 */
+	@Test
+	public void tablesMatchShifts() {
+		for(int direction = Bitboard.UP_LEFT; direction <= Bitboard.DOWN_RIGHT; direction++) {
+			for(int square = 0; square < Bitboard.SQUARES; square++) {
+				int next = Bitboard.step(direction, 1 << square);
+				int landing = Bitboard.step(direction, next);
+				
+				assertEquals(next, Bitboard.neighbor(direction, square), "Neighbor of square " + square + " in direction " + direction);
+				assertEquals(landing, Bitboard.jump(direction, square), "Jump from square " + square + " in direction " + direction);
+				
+			}
+			
+		}
+		
+		assertEquals(Bitboard.UP_LEFT, Bitboard.firstDirection(true, false), "Player x's men go up");
+		assertEquals(Bitboard.UP_RIGHT, Bitboard.lastDirection(true, false), "Player x's men go up");
+		assertEquals(Bitboard.DOWN_LEFT, Bitboard.firstDirection(false, false), "Player o's men go down");
+		assertEquals(Bitboard.DOWN_RIGHT, Bitboard.lastDirection(false, false), "Player o's men go down");
+		assertEquals(Bitboard.UP_LEFT, Bitboard.firstDirection(false, true), "Kings go both ways");
+		assertEquals(Bitboard.DOWN_RIGHT, Bitboard.lastDirection(true, true), "Kings go both ways");
+		
+	}
+	
+	/**
+	 * Gets the bit of a square, or 0 if it's off the board
+	 *
+	 * @param row Row of the board
+	 * @param col Column of the board
+	 * @return Bit of the square
+	 */
+	private int bitOf(int row, int col) {
+		int square = Bitboard.square(row, col);
+		
+		return square < 0 ? 0 : 1 << square;
+		
+	}
+	
+}
@@ -35,19 +35,19 @@ public class CheckersComputerPlayerTest {
 		testLogic.changeTurn();
 		String moveFromComputer;
 		
-		testLogic.getBoard()[2][3] = 'o';
+		testLogic.setPiece(2, 3, 'o');
 		
 		moveFromComputer = testComputer.moveForComputer();
 		assertEquals("6d-5e", moveFromComputer, "Move should produce 6d-5e");
 		
-		testLogic.getBoard()[3][4] = 'x';
-		testLogic.getBoard()[4][5] = 'x';
+		testLogic.setPiece(3, 4, 'x');
+		testLogic.setPiece(4, 5, 'x');
 		
 		moveFromComputer = testComputer.moveForComputer();
 		assertEquals("6d-5c", moveFromComputer, "Move should produce 6d-5c");
 		
-		testLogic.getBoard()[3][2] = 'x';
-		testLogic.getBoard()[4][1] = 'x';
+		testLogic.setPiece(3, 2, 'x');
+		testLogic.setPiece(4, 1, 'x');
 		
 		moveFromComputer = testComputer.moveForComputer();
 		assertEquals("No more moves", moveFromComputer, "Message should say no more moves");
@@ -64,32 +64,65 @@ public class CheckersComputerPlayerTest {
 		testLogic.changeTurn();
 		String moveFromComputer;
 		
-		testLogic.getBoard()[2][3] = 'o';
-		testLogic.getBoard()[3][4] = 'x';
+		testLogic.setPiece(2, 3, 'o');
+		testLogic.setPiece(3, 4, 'x');
 		
 		moveFromComputer = testComputer.moveForComputer();
 		assertEquals("6d-4f", moveFromComputer, "Move should produce 6d-4f");
 		
-		testLogic.getBoard()[4][5] = 'x';
-		testLogic.getBoard()[3][2] = 'x';
+		testLogic.setPiece(4, 5, 'x');
+		testLogic.setPiece(3, 2, 'x');
 		
 		moveFromComputer = testComputer.moveForComputer();
 		assertEquals("6d-4b", moveFromComputer, "Move should produce 6d-4b");
 		
-		testLogic.getBoard()[4][1] = 'x';
+		testLogic.setPiece(4, 1, 'x');
 		
 		moveFromComputer = testComputer.moveForComputer();
 		assertEquals("No more moves", moveFromComputer, "Message should say no more moves");
 		
 	}
 	
+	/**
+	 * Tests that the computer ponders on the expected reply, keeps the search on a hit and drops it on a miss
+	 */
+	@Test
+	public void pondering() {
+		int[] buffer = new int[CheckersLogic.MAX_MOVES];
+		testComputer.getEngine().setMaxDepth(6);
+		testComputer.setPondering(true);
+		
+		assertTrue(testLogic.processMove(testComputer.moveForComputer()), "Computer move should be valid");
+		assertTrue(testComputer.isPondering(), "Computer should ponder after moving");
+		
+		// Play something other than the reply the computer expects, there are no captures yet so there is a choice
+		int expected = testComputer.getLastResult().getPrincipalVariation()[1];
+		testLogic.generateMoves(buffer);
+		int other = buffer[0] == expected ? buffer[1] : buffer[0];
+		
+		assertTrue(testLogic.processMove(other), "Other reply should be legal");
+		assertTrue(testLogic.processMove(testComputer.moveForComputer()), "Move after a miss should be valid");
+		assertEquals(1, testComputer.getPonderMisses(), "Other reply should be a ponder miss");
+		
+		// Play the reply the computer expects
+		expected = testComputer.getLastResult().getPrincipalVariation()[1];
+		assertTrue(testLogic.processMove(expected), "Expected reply should be legal");
+		assertTrue(testLogic.processMove(testComputer.moveForComputer()), "Move from the ponder search should be valid");
+		assertEquals(1, testComputer.getPonderHits(), "Expected reply should be a ponder hit");
+		assertEquals(6, testComputer.getLastResult().getDepth(), "Ponder search should reach the full depth");
+		
+		testComputer.setPondering(false);
+		assertFalse(testComputer.isPondering(), "Turning pondering off should stop the search");
+		
+	}
+	
 	/**
 	 * Clears the board to edit
 	 */
 	public void clearBoard() {
 		for(int i = 0; i < 8; i++) {
 			for(int j = 0; j < 8; j++) {
-				testLogic.getBoard()[i][j] = '_';
+				testLogic.setPiece(i, j, '_');
 				
 			}
 			
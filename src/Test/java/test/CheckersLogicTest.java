@@ -1,6 +1,9 @@
 package test;
 
+import Core.Bitboard;
 import Core.CheckersLogic;
+import Core.Move;
+import Core.Zobrist;
 import org.junit.jupiter.api.*;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -94,10 +97,12 @@ class CheckersLogicTest {
 	@Test
 	public void processMoveTest1() {
 		String move = "3a-4b";
-		char[][] board = testLogic.getBoard();
 		
 		boolean isValid = testLogic.processMove(move);
 		
+		// The board is a copy, so get it after the move
+		char[][] board = testLogic.getBoard();
+		
 		//Checks if the move is valid
 		assertTrue(isValid, "Cannot process move");
 		
@@ -129,8 +134,8 @@ class CheckersLogicTest {
 		clearBoard();
 		String move = "5c-7e";
 		
-		testLogic.getBoard()[3][2] = 'x';
-		testLogic.getBoard()[2][3] = 'o';
+		testLogic.setPiece(3, 2, 'x');
+		testLogic.setPiece(2, 3, 'o');
 		
 		boolean capturedPiece = testLogic.processMove(move);
 		
@@ -152,8 +157,8 @@ class CheckersLogicTest {
 		testLogic.changeTurn();
 		String move = "6d-4b";
 		
-		testLogic.getBoard()[3][2] = 'x';
-		testLogic.getBoard()[2][3] = 'o';
+		testLogic.setPiece(3, 2, 'x');
+		testLogic.setPiece(2, 3, 'o');
 		
 		boolean capturedPiece = testLogic.processMove(move);
 		
@@ -167,6 +172,304 @@ class CheckersLogicTest {
 		
 	}
 	
+	/**
+	 * Tests that a king can move backwards and that the board is only a copy
+	 */
+	@Test
+	public void kingMoveTest() {
+		clearBoard();
+		
+		testLogic.setPiece(3, 2, 'X');
+		testLogic.setPiece(0, 1, 'o');
+		
+		char[][] board = testLogic.getBoard();
+		board[3][2] = '_';
+		
+		assertEquals('X', testLogic.getBoard()[3][2], "Changing the copy should not change the game");
+		assertTrue(testLogic.processMove("5c-4d"), "A king should be able to move backwards");
+		assertEquals('X', testLogic.getBoard()[4][3], "The king should be at the new position (4, d).");
+		
+	}
+	
+	/**
+	 * Tests the move generator on the starting board and with a capture available
+	 */
+	@Test
+	public void generateMovesTest() {
+		int[] buffer = new int[CheckersLogic.MAX_MOVES];
+		
+		assertEquals(7, testLogic.generateMoves(buffer), "Player x should have 7 moves at the start");
+		assertEquals(0, testLogic.generateCaptures(buffer), "There should be no captures at the start");
+		
+		clearBoard();
+		testLogic.setPiece(3, 2, 'x');
+		testLogic.setPiece(2, 3, 'o');
+		
+		int count = testLogic.generateMoves(buffer);
+		
+		assertEquals(1, count, "Jumping is forced, so the step should not be legal");
+		assertTrue(Move.isCapture(buffer[0]), "Only move should be the capture");
+		assertEquals("5c-7e", testLogic.convertToMove(buffer[0]), "Capture should be 5c-7e");
+		assertTrue(testLogic.processMove(buffer[0]), "Generated move should be valid");
+		assertEquals('_', testLogic.getBoard()[2][3], "The captured piece should no longer be here");
+		assertFalse(testLogic.processMove(buffer[0]), "Move should not be valid on the other player's turn");
+		
+	}
+	
+	/**
+	 * Tests that a piece keeps jumping until it runs out of jumps, and the notation of the chain
+	 */
+	@Test
+	public void multiJumpTest() {
+		int[] buffer = new int[CheckersLogic.MAX_MOVES];
+		
+		clearBoard();
+		testLogic.setPiece(5, 0, 'x');
+		testLogic.setPiece(4, 1, 'o');
+		testLogic.setPiece(2, 3, 'o');
+		testLogic.setPiece(0, 7, 'o');
+		
+		assertEquals(1, testLogic.generateMoves(buffer), "Stopping after one jump should not be a move");
+		assertEquals(2, Move.jumpCount(buffer[0]), "Move should jump both pieces");
+		assertEquals("3a-5c-7e", testLogic.convertToMove(buffer[0]), "Every landing square should be listed");
+		
+		char[][] before = testLogic.getBoard();
+		
+		assertFalse(testLogic.processMove("3a-5c"), "Part of a chain should not be legal");
+		assertTrue(testLogic.processMove("3a-7e"), "Start and end should be enough for the chain");
+		
+		char[][] board = testLogic.getBoard();
+		assertEquals('x', board[1][4], "The piece should be at the end of the chain (7, e).");
+		assertEquals('_', board[4][1], "The first captured piece should no longer be here");
+		assertEquals('_', board[2][3], "The second captured piece should no longer be here");
+		
+		testLogic.unmakeMove();
+		assertArrayEquals(before, testLogic.getBoard(), "Undo should put both pieces back");
+		assertTrue(testLogic.processMove("3a-5c-7e"), "Full path should also be accepted");
+		
+	}
+	
+	/**
+	 * Tests that the changed squares of a move are its start, end and captured squares
+	 */
+	@Test
+	public void changedSquaresTest() {
+		assertEquals(0, testLogic.getLastChangedSquares(), "No squares should change before a move");
+		
+		clearBoard();
+		testLogic.setPiece(5, 0, 'x');
+		testLogic.setPiece(4, 1, 'o');
+		testLogic.setPiece(2, 3, 'o');
+		testLogic.setPiece(0, 7, 'o');
+		
+		assertTrue(testLogic.processMove("3a-5c-7e"), "Chain should be legal");
+		
+		// The middle landing square is empty before and after the chain, so it isn't changed
+		int expected = 0;
+		for(int[] cell : new int[][] {{5, 0}, {4, 1}, {2, 3}, {1, 4}}) {
+			expected |= 1 << Bitboard.square(cell[0], cell[1]);
+			
+		}
+		
+		assertEquals(expected, testLogic.getLastChangedSquares(), "Start, end and captured squares should change");
+		assertEquals('x', testLogic.getPiece(Bitboard.square(1, 4)), "Piece should be read from its square");
+		assertEquals('_', testLogic.getPiece(Bitboard.square(4, 1)), "Captured square should be empty");
+		
+	}
+	
+	/**
+	 * Tests a king whose chain ends on the square it started from
+	 */
+	@Test
+	public void kingChainTest() {
+		int[] buffer = new int[CheckersLogic.MAX_MOVES];
+		
+		clearBoard();
+		testLogic.setPiece(4, 3, 'X');
+		testLogic.setPiece(3, 2, 'o');
+		testLogic.setPiece(1, 2, 'o');
+		testLogic.setPiece(1, 4, 'o');
+		testLogic.setPiece(3, 4, 'o');
+		
+		char[][] before = testLogic.getBoard();
+		int count = testLogic.generateMoves(buffer);
+		
+		assertEquals(2, count, "King should go around the square both ways");
+		
+		for(int i = 0; i < count; i++) {
+			assertEquals(4, Move.jumpCount(buffer[i]), "Chain should capture every piece");
+			assertEquals(Move.from(buffer[i]), Move.to(buffer[i]), "Chain should end where it started");
+			
+			testLogic.makeMove(buffer[i]);
+			
+			assertEquals('X', testLogic.getBoard()[4][3], "King should still be on its square");
+			assertEquals(0, testLogic.getPieceCount(false), "Every o piece should be captured");
+			
+			testLogic.unmakeMove();
+			assertArrayEquals(before, testLogic.getBoard(), "Undo should put the pieces back");
+			
+		}
+		
+	}
+	
+	/**
+	 * Tests the longest chain there can be, a king capturing all nine pieces a piece can jump from its squares
+	 */
+	@Test
+	public void longestChainTest() {
+		int[] buffer = new int[CheckersLogic.MAX_MOVES];
+		
+		clearBoard();
+		testLogic.setPiece(0, 1, 'X');
+		for(int row = 1; row <= 5; row += 2) {
+			for(int col = 2; col <= 6; col += 2) {
+				testLogic.setPiece(row, col, 'o');
+				
+			}
+			
+		}
+		
+		int count = testLogic.generateMoves(buffer);
+		int longest = 0;
+		for(int i = 0; i < count; i++) {
+			longest = Math.max(longest, Move.jumpCount(buffer[i]));
+			
+		}
+		
+		assertEquals(Move.MAX_JUMPS, longest, "King should capture all nine pieces in one chain");
+		
+	}
+	
+	/**
+	 * Tests that a man reaching the far row is crowned, and that crowning ends the move
+	 */
+	@Test
+	public void promotionTest() {
+		int[] buffer = new int[CheckersLogic.MAX_MOVES];
+		
+		clearBoard();
+		testLogic.setPiece(1, 0, 'x');
+		testLogic.setPiece(7, 6, 'o');
+		
+		assertTrue(testLogic.processMove("7a-8b"), "Man should be able to step onto the far row");
+		assertEquals('X', testLogic.getBoard()[0][1], "Man should be crowned on the far row");
+		
+		testLogic.unmakeMove();
+		assertEquals('x', testLogic.getBoard()[1][0], "Undo should take the crown back");
+		
+		clearBoard();
+		testLogic.setPiece(2, 1, 'x');
+		testLogic.setPiece(1, 2, 'o');
+		testLogic.setPiece(1, 4, 'o');
+		
+		assertEquals(1, testLogic.generateMoves(buffer), "Piece should have one jump");
+		assertEquals("6b-8d", testLogic.convertToMove(buffer[0]), "Crowning should end the chain");
+		
+		testLogic.makeMove(buffer[0]);
+		assertEquals('X', testLogic.getBoard()[0][3], "Man should be crowned after the jump");
+		assertEquals('o', testLogic.getBoard()[1][4], "New king should not keep jumping");
+		
+	}
+	
+	/**
+	 * Tests that making and unmaking moves puts the board back the way it was
+	 */
+	@Test
+	public void makeUnmakeTest() {
+		int[] buffer = new int[CheckersLogic.MAX_MOVES];
+		
+		clearBoard();
+		testLogic.setPiece(3, 2, 'x');
+		testLogic.setPiece(2, 3, 'O');
+		testLogic.setPiece(5, 4, 'X');
+		
+		char[][] before = testLogic.getBoard();
+		int count = testLogic.generateMoves(buffer);
+		
+		// Every move should be undone exactly, including the captured king
+		for(int i = 0; i < count; i++) {
+			testLogic.makeMove(buffer[i]);
+			testLogic.unmakeMove();
+			
+			assertArrayEquals(before, testLogic.getBoard(), "Board should match after undoing " + testLogic.convertToMove(buffer[i]));
+			assertTrue(testLogic.isPlayerXTurn(), "Turn should go back to player x");
+		}
+		
+		// Play a few moves from the start and take them all back
+		testLogic.newGameBoard();
+		before = testLogic.getBoard();
+		
+		for(int i = 0; i < 6; i++) {
+			assertTrue(testLogic.generateMoves(buffer) > 0, "Should have a move to play");
+			testLogic.makeMove(buffer[0]);
+		}
+		
+		assertEquals(6, testLogic.getHistorySize(), "Every move should be on the undo stack");
+		
+		while(testLogic.getHistorySize() > 0) {
+			testLogic.unmakeMove();
+		}
+		
+		assertArrayEquals(before, testLogic.getBoard(), "Board should be back to the start");
+		assertTrue(testLogic.isPlayerXTurn(), "Player x should be back to move");
+		
+	}
+	
+	/**
+	 * Tests that the hash kept up on every move matches hashing the position from scratch
+	 */
+	@Test
+	public void hashTest() {
+		int[] buffer = new int[CheckersLogic.MAX_MOVES];
+		long startHash = testLogic.getHash();
+		
+		for(int i = 0; i < 20; i++) {
+			int count = testLogic.generateMoves(buffer);
+			
+			if(count == 0) {
+				break;
+			}
+			
+			// Spread the moves around so different pieces get moved
+			testLogic.makeMove(buffer[(i * 7) % count]);
+			
+			long expected = Zobrist.hash(testLogic.getXPieces(), testLogic.getOPieces(), testLogic.getKings(), testLogic.isPlayerXTurn());
+			assertEquals(expected, testLogic.getHash(), "Hash should match after move " + i);
+		}
+		
+		while(testLogic.getHistorySize() > 0) {
+			testLogic.unmakeMove();
+		}
+		
+		assertEquals(startHash, testLogic.getHash(), "Hash should be back to the start");
+		
+		testLogic.setPiece(5, 0, 'X');
+		long expected = Zobrist.hash(testLogic.getXPieces(), testLogic.getOPieces(), testLogic.getKings(), testLogic.isPlayerXTurn());
+		assertEquals(expected, testLogic.getHash(), "Hash should match after setting a piece");
+		
+	}
+	
+	/**
+	 * Tests loading a FEN position and writing it back out
+	 */
+	@Test
+	public void fenTest() {
+		assertEquals("W:W21,22,23,24,25,26,27,28,29,30,31,32:B1,2,3,4,5,6,7,8,9,10,11,12", testLogic.toFen(), "Start position FEN");
+		
+		testLogic.loadFen("B:WK5,18-19:B1,K32");
+		char[][] board = testLogic.getBoard();
+		
+		assertFalse(testLogic.isPlayerXTurn(), "Player o should be to move");
+		assertEquals('X', board[1][0], "Square 5 should be an x king");
+		assertEquals('x', board[4][3], "Square 18 should be an x piece");
+		assertEquals('x', board[4][5], "Square 19 should be an x piece");
+		assertEquals('o', board[0][1], "Square 1 should be an o piece");
+		assertEquals('O', board[7][6], "Square 32 should be an o king");
+		assertEquals("B:WK5,18,19:B1,K32", testLogic.toFen(), "FEN should round trip");
+		assertThrows(IllegalArgumentException.class, () -> testLogic.loadFen("W:W33:B1"), "Square 33 is off the board");
+		
+	}
+	
 	/**
 	 * Win condition with pieces existing, but no more moves
 	 */
@@ -174,17 +477,17 @@ class CheckersLogicTest {
 	public void winCondition1() {
 		clearBoard();
 		
-		testLogic.getBoard()[5][4] = 'x';
-		testLogic.getBoard()[7][2] = 'o';
+		testLogic.setPiece(5, 4, 'x');
+		testLogic.setPiece(7, 2, 'o');
 		
 		assertTrue(testLogic.checkWin(), "There should be a winner");
 		
-		testLogic.getBoard()[5][4] = '_';
-		testLogic.getBoard()[7][2] = '_';
+		testLogic.setPiece(5, 4, '_');
+		testLogic.setPiece(7, 2, '_');
 		
 		testLogic.changeTurn();
-		testLogic.getBoard()[0][0] = 'x';
-		testLogic.getBoard()[4][4] = 'o';
+		testLogic.setPiece(0, 1, 'x');
+		testLogic.setPiece(4, 3, 'o');
 		
 	}
 	
@@ -195,16 +498,50 @@ class CheckersLogicTest {
 	public void winCondition2() {
 		clearBoard();
 		
-		testLogic.getBoard()[4][4] = 'x';
+		testLogic.setPiece(4, 3, 'x');
 		
 		assertTrue(testLogic.checkWin(), "There should be a winner");
 		
-		testLogic.getBoard()[4][4] = 'o';
+		testLogic.setPiece(4, 3, 'o');
 		
 		assertTrue(testLogic.checkWin(), "There should be a winner");
 		
 	}
 	
+	/**
+	 * Tests the piece counts and game over check as moves are made and taken back
+	 */
+	@Test
+	public void gameOverTest() {
+		testLogic.loadFen("W:W22:B18");
+		
+		assertEquals(1, testLogic.getPieceCount(true), "Player x should have one piece");
+		assertEquals(1, testLogic.getPieceCount(false), "Player o should have one piece");
+		assertFalse(testLogic.isGameOver(), "Player x can still move");
+		
+		int[] moves = new int[CheckersLogic.MAX_MOVES];
+		testLogic.generateMoves(moves);
+		testLogic.makeMove(moves[0]);
+		
+		assertEquals(0, testLogic.getPieceCount(false), "The jump should take the last o piece");
+		assertTrue(testLogic.isGameOver(), "Player o has no pieces left");
+		assertTrue(testLogic.checkWin(), "There should be a winner");
+		
+		testLogic.unmakeMove();
+		
+		assertEquals(1, testLogic.getPieceCount(false), "Taking the jump back should put the piece back");
+		assertFalse(testLogic.isGameOver(), "Player x can move again");
+		
+		// Player o is stuck on the bottom row but it's player x's turn
+		testLogic.loadFen("W:W22:B30");
+		
+		assertFalse(testLogic.isGameOver(), "Player x can move, so the game goes on");
+		assertTrue(testLogic.checkWin(), "checkWin still sees that player o can't move");
+		assertTrue(testLogic.generateMoves(moves) > 0, "Player x should have moves");
+		assertFalse(testLogic.isGameOver(), "Player x can still move after generating");
+		
+	}
+	
 	/**
 	 * Tests if the game continues if both players have pieces and valid moves
 	 */
@@ -212,8 +549,8 @@ class CheckersLogicTest {
 	public void noWinConditio1() {
 		clearBoard();
 		
-		testLogic.getBoard()[7][0] = 'x';
-		testLogic.getBoard()[1][0] = 'o';
+		testLogic.setPiece(7, 0, 'x');
+		testLogic.setPiece(1, 0, 'o');
 		
 		assertFalse(testLogic.checkWin(), "Game should keep going");
 		
@@ -229,14 +566,14 @@ class CheckersLogicTest {
 	public void noWinCondition2() {
 		clearBoard();
 		
-		testLogic.getBoard()[3][0] = 'x';
-		testLogic.getBoard()[3][2] = 'x';
-		testLogic.getBoard()[3][4] = 'x';
-		testLogic.getBoard()[3][6] = 'x';
-		testLogic.getBoard()[2][7] = 'o';
-		testLogic.getBoard()[2][5] = 'o';
-		testLogic.getBoard()[2][3] = 'o';
-		testLogic.getBoard()[2][1] = 'o';
+		testLogic.setPiece(3, 0, 'x');
+		testLogic.setPiece(3, 2, 'x');
+		testLogic.setPiece(3, 4, 'x');
+		testLogic.setPiece(3, 6, 'x');
+		testLogic.setPiece(2, 7, 'o');
+		testLogic.setPiece(2, 5, 'o');
+		testLogic.setPiece(2, 3, 'o');
+		testLogic.setPiece(2, 1, 'o');
 		
 		assertFalse(testLogic.checkWin(), "Game should keep going");
 		
@@ -252,7 +589,7 @@ class CheckersLogicTest {
 	public void clearBoard() {
 		for(int i = 0; i < 8; i++) {
 			for(int j = 0; j < 8; j++) {
-				testLogic.getBoard()[i][j] = '_';
+				testLogic.setPiece(i, j, '_');
 				
 			}
 			
@@ -0,0 +1,184 @@
+package test;
+
+import Core.CheckersLogic;
+import Core.EndgameTablebase;
+import Core.SearchEngine;
+import Core.TablebaseGenerator;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This class tests generating the endgame tablebase and looking positions up in it
+ *
+ * @author Jacob Barrios
+ * @version 1.0, 10/18/2026
+ */
+public class EndgameTablebaseTest {
+	private static final int PIECES = 3;
+	
+	@TempDir
+	static Path folder;
+	
+	private static EndgameTablebase tablebase;
+	private CheckersLogic testLogic;
+	
+	/**
+	 * Generates a small tablebase once for all the tests
+	 *
+	 * @throws IOException If the file can't be written
+	 */
+	@BeforeAll
+	public static void generate() throws IOException {
+		Path file = folder.resolve("endgame.tb");
+		new TablebaseGenerator(PIECES, 2).generate(file);
+		tablebase = new EndgameTablebase(file);
+		
+	}
+	
+	/**
+	 * Closes the tablebase file
+	 *
+	 * @throws IOException If the file can't be closed
+	 */
+	@AfterAll
+	public static void close() throws IOException {
+		tablebase.close();
+		
+	}
+	
+	/**
+	 * Initialize the logic class before each test
+	 */
+	@BeforeEach
+	public void setupBeforeTest() {
+		testLogic = new CheckersLogic();
+		
+	}
+	
+	/**
+	 * Tests positions with an obvious result for both players
+	 */
+	@Test
+	public void knownResults() {
+		testLogic.loadFen("W:W1:BK32");
+		assertEquals(EndgameTablebase.LOSS, tablebase.probe(testLogic), "Player x has no moves and should lose");
+		
+		testLogic.loadFen("W:W22:B18");
+		assertEquals(EndgameTablebase.WIN, tablebase.probe(testLogic), "Player x jumps the last piece");
+		
+		testLogic.loadFen("B:W22:B18");
+		assertEquals(EndgameTablebase.WIN, tablebase.probe(testLogic), "Player o jumps the last piece");
+		
+		testLogic.loadFen("W:W21-32:B1-12");
+		assertEquals(EndgameTablebase.UNKNOWN, tablebase.probe(testLogic), "Start has too many pieces");
+		assertFalse(testLogic.checkWin(tablebase), "Start isn't decided");
+		
+	}
+	
+	/**
+	 * Tests that every result agrees with the results after each move
+	 */
+	@Test
+	public void resultsAgreeWithMoves() {
+		Random random = new Random(7);
+		int[] moves = new int[CheckersLogic.MAX_MOVES];
+		
+		for(int i = 0; i < 5000; i++) {
+			randomPosition(random);
+			int count = testLogic.generateMoves(moves);
+			boolean anyLoss = false;
+			boolean allWin = true;
+			
+			for(int m = 0; m < count; m++) {
+				testLogic.makeMove(moves[m]);
+				int child = tablebase.probe(testLogic);
+				testLogic.unmakeMove();
+				
+				anyLoss |= child == EndgameTablebase.LOSS;
+				allWin &= child == EndgameTablebase.WIN;
+				
+			}
+			
+			int expected = anyLoss ? EndgameTablebase.WIN : allWin ? EndgameTablebase.LOSS : EndgameTablebase.DRAW;
+			
+			assertEquals(expected, tablebase.probe(testLogic), "Result should follow from the moves in " + testLogic.toFen());
+			
+		}
+		
+	}
+	
+	/**
+	 * Tests that the computer keeps a won position won
+	 */
+	@Test
+	public void searchKeepsWin() {
+		Random random = new Random(11);
+		SearchEngine engine = new SearchEngine();
+		engine.setTablebase(tablebase);
+		engine.setMaxDepth(4);
+		int wins = 0;
+		
+		while(wins < 20) {
+			randomPosition(random);
+			
+			if(tablebase.probe(testLogic) != EndgameTablebase.WIN) {
+				continue;
+				
+			}
+			
+			wins++;
+			testLogic.makeMove(engine.search(testLogic).getBestMove());
+			
+			assertEquals(EndgameTablebase.LOSS, tablebase.probe(testLogic), "Opponent should be lost after the move");
+			
+		}
+		
+	}
+	
+	/**
+	 * Sets up a random position with at most PIECES pieces and at least one for each player
+	 *
+	 * @param random Random numbers
+	 */
+	private void randomPosition(Random random) {
+		int xCount = 1 + random.nextInt(PIECES - 1);
+		int oCount = 1 + random.nextInt(PIECES - xCount);
+		int xPieces = randomSquares(random, xCount, 0);
+		int oPieces = randomSquares(random, oCount, xPieces);
+		
+		testLogic.setPosition(xPieces, oPieces, (xPieces | oPieces) & random.nextInt(), random.nextBoolean());
+		
+	}
+	
+	/**
+	 * Picks random empty squares
+	 *
+	 * @param random Random numbers
+	 * @param count  Number of squares
+	 * @param used   Squares already taken
+	 * @return Picked squares
+	 */
+	private static int randomSquares(Random random, int count, int used) {
+		int squares = 0;
+		
+		while(Integer.bitCount(squares) < count) {
+			int bit = 1 << random.nextInt(32);
+			
+			if(((squares | used) & bit) == 0) {
+				squares |= bit;
+				
+			}
+			
+		}
+		
+		return squares;
+		
+	}
+	
+}
@@ -0,0 +1,243 @@
+package test;
+
+import Core.CheckersLogic;
+import Core.EvaluationCache;
+import Core.Move;
+import Core.SearchEngine;
+import Core.SearchResult;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This class tests the evaluation cache kept in a file
+ *
+ * @author Jacob Barrios
+ * @version 1.0, 10/18/2026
+ */
+public class EvaluationCacheTest {
+	@TempDir
+	Path folder;
+	
+	/**
+	 * Tests that entries survive closing the file and are seen by another cache open on it
+	 *
+	 * @throws IOException If the file can't be opened
+	 */
+	@Test
+	public void survivesReopen() throws IOException {
+		Path file = folder.resolve("eval.cache");
+		int move = Move.jump(9, 18, 3);
+		
+		try(EvaluationCache cache = new EvaluationCache(file, 1, EvaluationCache.KEEP_DEEPEST);
+				EvaluationCache other = new EvaluationCache(file, 1, EvaluationCache.KEEP_DEEPEST)) {
+			cache.store(12345L, move, -250, 7);
+			assertEquals(7, EvaluationCache.depth(other.probe(12345L)), "Another cache on the file should see the entry");
+			assertEquals(0, other.probe(54321L), "Other position should not be found");
+			
+			cache.store(12345L, Move.step(1, 5), 40, 3);
+			assertEquals(move, EvaluationCache.move(cache.probe(12345L)), "Shallower result should not replace a deeper one");
+			
+		}
+		
+		try(EvaluationCache cache = new EvaluationCache(file, 8, EvaluationCache.KEEP_DEEPEST)) {
+			long data = cache.probe(12345L);
+			
+			assertEquals(move, EvaluationCache.move(data), "Move should survive reopening");
+			assertEquals(-250, EvaluationCache.score(data), "Score should survive reopening");
+			assertEquals(3, cache.getGeneration(), "Every open should start a new generation");
+			assertEquals(1024 * 1024 + 64, Files.size(file), "An existing file should keep its size");
+			
+		}
+		
+		Files.writeString(file, "not a cache, but long enough to have a whole header in it, really it is");
+		assertThrows(IOException.class, () -> new EvaluationCache(file, 1, EvaluationCache.KEEP_DEEPEST), "Other files should not be opened");
+		
+	}
+	
+	/**
+	 * Tests that caches on one file can be opened by several threads at once
+	 *
+	 * @throws Exception If the file can't be opened
+	 */
+	@Test
+	public void openAtOnce() throws Exception {
+		Path file = folder.resolve("shared.cache");
+		ExecutorService pool = Executors.newFixedThreadPool(8);
+		List<Future<?>> tasks = new ArrayList<>();
+		
+		try {
+			for(int i = 0; i < 8; i++) {
+				tasks.add(pool.submit(() -> {
+					try(EvaluationCache cache = new EvaluationCache(file, 1, EvaluationCache.KEEP_DEEPEST)) {
+						cache.store(12345L, Move.step(1, 5), 40, 3);
+						
+					}
+					
+					return null;
+					
+				}));
+				
+			}
+			for(Future<?> task : tasks) {
+				task.get();
+				
+			}
+			
+		}
+		finally {
+			pool.shutdownNow();
+			
+		}
+		
+		try(EvaluationCache cache = new EvaluationCache(file, 1, EvaluationCache.KEEP_DEEPEST)) {
+			assertEquals(9, cache.getGeneration(), "Every open should have been counted");
+			assertEquals(40, EvaluationCache.score(cache.probe(12345L)), "Entry should be in the file");
+			
+		}
+		
+	}
+	
+	/**
+	 * Tests that writers racing on one slot never leave it with one entry's key and another's data
+	 *
+	 * @throws Exception If the file can't be opened
+	 */
+	@Test
+	public void racingWriters() throws Exception {
+		Path file = folder.resolve("race.cache");
+		ExecutorService pool = Executors.newFixedThreadPool(8);
+		List<Future<?>> tasks = new ArrayList<>();
+		
+		// Two caches map the file separately, like two processes would
+		try(EvaluationCache first = new EvaluationCache(file, 1, EvaluationCache.KEEP_RECENT);
+				EvaluationCache second = new EvaluationCache(file, 1, EvaluationCache.KEEP_RECENT)) {
+			for(int i = 0; i < 8; i++) {
+				EvaluationCache cache = i % 2 == 0 ? first : second;
+				int score = i;
+				
+				tasks.add(pool.submit(() -> {
+					for(int j = 0; j < 20000; j++) {
+						cache.store(12345L, Move.step(1, 5), score, 3);
+						
+					}
+					
+					return null;
+					
+				}));
+				
+			}
+			for(Future<?> task : tasks) {
+				task.get();
+				
+			}
+			
+			long data = first.probe(12345L);
+			assertNotEquals(0, data, "Entry should not be lost to a race");
+			assertEquals(data, second.probe(12345L), "Both caches should see the same entry");
+			assertTrue(EvaluationCache.score(data) >= 0 && EvaluationCache.score(data) < 8, "Data should be from one of the writers");
+			
+		}
+		finally {
+			pool.shutdownNow();
+			
+		}
+		
+	}
+	
+	/**
+	 * Tests that a full bucket keeps the deepest entries or the most recent ones
+	 *
+	 * @throws IOException If the file can't be opened
+	 */
+	@Test
+	public void eviction() throws IOException {
+		for(int policy : new int[] {EvaluationCache.KEEP_DEEPEST, EvaluationCache.KEEP_RECENT}) {
+			Path file = folder.resolve("policy" + policy + ".cache");
+			long stride;
+			
+			// Each open is a new generation, keys a stride apart land in the same bucket
+			try(EvaluationCache cache = new EvaluationCache(file, 1, policy)) {
+				stride = cache.capacity() / 4;
+				
+				for(int i = 0; i < 4; i++) {
+					cache.store(1 + i * stride, Move.step(1, 5), 0, 9);
+					
+				}
+				
+			}
+			try(EvaluationCache cache = new EvaluationCache(file, 1, policy)) {
+				cache.store(1 + 4 * stride, Move.step(1, 5), 0, 1);
+				
+			}
+			try(EvaluationCache cache = new EvaluationCache(file, 1, policy)) {
+				cache.store(1 + 5 * stride, Move.step(1, 5), 0, 1);
+				
+				if(policy == EvaluationCache.KEEP_DEEPEST) {
+					assertEquals(0, cache.probe(1 + 4 * stride), "Shallow entry should be replaced before older deep ones");
+					assertNotEquals(0, cache.probe(1 + stride), "Old deep entry should be kept");
+					
+				}
+				else {
+					assertNotEquals(0, cache.probe(1 + 4 * stride), "Recent entry should be kept");
+					assertEquals(0, cache.probe(1 + stride), "Oldest entry should be replaced");
+					
+				}
+				
+				assertNotEquals(0, cache.probe(1 + 5 * stride), "New entry should be stored");
+				
+			}
+			
+		}
+		
+	}
+	
+	/**
+	 * Tests that a second engine plays a position searched by the first without searching it again
+	 *
+	 * @throws IOException If the file can't be opened
+	 */
+	@Test
+	public void warmStart() throws IOException {
+		Path file = folder.resolve("engine.cache");
+		CheckersLogic logic = new CheckersLogic();
+		SearchResult searched;
+		
+		try(EvaluationCache cache = new EvaluationCache(file, 1, EvaluationCache.KEEP_DEEPEST)) {
+			SearchEngine engine = new SearchEngine();
+			engine.setMaxDepth(6);
+			engine.setCache(cache);
+			searched = engine.search(logic);
+			assertTrue(searched.getNodes() > 0, "First search should search");
+			
+		}
+		
+		try(EvaluationCache cache = new EvaluationCache(file, 1, EvaluationCache.KEEP_DEEPEST)) {
+			SearchEngine engine = new SearchEngine();
+			engine.setMaxDepth(6);
+			engine.setCache(cache);
+			SearchResult cached = engine.search(logic);
+			
+			assertEquals(0, cached.getNodes(), "Cached position should not be searched");
+			assertEquals(searched.getBestMove(), cached.getBestMove(), "Cached move should be played");
+			assertEquals(searched.getScore(), cached.getScore(), "Cached score should be returned");
+			
+			engine.setMaxDepth(8);
+			assertTrue(engine.search(logic).getNodes() > 0, "A deeper search should not use the shallower result");
+			assertEquals(8, EvaluationCache.depth(cache.probe(logic.getHash())), "Deeper result should be stored");
+			
+		}
+		
+	}
+	
+}
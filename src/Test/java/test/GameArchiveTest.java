@@ -0,0 +1,130 @@
+package test;
+
+import Core.CheckersLogic;
+import Core.GameArchive;
+import Core.GameArchiveWriter;
+import Core.PdnGame;
+import Core.PdnReader;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This class tests writing and reading the binary game archive
+ *
+ * @author Jacob Barrios
+ * @version 1.0, 10/18/2026
+ */
+public class GameArchiveTest {
+	@TempDir
+	Path folder;
+	
+	/**
+	 * Tests that random games read back the same in any order, with their results
+	 *
+	 * @throws IOException If the archive can't be written or read
+	 */
+	@Test
+	public void randomGamesReadBack() throws IOException {
+		Random random = new Random(7);
+		int[][] games = new int[300][];
+		int[] buffer = new int[CheckersLogic.MAX_MOVES];
+		Path file = folder.resolve("games.ckga");
+		
+		try(GameArchiveWriter writer = new GameArchiveWriter(file)) {
+			for(int i = 0; i < games.length; i++) {
+				CheckersLogic logic = new CheckersLogic();
+				int[] moves = new int[200];
+				int count = 0;
+				
+				while(count < moves.length && logic.generateMoves(buffer) > 0) {
+					int legal = logic.generateMoves(buffer);
+					moves[count] = buffer[random.nextInt(legal)];
+					logic.makeMove(moves[count++]);
+					
+				}
+				
+				games[i] = Arrays.copyOf(moves, count);
+				writer.add(new CheckersLogic(), moves, count, i % 3 - 1);
+				
+			}
+			
+		}
+		
+		try(GameArchive archive = new GameArchive(file)) {
+			assertEquals(games.length, archive.size(), "Every game should be stored");
+			
+			CheckersLogic logic = new CheckersLogic();
+			int[] moves = new int[PdnReader.MAX_PLIES];
+			
+			// Backwards, so every game is found from the index and not by reading the one before it
+			for(int i = games.length - 1; i >= 0; i--) {
+				int count = archive.replay(i, logic, moves);
+				
+				assertArrayEquals(games[i], Arrays.copyOf(moves, count), "Game " + i + " should read back the same");
+				assertEquals(i % 3 - 1, archive.getResult(i), "Result of game " + i + " should read back");
+				
+			}
+			
+			assertThrows(IllegalArgumentException.class, () -> archive.replay(games.length, logic, moves),
+					"A game past the end should not be read");
+			
+		}
+		
+	}
+	
+	/**
+	 * Tests that PDN games with their own start position are converted and illegal games are skipped
+	 *
+	 * @throws IOException If the files can't be written or read
+	 */
+	@Test
+	public void convertPdn() throws IOException {
+		String text = """
+				[FEN "W:W18:B14"]
+				1. 18x9 1-0
+				
+				1. 11-15 22-18 2. 15x22 25x18 *
+				
+				1. 11-15 22-18 2. 15-19 0-1
+				""";
+		Path file = folder.resolve("games.ckga");
+		
+		try(PdnReader reader = new PdnReader(Channels.newChannel(new java.io.ByteArrayInputStream(text.getBytes(StandardCharsets.ISO_8859_1))));
+				GameArchiveWriter writer = new GameArchiveWriter(file)) {
+			assertTrue(writer.add(reader.next()), "Game from a FEN should be added");
+			assertTrue(writer.add(reader.next()), "Legal game should be added");
+			assertFalse(writer.add(reader.next()), "Game with an illegal move should be skipped");
+			
+		}
+		
+		assertFalse(Files.exists(folder.resolve("games.ckga.tmp")), "Temporary file should be removed");
+		
+		try(GameArchive archive = new GameArchive(file)) {
+			CheckersLogic logic = new CheckersLogic();
+			int[] moves = new int[PdnReader.MAX_PLIES];
+			
+			assertEquals(2, archive.size(), "Skipped game should not be stored");
+			assertEquals(1, archive.replay(0, logic, moves), "Game from a FEN should replay");
+			assertEquals("B:W9:B", logic.toFen(), "Game should start from its FEN");
+			assertEquals(PdnGame.X_WINS, archive.getResult(0), "Result should be stored");
+			assertEquals(4, archive.replay(1, logic, moves), "Game from the start should replay");
+			assertEquals(PdnGame.NO_RESULT, archive.getResult(1), "Missing result should be stored");
+			
+		}
+		
+		Files.writeString(file, "not an archive");
+		assertThrows(IOException.class, () -> new GameArchive(file), "Other files should not be opened");
+		
+	}
+	
+}
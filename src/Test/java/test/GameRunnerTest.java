@@ -0,0 +1,58 @@
+package test;
+
+import Core.GameRunner;
+import Core.SearchEngine;
+import Core.Tournament;
+import org.junit.jupiter.api.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This class tests the runner that plays the live games of the dashboard
+ *
+ * @author Jacob Barrios
+ * @version 1.0, 10/18/2026
+ */
+public class GameRunnerTest {
+	
+	/**
+	 * Tests that every board plays and only its newest update can be taken
+	 *
+	 * @throws InterruptedException If the test is interrupted while waiting for the games
+	 */
+	@Test
+	public void publishesNewestPosition() throws InterruptedException {
+		GameRunner runner = new GameRunner(3, () -> {
+			SearchEngine engine = new SearchEngine();
+			engine.setHashSizeMb(1);
+			engine.setMaxDepth(1);
+			
+			return engine;
+			
+		}, 2, 5);
+		runner.setMoveDelay(0);
+		
+		try(runner) {
+			runner.start();
+			
+			while(runner.getGames() < 3) {
+				Thread.sleep(10);
+				
+			}
+			
+		}
+		
+		for(int board = 0; board < runner.getBoards(); board++) {
+			GameRunner.Update update = runner.take(board);
+			assertNotNull(update, "Every board should have a position");
+			assertNull(runner.take(board), "An update should only be taken once");
+			
+			assertTrue(update.getPly() <= Tournament.MAX_PLIES, "Games should end by the ply limit");
+			
+		}
+		
+		assertTrue(runner.getMoves() > 0, "Moves should be counted");
+		
+	}
+	
+}
@@ -0,0 +1,191 @@
+package test;
+
+import Core.CheckersLogic;
+import Core.Move;
+import Core.OpeningBook;
+import Core.OpeningBookBuilder;
+import Core.SearchEngine;
+import Core.SearchResult;
+import Core.Tournament;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This class tests building an opening book and picking moves from it
+ *
+ * @author Jacob Barrios
+ * @version 1.0, 10/18/2026
+ */
+public class OpeningBookTest {
+	@TempDir
+	Path folder;
+	
+	private CheckersLogic testLogic;
+	
+	/**
+	 * Initialize the logic class before each test
+	 */
+	@BeforeEach
+	public void setupBeforeTest() {
+		testLogic = new CheckersLogic();
+		
+	}
+	
+	/**
+	 * Tests that game records are counted and scored for the player making each move
+	 *
+	 * @throws IOException If the book can't be written or read
+	 */
+	@Test
+	public void buildFromRecords() throws IOException {
+		OpeningBookBuilder builder = new OpeningBookBuilder(2);
+		
+		assertTrue(builder.addGame("1. 3a-4b 6b-5a 1-0"), "Record should be read");
+		assertTrue(builder.addGame("3a-4b 6d-5c 1/2-1/2"), "Record should be read");
+		assertTrue(builder.addGame("3c-4d 6d-5c 0-1"), "Record should be read");
+		assertFalse(builder.addGame("3a-5c 1-0"), "Illegal move should not be read");
+		assertFalse(builder.addGame("3a-4b"), "Record without a result should not be read");
+		assertEquals(3, builder.getGames(), "Only the good records should be added");
+		
+		Path file = folder.resolve("book.bin");
+		assertEquals(5, builder.write(file, 1), "Every position and move pair should be written");
+		
+		int[] moves = new int[CheckersLogic.MAX_MOVES];
+		int[] weights = new int[CheckersLogic.MAX_MOVES];
+		int[] scores = new int[CheckersLogic.MAX_MOVES];
+		
+		try(OpeningBook book = new OpeningBook(file)) {
+			int count = book.probe(testLogic, moves, weights, scores);
+			assertEquals(2, count, "Start should have two book moves");
+			
+			for(int i = 0; i < count; i++) {
+				if(testLogic.convertToMove(moves[i]).equals("3a-4b")) {
+					assertEquals(2, weights[i], "3a-4b was played twice");
+					assertEquals(750, scores[i], "3a-4b won once and drew once");
+					
+				}
+				else {
+					assertEquals(1, weights[i], "3c-4d was played once");
+					assertEquals(0, scores[i], "3c-4d lost");
+					
+				}
+				
+			}
+			
+			// With no margin only the best scoring move is played
+			book.setMargin(0);
+			assertEquals("3a-4b", testLogic.convertToMove(book.pick(testLogic, new Random(1))), "Best book move should be picked");
+			
+			testLogic.processMove("3a-4b");
+			assertEquals(2, book.probe(testLogic, moves, weights, scores), "Both replies should be in the book");
+			assertEquals(500, scores[0] + scores[1], "Replies should score from player o's side, one loss and one draw");
+			
+			testLogic.processMove("6b-5a");
+			assertEquals(Move.NONE, book.pick(testLogic, new Random(1)), "Positions past the book plies should not be found");
+			
+		}
+		
+		// A file cut off in the records or the header should not be opened
+		byte[] bytes = Files.readAllBytes(file);
+		Files.write(file, Arrays.copyOf(bytes, bytes.length - 1));
+		assertThrows(IOException.class, () -> new OpeningBook(file), "Book with missing records should not be opened");
+		Files.write(file, Arrays.copyOf(bytes, 4));
+		assertThrows(IOException.class, () -> new OpeningBook(file), "File shorter than the header should not be opened");
+		
+	}
+	
+	/**
+	 * Tests that the search plays a book move without searching, and searches once out of the book
+	 *
+	 * @throws IOException If the book can't be written or read
+	 */
+	@Test
+	public void searchUsesBook() throws IOException {
+		OpeningBookBuilder builder = new OpeningBookBuilder(1);
+		builder.addGame("3e-4f 1-0");
+		
+		Path file = folder.resolve("book.bin");
+		builder.write(file, 1);
+		
+		try(OpeningBook book = new OpeningBook(file)) {
+			SearchEngine engine = new SearchEngine();
+			engine.setMaxDepth(4);
+			engine.setBook(book);
+			
+			SearchResult result = engine.search(testLogic);
+			assertEquals("3e-4f", testLogic.convertToMove(result.getBestMove()), "Book move should be played");
+			assertEquals(0, result.getDepth(), "Book move should not be searched");
+			assertEquals(1, book.getHits(), "Lookup should be counted as a hit");
+			
+			testLogic.processMove("3e-4f");
+			result = engine.search(testLogic);
+			assertEquals(4, result.getDepth(), "Position out of the book should be searched");
+			
+		}
+		
+		// Every opening move is in the book equally often, so only the seed decides which is played
+		builder = new OpeningBookBuilder(1);
+		for(String move : new String[] {"3a-4b", "3c-4b", "3c-4d", "3e-4d", "3e-4f", "3g-4f", "3g-4h"}) {
+			assertTrue(builder.addGame(move + " 1/2-1/2"), "Record should be read");
+			
+		}
+		builder.write(file, 1);
+		
+		try(OpeningBook book = new OpeningBook(file)) {
+			SearchEngine engine = new SearchEngine();
+			engine.setBook(book);
+			CheckersLogic start = new CheckersLogic();
+			
+			for(long seed = 0; seed < 10; seed++) {
+				engine.setBookSeed(seed);
+				SearchResult first = engine.search(start);
+				engine.setBookSeed(seed);
+				
+				assertEquals(0, first.getDepth(), "Every opening move should be in the book");
+				assertEquals(first.getBestMove(), engine.search(start).getBestMove(), "Same seed should pick the same book move");
+				
+			}
+			
+		}
+		
+	}
+	
+	/**
+	 * Tests that a tournament adds the opening of every game to the builder
+	 */
+	@Test
+	public void selfPlayFillsBuilder() {
+		OpeningBookBuilder builder = new OpeningBookBuilder(OpeningBookBuilder.DEFAULT_PLIES);
+		Tournament tournament = new Tournament(() -> engine(2), () -> engine(2), 1, 7);
+		tournament.setBookBuilder(builder);
+		tournament.play(4);
+		
+		assertEquals(4, builder.getGames(), "Every game should be added");
+		assertTrue(builder.size() >= OpeningBookBuilder.DEFAULT_PLIES, "Openings should have filled the builder");
+		
+	}
+	
+	/**
+	 * Makes a shallow engine for self-play
+	 *
+	 * @param depth Search depth
+	 * @return Engine with a small table
+	 */
+	private static SearchEngine engine(int depth) {
+		SearchEngine engine = new SearchEngine();
+		engine.setHashSizeMb(1);
+		engine.setMaxDepth(depth);
+		
+		return engine;
+		
+	}
+	
+}
@@ -0,0 +1,224 @@
+package test;
+
+import Core.CheckersLogic;
+import Core.GameArchive;
+import Core.GameArchiveWriter;
+import Core.OpeningExplorer;
+import Core.OpeningExplorerBuilder;
+import Core.PdnGame;
+import Core.PdnReader;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This class tests building and looking up the opening explorer
+ *
+ * @author Jacob Barrios
+ * @version 1.0, 10/18/2026
+ */
+public class OpeningExplorerTest {
+	@TempDir
+	Path folder;
+	
+	/**
+	 * Tests that the counts built on several threads from an archive match the games that were written
+	 *
+	 * @throws IOException If the files can't be written or read
+	 */
+	@Test
+	public void buildFromArchive() throws IOException {
+		Random random = new Random(3);
+		int[] buffer = new int[CheckersLogic.MAX_MOVES];
+		int[] firstMoves = new int[500];
+		int[] results = new int[500];
+		Path archiveFile = folder.resolve("games.ckga");
+		
+		try(GameArchiveWriter writer = new GameArchiveWriter(archiveFile)) {
+			for(int i = 0; i < firstMoves.length; i++) {
+				CheckersLogic logic = new CheckersLogic();
+				int[] moves = new int[20];
+				int count = 0;
+				
+				while(count < moves.length) {
+					int legal = logic.generateMoves(buffer);
+					if(legal == 0) {
+						break;
+						
+					}
+					
+					moves[count] = buffer[random.nextInt(legal)];
+					logic.makeMove(moves[count++]);
+					
+				}
+				
+				firstMoves[i] = moves[0];
+				results[i] = i % 10 == 0 ? PdnGame.NO_RESULT : random.nextInt(3) - 1;
+				writer.add(new CheckersLogic(), moves, count, results[i]);
+				
+			}
+			
+		}
+		
+		OpeningExplorerBuilder builder = new OpeningExplorerBuilder(8, 4);
+		try(GameArchive archive = new GameArchive(archiveFile)) {
+			builder.addArchive(archive);
+			
+		}
+		
+		Path file = folder.resolve("games.ckox");
+		builder.write(file, 1);
+		assertEquals(450, builder.getGames(), "Games without a result should be skipped");
+		
+		int[] moves = new int[CheckersLogic.MAX_MOVES];
+		int[] wins = new int[CheckersLogic.MAX_MOVES];
+		int[] draws = new int[CheckersLogic.MAX_MOVES];
+		int[] losses = new int[CheckersLogic.MAX_MOVES];
+		
+		try(OpeningExplorer explorer = new OpeningExplorer(file)) {
+			CheckersLogic start = new CheckersLogic();
+			int count = explorer.probe(start, moves, wins, draws, losses);
+			
+			assertEquals(7, count, "Every opening move should have been played");
+			assertEquals(450, explorer.games(start), "Every counted game starts from the start position");
+			
+			for(int i = 0; i < count; i++) {
+				int expectedWins = 0;
+				int expectedDraws = 0;
+				int expectedLosses = 0;
+				
+				for(int game = 0; game < firstMoves.length; game++) {
+					if(firstMoves[game] == moves[i] && results[game] != PdnGame.NO_RESULT) {
+						expectedWins += results[game] == PdnGame.X_WINS ? 1 : 0;
+						expectedDraws += results[game] == PdnGame.DRAW ? 1 : 0;
+						expectedLosses += results[game] == PdnGame.O_WINS ? 1 : 0;
+						
+					}
+					
+				}
+				
+				assertEquals(expectedWins, wins[i], "Wins should be counted for player x");
+				assertEquals(expectedDraws, draws[i], "Draws should be counted");
+				assertEquals(expectedLosses, losses[i], "Losses should be counted for player x");
+				if(i > 0) {
+					assertTrue(moves[i - 1] < moves[i], "Moves of a position should be sorted");
+					
+				}
+				
+			}
+			
+			start.makeMove(moves[0]);
+			assertTrue(explorer.probe(start, moves, wins, draws, losses) > 0, "Replies should be counted");
+			
+		}
+		
+	}
+	
+	/**
+	 * Tests that a single game counts for the player making each move and rare moves can be left out
+	 *
+	 * @throws IOException If the file can't be written or read
+	 */
+	@Test
+	public void countForMover() throws IOException {
+		CheckersLogic logic = new CheckersLogic();
+		int[] buffer = new int[CheckersLogic.MAX_MOVES];
+		logic.generateMoves(buffer);
+		int first = buffer[0];
+		int other = buffer[1];
+		logic.makeMove(first);
+		logic.generateMoves(buffer);
+		int reply = buffer[0];
+		
+		OpeningExplorerBuilder builder = new OpeningExplorerBuilder(OpeningExplorerBuilder.DEFAULT_PLIES, 1);
+		builder.addGame(new CheckersLogic(), new int[] {first, reply}, 2, PdnGame.X_WINS);
+		builder.addGame(new CheckersLogic(), new int[] {first}, 1, PdnGame.DRAW);
+		builder.addGame(new CheckersLogic(), new int[] {other}, 1, PdnGame.O_WINS);
+		
+		Path file = folder.resolve("small.ckox");
+		assertEquals(1, builder.write(file, 2), "Only the move played twice should be kept");
+		
+		int[] moves = new int[CheckersLogic.MAX_MOVES];
+		int[] wins = new int[CheckersLogic.MAX_MOVES];
+		int[] draws = new int[CheckersLogic.MAX_MOVES];
+		int[] losses = new int[CheckersLogic.MAX_MOVES];
+		
+		try(OpeningExplorer explorer = new OpeningExplorer(file)) {
+			assertEquals(1, explorer.probe(new CheckersLogic(), moves, wins, draws, losses), "Rare move should be left out");
+			assertEquals(first, moves[0], "Move played twice should be kept");
+			assertEquals(1, wins[0], "Win should count for player x");
+			assertEquals(1, draws[0], "Draw should be counted");
+			assertEquals(3, explorer.getGames(), "Every game should be counted");
+			
+		}
+		
+		builder.write(file, 1);
+		try(OpeningExplorer explorer = new OpeningExplorer(file)) {
+			assertEquals(1, explorer.probe(logic, moves, wins, draws, losses), "Reply should be in the explorer");
+			assertEquals(1, losses[0], "Player o's reply lost the game");
+			
+		}
+		
+	}
+	
+	/**
+	 * Tests that games read from PDN, with player o to move first, are found from the console's start with player x to move
+	 *
+	 * @throws IOException If the files can't be written or read
+	 */
+	@Test
+	public void probeConsoleStart() throws IOException {
+		String text = """
+				1. 11-15 23-19 2. 8-11 22-17 1-0
+				
+				1. 11-15 22-18 2. 15x22 25x18 0-1
+				""";
+		Path archiveFile = folder.resolve("pdn.ckga");
+		
+		try(PdnReader reader = new PdnReader(Channels.newChannel(new ByteArrayInputStream(text.getBytes(StandardCharsets.ISO_8859_1))));
+				GameArchiveWriter writer = new GameArchiveWriter(archiveFile)) {
+			assertTrue(writer.add(reader.next()), "Standard game should be added");
+			assertTrue(writer.add(reader.next()), "Standard game should be added");
+			
+		}
+		
+		OpeningExplorerBuilder builder = new OpeningExplorerBuilder(OpeningExplorerBuilder.DEFAULT_PLIES, 2);
+		try(GameArchive archive = new GameArchive(archiveFile)) {
+			builder.addArchive(archive);
+			
+		}
+		
+		Path file = folder.resolve("pdn.ckox");
+		builder.write(file, 1);
+		
+		int[] moves = new int[CheckersLogic.MAX_MOVES];
+		int[] wins = new int[CheckersLogic.MAX_MOVES];
+		int[] draws = new int[CheckersLogic.MAX_MOVES];
+		int[] losses = new int[CheckersLogic.MAX_MOVES];
+		
+		try(OpeningExplorer explorer = new OpeningExplorer(file)) {
+			// The board the console plays on, player x moves first
+			CheckersLogic console = new CheckersLogic();
+			
+			assertEquals(1, explorer.probe(console, moves, wins, draws, losses), "Black's first move should be found for player x");
+			assertTrue(console.isLegalMove(moves[0]), "Move should be turned around for the board");
+			assertEquals(1, wins[0], "Black won the second game");
+			assertEquals(1, losses[0], "Black lost the first game");
+			
+			console.makeMove(moves[0]);
+			assertEquals(2, explorer.probe(console, moves, wins, draws, losses), "Both replies should be found for player o");
+			assertTrue(console.isLegalMove(moves[0]) && console.isLegalMove(moves[1]), "Replies should be turned around for the board");
+			
+		}
+		
+	}
+	
+}
@@ -0,0 +1,189 @@
+package test;
+
+import Core.CheckersLogic;
+import Core.PdnGame;
+import Core.PdnReader;
+import Core.PdnValidator;
+import Core.PdnWriter;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This class tests reading, writing and checking PDN game records
+ *
+ * @author Jacob Barrios
+ * @version 1.0, 10/18/2026
+ */
+public class PdnTest {
+	@TempDir
+	Path folder;
+	
+	/**
+	 * Opens a reader on some PDN text
+	 *
+	 * @param text PDN text
+	 * @return Reader of the text
+	 */
+	private static PdnReader reader(String text) {
+		return new PdnReader(Channels.newChannel(new java.io.ByteArrayInputStream(text.getBytes(StandardCharsets.ISO_8859_1))));
+		
+	}
+	
+	/**
+	 * Tests that tags, comments, variations and move numbers are handled and the moves replay
+	 *
+	 * @throws IOException If the text can't be read
+	 */
+	@Test
+	public void readGames() throws IOException {
+		String text = """
+				[Event "Club \\"final\\""]
+				[Result "1-0"]
+				1. 11-15 {good} 22-18 (23-19 9-14) 2. 15x22 25x18! $1 1-0
+				
+				[Event "No result"]
+				1. 11-15 22-18 2. 15x22 26x17
+				[Event "Bad"]
+				1. 11-15 22-40 2. 15-19 0-1
+				""";
+		
+		CheckersLogic logic = new CheckersLogic();
+		int[] moves = new int[PdnReader.MAX_PLIES];
+		
+		try(PdnReader reader = reader(text)) {
+			PdnGame game = reader.next();
+			assertEquals("Club \"final\"", game.getTags().get("Event"), "Escaped quotes should be read");
+			assertEquals(4, game.getPlies(), "Comments, variations and annotations should be skipped");
+			assertEquals(PdnGame.X_WINS, game.getResult(), "Result should be read");
+			assertEquals(4, game.replay(logic, moves), "Every move should be legal");
+			assertEquals("15x22", PdnWriter.moveText(moves[2]), "Jump should be found from its squares");
+			
+			game = reader.next();
+			assertEquals(PdnGame.NO_RESULT, game.getResult(), "Game should end at the next tag");
+			assertEquals(4, game.getPlies(), "Moves before the next tag should be kept");
+			
+			game = reader.next();
+			assertNotNull(game.getError(), "Square 40 should not be read");
+			assertEquals(PdnGame.O_WINS, game.getResult(), "Result should still be found after an error");
+			
+			assertNull(reader.next(), "There should be no more games");
+			assertEquals(3, reader.getGamesRead(), "Every game should be counted");
+			
+		}
+		
+	}
+	
+	/**
+	 * Tests that a game without a FEN tag starts with Black to move, like standard PDN
+	 *
+	 * @throws IOException If the text can't be read
+	 */
+	@Test
+	public void standardOpening() throws IOException {
+		CheckersLogic logic = new CheckersLogic();
+		int[] moves = new int[PdnReader.MAX_PLIES];
+		
+		try(PdnReader reader = reader("1. 11-15 23-19 2. 8-11 22-17 *")) {
+			assertEquals(4, reader.next().replay(logic, moves), "Black should move first from the start position");
+			assertEquals("11-15", PdnWriter.moveText(moves[0]), "First move should be Black's");
+			assertFalse(logic.isPlayerXTurn(), "Black should be to move after two moves each");
+			
+		}
+		
+	}
+	
+	/**
+	 * Tests that a written game reads back the same and an illegal move stops the replay
+	 *
+	 * @throws IOException If the text can't be written or read
+	 */
+	@Test
+	public void writeAndReplay() throws IOException {
+		CheckersLogic logic = new CheckersLogic();
+		int[] played = new int[40];
+		int[] buffer = new int[CheckersLogic.MAX_MOVES];
+		int count = 0;
+		
+		// Always play the first move until the game is long enough to wrap
+		while(count < played.length && logic.generateMoves(buffer) > 0) {
+			played[count++] = buffer[0];
+			logic.makeMove(buffer[0]);
+			
+		}
+		
+		Map<String, String> tags = new LinkedHashMap<>();
+		tags.put("Event", "Test");
+		StringWriter out = new StringWriter();
+		
+		try(PdnWriter writer = new PdnWriter(out)) {
+			writer.write(tags, new CheckersLogic(), played, count, PdnGame.DRAW);
+			
+		}
+		
+		assertTrue(out.toString().contains("[Result \"1/2-1/2\"]"), "Result tag should be added");
+		assertTrue(out.toString().contains("[FEN \"W:W21,"), "Start with player x to move should be written as a FEN");
+		assertTrue(out.toString().contains("1... "), "Moves should be numbered from White's first move");
+		assertTrue(out.toString().lines().allMatch(line -> line.length() <= 80), "Lines should be wrapped");
+		
+		try(PdnReader reader = reader(out.toString())) {
+			PdnGame game = reader.next();
+			int[] moves = new int[PdnReader.MAX_PLIES];
+			
+			assertEquals(count, game.replay(new CheckersLogic(), moves), "Written game should replay");
+			for(int i = 0; i < count; i++) {
+				assertEquals(played[i], moves[i], "Move " + i + " should read back the same");
+				
+			}
+			
+		}
+		
+		try(PdnReader reader = reader("1. 11-15 11-15 *")) {
+			assertEquals(1, reader.next().replay(logic, new int[PdnReader.MAX_PLIES]), "Replay should stop at the illegal move");
+			
+		}
+		
+	}
+	
+	/**
+	 * Tests that the parallel validator counts every kind of game
+	 *
+	 * @throws IOException If the file can't be written or read
+	 */
+	@Test
+	public void validateInParallel() throws IOException {
+		StringBuilder text = new StringBuilder();
+		
+		for(int i = 0; i < 100; i++) {
+			text.append("1. 11-15 22-18 2. 15x22 25x18 1-0\n\n");
+			
+		}
+		text.append("1. 11-15 22-18 2. 15-19 0-1\n\n");
+		text.append("[FEN \"W:W18:B14\"]\n1. 18x9 1-0\n\n");
+		text.append("1. 11-15 22-18 2. 15x22 25x18 3. xx 1/2-1/2\n");
+		
+		Path file = folder.resolve("games.pdn");
+		Files.writeString(file, text, StandardCharsets.ISO_8859_1);
+		
+		PdnValidator validator = new PdnValidator(4);
+		validator.validate(file);
+		
+		assertEquals(101, validator.getLegal(), "Legal games should be counted");
+		assertEquals(1, validator.getIllegal(), "Game with 15-19 should be illegal, the jump is forced");
+		assertEquals(1, validator.getUnreadable(), "Game with a bad move should be unreadable");
+		assertEquals(401, validator.getPlies(), "Moves of the legal games should be counted");
+		assertEquals(101, validator.getXWins(), "Results should be counted");
+		
+	}
+	
+}
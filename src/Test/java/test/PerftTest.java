@@ -0,0 +1,76 @@
+package test;
+
+import Core.CheckersLogic;
+import Core.Perft;
+import org.junit.jupiter.api.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This class tests perft counts from the start position and from set up positions
+ *
+ * @author Jacob Barrios
+ * @version 1.0, 10/18/2026
+ */
+public class PerftTest {
+	private CheckersLogic testLogic;
+	
+	/**
+	 * Initialize the logic class before each test
+	 */
+	@BeforeEach
+	public void setupBeforeTest() {
+		testLogic = new CheckersLogic();
+		
+	}
+	
+	/**
+	 * Tests the plies from the start against the published counts for checkers
+	 */
+	@Test
+	public void startPosition() {
+		Perft perft = new Perft();
+		
+		assertEquals(1, perft.count(testLogic, 0), "Depth 0 should only count the root");
+		assertEquals(7, perft.count(testLogic, 1), "Depth 1 should have 7 positions");
+		assertEquals(49, perft.count(testLogic, 2), "Depth 2 should have 49 positions");
+		assertEquals(302, perft.count(testLogic, 3), "Depth 3 should have 302 positions");
+		assertEquals(1469, perft.count(testLogic, 4), "Depth 4 should have 1469 positions");
+		assertEquals(7361, perft.count(testLogic, 5), "Depth 5 should have 7361 positions");
+		assertEquals(36768, perft.count(testLogic, 6), "Depth 6 should have 36768 positions");
+		assertEquals(179740, perft.count(testLogic, 7), "Depth 7 should have 179740 positions");
+		
+	}
+	
+	/**
+	 * Tests that threads and the table give the same count as a plain count
+	 */
+	@Test
+	public void parallelAndHashedMatch() {
+		long expected = new Perft().count(testLogic, 6);
+		
+		assertEquals(expected, Perft.countParallel(testLogic, 6, 4, null), "Threads should give the same count");
+		assertEquals(expected, Perft.countParallel(testLogic, 6, 4, new Perft.HashTable(1)), "Table should give the same count");
+		assertEquals(expected, Perft.countParallel(testLogic, 6, 1, new Perft.HashTable(1)), "Table on one thread should give the same count");
+		
+		long divided = 0;
+		for(long nodes : new Perft().divide(testLogic, 6).values()) {
+			divided += nodes;
+		}
+		
+		assertEquals(expected, divided, "Counts for each root move should add up");
+		
+	}
+	
+	/**
+	 * Tests perft from a FEN position with one king
+	 */
+	@Test
+	public void fenPosition() {
+		testLogic.loadFen("W:WK14:B1");
+		
+		assertEquals(4, new Perft().count(testLogic, 1), "King in the middle should have 4 moves");
+		
+	}
+	
+}
@@ -0,0 +1,67 @@
+package test;
+
+import Core.CheckersLogic;
+import Core.Position;
+import org.junit.jupiter.api.*;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This class tests the immutable position snapshots
+ *
+ * @author Jacob Barrios
+ * @version 1.0, 10/18/2026
+ */
+public class PositionTest {
+
+	/**
+	 * Tests that a snapshot doesn't change when the game goes on and sets up the same board again
+	 */
+	@Test
+	public void snapshotStaysTheSame() {
+		CheckersLogic logic = new CheckersLogic();
+		Position start = logic.getPosition();
+		String fen = logic.toFen();
+		
+		assertTrue(logic.processMove("3a-4b"), "Move should be played");
+		assertEquals(fen, start.toString(), "Snapshot should not follow the game");
+		assertNotEquals(start, logic.getPosition(), "Position after a move should be different");
+		assertEquals('x', start.getPiece(20), "Snapshot should still have the moved piece");
+		
+		CheckersLogic other = new CheckersLogic();
+		other.setPosition(logic.getPosition());
+		assertEquals(logic.toFen(), other.toFen(), "Snapshot should set up the same position");
+		assertEquals(logic.getHash(), other.getHash(), "Snapshot should keep the hash");
+		
+	}
+	
+	/**
+	 * Tests that positions reached by different move orders are equal and work as map keys
+	 */
+	@Test
+	public void equalByValue() {
+		CheckersLogic first = new CheckersLogic();
+		CheckersLogic second = new CheckersLogic();
+		
+		assertTrue(first.processMove("3a-4b") && first.processMove("6b-5a") && first.processMove("3g-4h") && first.processMove("6f-5e"),
+				"First move order should be legal");
+		assertTrue(second.processMove("3g-4h") && second.processMove("6f-5e") && second.processMove("3a-4b") && second.processMove("6b-5a"),
+				"Second move order should be legal");
+		
+		Set<Position> seen = new HashSet<>();
+		seen.add(first.getPosition());
+		
+		assertEquals(first.getPosition(), second.getPosition(), "Same pieces and turn should be equal");
+		assertTrue(seen.contains(second.getPosition()), "Transposed position should be found in a set");
+		assertEquals(new Position(first.getXPieces(), first.getOPieces(), first.getKings(), true), first.getPosition(),
+				"Position built from bitboards should match the snapshot");
+		assertNotEquals(new Position(first.getXPieces(), first.getOPieces(), first.getKings(), false), first.getPosition(),
+				"Player to move should matter");
+		assertThrows(IllegalArgumentException.class, () -> new Position(1, 1, 0, true), "Overlapping pieces should be refused");
+		
+	}
+	
+}
@@ -0,0 +1,185 @@
+package test;
+
+import Core.CancellationToken;
+import Core.CheckersLogic;
+import Core.Move;
+import Core.SearchEngine;
+import Core.SearchResult;
+import Core.TimeManager;
+import org.junit.jupiter.api.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This class tests the alpha-beta search engine
+ *
+ * @author Jacob Barrios
+ * @version 1.0, 10/18/2026
+ */
+public class SearchEngineTest {
+	private CheckersLogic testLogic;
+	private SearchEngine testEngine;
+	
+	/**
+	 * Initialize the logic and engine to test
+	 */
+	@BeforeEach
+	public void setupBeforeTest() {
+		testLogic = new CheckersLogic();
+		testEngine = new SearchEngine();
+		
+	}
+	
+	/**
+	 * Tests that the search leaves the board the way it found it
+	 */
+	@Test
+	public void searchRestoresBoard() {
+		char[][] before = testLogic.getBoard();
+		
+		SearchResult result = testEngine.search(testLogic);
+		
+		assertArrayEquals(before, testLogic.getBoard(), "Board should not change after a search");
+		assertTrue(testLogic.isLegalMove(result.getBestMove()), "Best move should be legal");
+		assertEquals(SearchEngine.DEFAULT_DEPTH, result.getDepth(), "Search should reach the full depth");
+		assertEquals(result.getBestMove(), result.getPrincipalVariation()[0], "Principal variation should start with the best move");
+		assertTrue(result.getNodes() > 0, "Search should count nodes");
+		
+	}
+	
+	/**
+	 * Tests that the search finds a capture that wins the game
+	 */
+	@Test
+	public void findsWinningCapture() {
+		clearBoard();
+		testLogic.setPiece(5, 2, 'x');
+		testLogic.setPiece(7, 0, 'x');
+		testLogic.setPiece(4, 3, 'o');
+		
+		SearchResult result = testEngine.search(testLogic);
+		
+		assertEquals("3c-5e", testLogic.convertToMove(result.getBestMove()), "Capture should win the game");
+		assertTrue(result.isWinScore() && result.getScore() > 0, "Score should be a win");
+		
+	}
+	
+	/**
+	 * Tests that there is no move when the player can't move
+	 */
+	@Test
+	public void noMoves() {
+		clearBoard();
+		testLogic.setPiece(0, 1, 'x');
+		testLogic.setPiece(7, 0, 'o');
+		
+		SearchResult result = testEngine.search(testLogic);
+		
+		assertEquals(Move.NONE, result.getBestMove(), "There should be no move");
+		assertEquals(0, result.getDepth(), "No iteration should complete");
+		
+	}
+	
+	/**
+	 * Tests that the node budget stops the search after the first iteration
+	 */
+	@Test
+	public void nodeLimit() {
+		testEngine.setMaxDepth(SearchEngine.MAX_PLY);
+		testEngine.setNodeLimit(5000);
+		
+		SearchResult result = testEngine.search(testLogic);
+		
+		assertTrue(result.getDepth() >= 1 && result.getDepth() < SearchEngine.MAX_PLY, "Search should stop early");
+		assertTrue(result.getNodes() < 10000, "Search should stop near the node budget");
+		assertTrue(testLogic.isLegalMove(result.getBestMove()), "Best move should be legal");
+		
+	}
+	
+	/**
+	 * Tests that the parallel search still finds a legal move and the helpers stop afterwards
+	 */
+	@Test
+	public void parallelSearch() {
+		char[][] before = testLogic.getBoard();
+		testEngine.setThreads(4);
+		
+		SearchResult result = testEngine.search(testLogic);
+		SearchResult again = testEngine.search(testLogic);
+		testEngine.shutdown();
+		
+		assertArrayEquals(before, testLogic.getBoard(), "Board should not change after a search");
+		assertTrue(testLogic.isLegalMove(result.getBestMove()), "Best move should be legal");
+		assertTrue(testLogic.isLegalMove(again.getBestMove()), "Second search should reuse the helpers");
+		assertEquals(SearchEngine.DEFAULT_DEPTH, result.getDepth(), "Main thread should reach the full depth");
+		assertEquals(1, testEngine.getThreads(), "Engine should be back to one thread");
+		
+	}
+	
+	/**
+	 * Tests that a search with no depth limit stops soon after its deadline with a legal move
+	 */
+	@Test
+	public void stopsAtDeadline() {
+		testEngine.setMaxDepth(SearchEngine.MAX_PLY);
+		char[][] before = testLogic.getBoard();
+		
+		long start = System.nanoTime();
+		SearchResult result = testEngine.search(testLogic, start + 50_000_000L, CancellationToken.NONE);
+		long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+		
+		assertTrue(elapsedMillis < 1000, "Search should stop soon after the deadline, took " + elapsedMillis + " ms");
+		assertTrue(result.getDepth() < SearchEngine.MAX_PLY, "Search should not reach the full depth");
+		assertTrue(testLogic.isLegalMove(result.getBestMove()), "Best move should be legal");
+		assertArrayEquals(before, testLogic.getBoard(), "Board should not change after a stopped search");
+		
+	}
+	
+	/**
+	 * Tests that a cancelled search still returns the move of its last completed iteration
+	 */
+	@Test
+	public void cancelledSearch() {
+		testEngine.setMaxDepth(SearchEngine.MAX_PLY);
+		CancellationToken token = new CancellationToken();
+		token.cancel();
+		
+		SearchResult result = testEngine.search(testLogic, token);
+		
+		assertEquals(1, result.getDepth(), "Only the first iteration should complete");
+		assertTrue(testLogic.isLegalMove(result.getBestMove()), "Best move should be legal");
+		
+		CancellationToken.NONE.cancel();
+		assertFalse(CancellationToken.NONE.isCancelled(), "Shared token should never be cancelled");
+		
+	}
+	
+	/**
+	 * Tests how the time manager splits the clock
+	 */
+	@Test
+	public void timeManagerBudget() {
+		TimeManager manager = new TimeManager(0);
+		
+		assertEquals(1500, manager.budgetMillis(60_000, 0, 0), "Start of the game should get a 40th of the clock");
+		assertEquals(3750, manager.budgetMillis(60_000, 1000, 20), "Later moves should get a bigger share plus the increment");
+		assertEquals(50, manager.budgetMillis(100, 10_000, 0), "No move should take more than half the clock");
+		assertEquals(0, new TimeManager(50).budgetMillis(40, 0, 0), "Overhead should be kept back");
+		
+	}
+	
+	/**
+	 * Clears the board to edit
+	 */
+	public void clearBoard() {
+		for(int i = 0; i < 8; i++) {
+			for(int j = 0; j < 8; j++) {
+				testLogic.setPiece(i, j, '_');
+				
+			}
+			
+		}
+		
+	}
+	
+}
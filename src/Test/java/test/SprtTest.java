@@ -0,0 +1,58 @@
+package test;
+
+import Core.Sprt;
+import org.junit.jupiter.api.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This class tests the Elo and SPRT math used to compare engines
+ *
+ * @author Jacob Barrios
+ * @version 1.0, 10/18/2026
+ */
+public class SprtTest {
+	private Sprt testSprt;
+	
+	/**
+	 * Initialize a test looking for a 10 Elo gain
+	 */
+	@BeforeEach
+	public void setupBeforeTest() {
+		testSprt = new Sprt(0, 10, 0.05, 0.05);
+		
+	}
+	
+	/**
+	 * Tests the Elo difference of some results
+	 */
+	@Test
+	public void eloTest() {
+		assertEquals(0, Sprt.elo(10, 20, 10), 1e-9, "Even results should be 0 Elo");
+		assertEquals(0.75, Sprt.score(3, 0, 1), 1e-9, "3 wins out of 4 should score 0.75");
+		assertEquals(190.8, Sprt.elo(3, 0, 1), 0.1, "Score of 0.75 should be about 191 Elo");
+		assertEquals(0.5, Sprt.expectedScore(0), 1e-9, "0 Elo should expect half the points");
+		assertTrue(Sprt.eloError(300, 400, 300) > 0, "Error margin should be positive");
+		
+	}
+	
+	/**
+	 * Tests that the test stops the right way for clear results
+	 */
+	@Test
+	public void decisionTest() {
+		assertEquals(Sprt.CONTINUE, testSprt.decide(0, 0, 0), "No games should keep going");
+		assertEquals(Sprt.CONTINUE, testSprt.decide(11, 2, 10), "Close results should keep going");
+		assertEquals(Sprt.ACCEPT_H1, testSprt.decide(600, 200, 400), "Many more wins should accept H1");
+		assertEquals(Sprt.ACCEPT_H0, testSprt.decide(400, 200, 600), "Many more losses should accept H0");
+		assertEquals(Sprt.ACCEPT_H1, testSprt.decide(60, 40, 0), "Wins and draws without a loss should accept H1");
+		assertEquals(Sprt.ACCEPT_H0, testSprt.decide(0, 40, 60), "Losses and draws without a win should accept H0");
+		assertEquals(Sprt.CONTINUE, testSprt.decide(0, 500, 0), "Only draws should keep going");
+		assertEquals(Sprt.ACCEPT_H1, testSprt.decide(100, 0, 0), "Only wins should accept H1");
+		assertEquals(Sprt.ACCEPT_H0, testSprt.decide(0, 0, 100), "Only losses should accept H0");
+		assertEquals(Math.log(0.05 / 0.95), testSprt.getLowerBound(), 1e-9, "Lower bound from the error rates");
+		assertThrows(IllegalArgumentException.class, () -> new Sprt(10, 0, 0.05, 0.05), "elo1 has to be above elo0");
+		
+	}
+	
+}
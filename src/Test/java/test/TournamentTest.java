@@ -0,0 +1,64 @@
+package test;
+
+import Core.SearchEngine;
+import Core.Sprt;
+import Core.Tournament;
+import org.junit.jupiter.api.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This class tests the headless self-play tournament
+ *
+ * @author Jacob Barrios
+ * @version 1.0, 10/18/2026
+ */
+public class TournamentTest {
+
+	/**
+	 * Makes a fast engine for the tests
+	 *
+	 * @param depth Search depth
+	 * @return Engine with the smallest table
+	 */
+	private static SearchEngine engine(int depth) {
+		SearchEngine engine = new SearchEngine();
+		engine.setHashSizeMb(1);
+		engine.setMaxDepth(depth);
+		
+		return engine;
+		
+	}
+	
+	/**
+	 * Tests that every game is played and counted
+	 */
+	@Test
+	public void playsAllGames() {
+		Tournament tournament = new Tournament(() -> engine(2), () -> engine(1), 2, 1);
+		
+		assertEquals(20, tournament.play(19), "Games should be rounded up to pairs and all finish");
+		assertEquals(20, tournament.getWins() + tournament.getDraws() + tournament.getLosses(), "Every game should have a result");
+		assertTrue(tournament.getAveragePlies() > Tournament.OPENING_PLIES, "Engines should play after the opening");
+		assertTrue(tournament.getMoveLatency(true, 50) > 0, "Move times should be recorded");
+		assertTrue(tournament.getMoveLatency(false, 99) >= tournament.getMoveLatency(false, 50), "p99 should be at least p50");
+		
+	}
+	
+	/**
+	 * Tests that the SPRT stops a lopsided match early
+	 */
+	@Test
+	public void sprtStopsEarly() {
+		Tournament tournament = new Tournament(() -> engine(4), () -> engine(1), 2, 3);
+		tournament.setSprt(new Sprt(0, 10, 0.05, 0.05));
+		
+		long games = tournament.play(2000);
+		
+		assertEquals(Sprt.ACCEPT_H1, tournament.getDecision(), "Deeper engine should be found stronger");
+		assertTrue(games < 2000, "Match should stop before all the games");
+		assertTrue(tournament.getWins() > tournament.getLosses(), "Deeper engine should win more");
+		
+	}
+	
+}
@@ -0,0 +1,81 @@
+package test;
+
+import Core.Move;
+import Core.SearchEngine;
+import Core.TranspositionTable;
+import org.junit.jupiter.api.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This class tests storing and looking up positions in the transposition table
+ *
+ * @author Jacob Barrios
+ * @version 1.0, 10/18/2026
+ */
+public class TranspositionTableTest {
+	private TranspositionTable testTable;
+	
+	/**
+	 * Initialize the smallest table before each test
+	 */
+	@BeforeEach
+	public void setupBeforeTest() {
+		testTable = new TranspositionTable(1);
+		
+	}
+	
+	/**
+	 * Tests that a stored entry comes back with the same values
+	 */
+	@Test
+	public void storeAndProbe() {
+		int move = Move.jump(9, 18, 3);
+		testTable.store(12345L, move, -250, 7, TranspositionTable.LOWER);
+		
+		long data = testTable.probe(12345L);
+		
+		assertNotEquals(0, data, "Stored position should be found");
+		assertEquals(move, TranspositionTable.move(data), "Move should match");
+		assertEquals(-250, TranspositionTable.score(data), "Score should match");
+		assertEquals(7, TranspositionTable.depth(data), "Depth should match");
+		assertEquals(TranspositionTable.LOWER, TranspositionTable.bound(data), "Bound should match");
+		assertEquals(0, testTable.probe(54321L), "Other position should not be found");
+		assertEquals(1, testTable.getHits(), "One lookup should hit");
+		assertEquals(1, testTable.getMisses(), "One lookup should miss");
+		
+	}
+	
+	/**
+	 * Tests that a full bucket keeps the deeper entry
+	 */
+	@Test
+	public void replacement() {
+		// Keys that land in the same bucket
+		long stride = testTable.getCapacity() / 2;
+		
+		testTable.store(1, Move.step(1, 5), 10, 9, TranspositionTable.EXACT);
+		testTable.store(1 + stride, Move.step(2, 6), 20, 2, TranspositionTable.EXACT);
+		testTable.store(1 + 2 * stride, Move.step(3, 7), 30, 5, TranspositionTable.EXACT);
+		
+		assertNotEquals(0, testTable.probe(1), "Deepest entry should stay");
+		assertEquals(0, testTable.probe(1 + stride), "Shallowest entry should be replaced");
+		assertNotEquals(0, testTable.probe(1 + 2 * stride), "New entry should be stored");
+		assertEquals(1, testTable.getReplacements(), "One entry should be replaced");
+		
+	}
+	
+	/**
+	 * Tests that win scores are stored relative to the position
+	 */
+	@Test
+	public void winScores() {
+		int score = SearchEngine.WIN_SCORE - 10;
+		int stored = TranspositionTable.toTableScore(score, 4);
+		
+		assertEquals(score - 2, TranspositionTable.fromTableScore(stored, 6), "Win should be 2 plies closer from deeper in the tree");
+		assertEquals(75, TranspositionTable.fromTableScore(TranspositionTable.toTableScore(75, 4), 6), "Normal scores should not change");
+		
+	}
+	
+}
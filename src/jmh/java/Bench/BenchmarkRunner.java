@@ -0,0 +1,37 @@
+package Bench;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the benchmarks with the GC profiler turned on so allocation rates are reported next to the times
+ * Takes the same arguments as the JMH runner, for example a benchmark name pattern or -p position=endgame1
+ * Usage: java -jar target/benchmarks.jar [jmh options]
+ *
+ * @author Jacob Barrios
+ * @version 1.0, 10/18/2026
+ */
+public class BenchmarkRunner {
+
+	/**
+	 * Runs the benchmarks
+	 *
+	 * @param args JMH command line options
+	 * @throws RunnerException            If a benchmark fails
+	 * @throws CommandLineOptionException If the options can't be parsed
+	 */
+	public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+		CommandLineOptions options = new CommandLineOptions(args);
+		
+		new Runner(new OptionsBuilder()
+				.parent(options)
+				.addProfiler(GCProfiler.class)
+				.build()).run();
+		
+	}
+	
+}
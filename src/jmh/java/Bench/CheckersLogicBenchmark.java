@@ -0,0 +1,109 @@
+package Bench;
+
+import Core.CheckersLogic;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the board operations the game and the search call most
+ * Every benchmark puts the board back the way it was so each call sees the same position
+ *
+ * @author Jacob Barrios
+ * @version 1.0, 10/18/2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CheckersLogicBenchmark {
+	@Param({"start", "midgame1", "midgame2", "midgame3", "endgame1", "endgame2", "endgame3"})
+	public String position;
+	
+	private CheckersLogic logic;
+	private final int[] moves = new int[CheckersLogic.MAX_MOVES];
+	private int moveCount;
+	private String firstMove;
+	
+	/**
+	 * Loads the position and finds a legal move to replay
+	 */
+	@Setup
+	public void setup() {
+		logic = Positions.load(position);
+		moveCount = logic.generateMoves(moves);
+		firstMove = logic.convertToMove(moves[0]);
+		
+	}
+	
+	/**
+	 * Parses, checks and plays a move in text, then takes it back
+	 *
+	 * @return If the move was accepted
+	 */
+	@Benchmark
+	public boolean processMove() {
+		boolean legal = logic.processMove(firstMove);
+		logic.unmakeMove();
+		
+		return legal;
+		
+	}
+	
+	/**
+	 * Checks if either player is out of moves
+	 *
+	 * @return If the game is over
+	 */
+	@Benchmark
+	public boolean checkWin() {
+		return logic.checkWin();
+		
+	}
+	
+	/**
+	 * Converts every legal move to text
+	 *
+	 * @param blackhole Keeps the strings from being optimized away
+	 */
+	@Benchmark
+	public void convertToMove(Blackhole blackhole) {
+		for(int i = 0; i < moveCount; i++) {
+			blackhole.consume(logic.convertToMove(moves[i]));
+			
+		}
+		
+	}
+	
+	/**
+	 * Generates every legal move
+	 *
+	 * @return Number of moves
+	 */
+	@Benchmark
+	public int generateMoves() {
+		return logic.generateMoves(moves);
+		
+	}
+	
+	/**
+	 * Plays and takes back every legal move
+	 *
+	 * @return Hash after the moves, the same as before
+	 */
+	@Benchmark
+	public long makeUnmake() {
+		for(int i = 0; i < moveCount; i++) {
+			logic.makeMove(moves[i]);
+			logic.unmakeMove();
+			
+		}
+		
+		return logic.getHash();
+		
+	}
+	
+}
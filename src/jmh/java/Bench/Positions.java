@@ -0,0 +1,56 @@
+package Bench;
+
+import Core.CheckersLogic;
+
+/**
+ * Corpus of positions the benchmarks run over
+ * Midgame positions have most pieces still on the board and many moves, endgame positions have few pieces and kings
+ * The names are the values of the benchmarks' position parameter
+ *
+ * @author Jacob Barrios
+ * @version 1.0, 10/18/2026
+ */
+public final class Positions {
+	public static final String START = "start";
+	
+	// Name and FEN of each position, FEN uses W for player x and B for player o
+	private static final String[][] CORPUS = {
+			{START, "W:W21-32:B1-12"},
+			{"midgame1", "W:W17,21,22,23,25,26,27,29,30,31:B1,2,3,5,6,7,9,10,11,14"},
+			{"midgame2", "B:W18,19,21,23,24,26,27,28,30,32:B1,2,4,5,6,8,10,11,12,15"},
+			{"midgame3", "W:W19,20,22,24,25,27,28,29:B2,3,6,7,9,11,13,16"},
+			{"endgame1", "W:WK14,22,27:B5,K10,12"},
+			{"endgame2", "B:WK18,K23:BK1,K6"},
+			{"endgame3", "W:W26,29,K11:B3,7,K20"}
+	};
+	
+	/**
+	 * Private constructor, only static helpers in this class
+	 */
+	private Positions() {
+	
+	}
+	
+	/**
+	 * Loads a position from the corpus into a new board
+	 *
+	 * @param name Name of the position
+	 * @return Board set up with the position
+	 */
+	public static CheckersLogic load(String name) {
+		for(String[] position : CORPUS) {
+			if(position[0].equals(name)) {
+				CheckersLogic logic = new CheckersLogic();
+				logic.loadFen(position[1]);
+				
+				return logic;
+				
+			}
+			
+		}
+		
+		throw new IllegalArgumentException("No position named " + name);
+		
+	}
+	
+}
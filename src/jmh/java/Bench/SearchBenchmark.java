@@ -0,0 +1,91 @@
+package Bench;
+
+import Core.CheckersComputerPlayer;
+import Core.CheckersLogic;
+import Core.SearchEngine;
+import Core.SearchResult;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks full searches to a fixed depth
+ * The table is emptied before each call so every search does the same work
+ *
+ * @author Jacob Barrios
+ * @version 1.0, 10/18/2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SearchBenchmark {
+	@Param({"start", "midgame1", "midgame2", "midgame3", "endgame1", "endgame2", "endgame3"})
+	public String position;
+	
+	@Param({"6", "8"})
+	public int depth;
+	
+	// Small enough to clear for every call without the clear costing much
+	private static final int HASH_MB = 4;
+	
+	private CheckersLogic logic;
+	private SearchEngine engine;
+	private CheckersComputerPlayer computer;
+	
+	/**
+	 * Loads the position and sets up the engine
+	 */
+	@Setup(Level.Trial)
+	public void setup() {
+		logic = Positions.load(position);
+		engine = new SearchEngine();
+		engine.setHashSizeMb(HASH_MB);
+		engine.setMaxDepth(depth);
+		computer = new CheckersComputerPlayer(logic, engine);
+		
+	}
+	
+	/**
+	 * Empties the table before each search
+	 */
+	@Setup(Level.Invocation)
+	public void clearTable() {
+		engine.getTable().clear();
+		
+	}
+	
+	/**
+	 * Stops the engine's threads
+	 */
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		engine.shutdown();
+		
+	}
+	
+	/**
+	 * Searches the position with the engine directly
+	 *
+	 * @return Result of the search
+	 */
+	@Benchmark
+	public SearchResult search() {
+		return engine.search(logic);
+		
+	}
+	
+	/**
+	 * Picks a move the way the game does, including converting it to text
+	 *
+	 * @return Move picked
+	 */
+	@Benchmark
+	public String moveForComputer() {
+		return computer.moveForComputer();
+		
+	}
+	
+}
@@ -0,0 +1,285 @@
+package Core;
+
+/**
+ * Helper class for the bitboard the logic class uses to store the pieces
+ * Only the 32 dark squares can hold a piece, so every side fits in one int
+ * Square 0 is row 0 column 1 (8b), square 31 is row 7 column 6 (1g), going left to right and top to bottom
+ *
+ * @author Jacob Barrios
+ * @version 1.0, 10/18/2026
+ */
+public final class Bitboard {
+	public static final int SQUARES = 32;
+	
+	// Directions a piece can step or jump in, up is towards row 0
+	public static final int UP_LEFT = 0;
+	public static final int UP_RIGHT = 1;
+	public static final int DOWN_LEFT = 2;
+	public static final int DOWN_RIGHT = 3;
+	
+	// Rows 0, 2, 4, 6 start on column 1, rows 1, 3, 5, 7 start on column 0
+	static final int EVEN_ROWS = 0x0F0F0F0F;
+	static final int ODD_ROWS = 0xF0F0F0F0;
+	
+	// Squares on column a and column h
+	static final int LEFT_EDGE = 0x11111111;
+	static final int RIGHT_EDGE = 0x88888888;
+	
+	// Top and bottom rows of the board
+	static final int TOP_ROW = 0x0000000F;
+	static final int BOTTOM_ROW = 0xF0000000;
+	
+	// Lookup tables indexed by direction * SQUARES + square, worked out once from the rows and columns
+	// NEIGHBOR holds the bit of the next square in that direction (also the square a jump goes over),
+	// JUMP holds the bit of the square a jump lands on, 0 if it's off the board
+	private static final int[] NEIGHBOR = new int[4 * SQUARES];
+	private static final int[] JUMP = new int[4 * SQUARES];
+	
+	static {
+		int[] rowSteps = {-1, -1, 1, 1};
+		int[] colSteps = {-1, 1, -1, 1};
+		
+		for(int direction = UP_LEFT; direction <= DOWN_RIGHT; direction++) {
+			for(int square = 0; square < SQUARES; square++) {
+				int row = row(square);
+				int col = col(square);
+				int next = square(row + rowSteps[direction], col + colSteps[direction]);
+				int landing = square(row + 2 * rowSteps[direction], col + 2 * colSteps[direction]);
+				
+				NEIGHBOR[direction * SQUARES + square] = next < 0 ? 0 : 1 << next;
+				JUMP[direction * SQUARES + square] = next < 0 || landing < 0 ? 0 : 1 << landing;
+				
+			}
+			
+		}
+		
+	}
+	
+	/**
+	 * Private constructor, only static helpers in this class
+	 */
+	private Bitboard() {
+	
+	}
+	
+	/**
+	 * Converts a row and column of the 8x8 board to a square index
+	 *
+	 * @param row Row of the board (0 is the top)
+	 * @param col Column of the board (0 is column a)
+	 * @return Square index from 0 to 31, or -1 if it's off the board or a light square
+	 */
+	public static int square(int row, int col) {
+		if(row < 0 || row >= 8 || col < 0 || col >= 8 || (row + col) % 2 == 0) {
+			return -1;
+			
+		}
+		
+		return row * 4 + col / 2;
+		
+	}
+	
+	/**
+	 * Gets the row of a square
+	 *
+	 * @param square Square index
+	 * @return Row of the board (0 is the top)
+	 */
+	public static int row(int square) {
+		return square >>> 2;
+		
+	}
+	
+	/**
+	 * Gets the column of a square
+	 *
+	 * @param square Square index
+	 * @return Column of the board (0 is column a)
+	 */
+	public static int col(int square) {
+		// Even rows are shifted one column to the right
+		return ((square & 3) << 1) + (~(square >>> 2) & 1);
+		
+	}
+	
+	/**
+	 * Gets the next square in a direction, which is also the square a jump in that direction goes over
+	 *
+	 * @param direction One of UP_LEFT, UP_RIGHT, DOWN_LEFT or DOWN_RIGHT
+	 * @param square    Square index
+	 * @return Bit of the next square, 0 if it's off the board
+	 */
+	public static int neighbor(int direction, int square) {
+		return NEIGHBOR[direction * SQUARES + square];
+		
+	}
+	
+	/**
+	 * Gets the square a jump in a direction lands on
+	 *
+	 * @param direction One of UP_LEFT, UP_RIGHT, DOWN_LEFT or DOWN_RIGHT
+	 * @param square    Square index the jump starts from
+	 * @return Bit of the landing square, 0 if it's off the board
+	 */
+	public static int jump(int direction, int square) {
+		return JUMP[direction * SQUARES + square];
+		
+	}
+	
+	/**
+	 * Gets the first direction a piece can go in, directions from here to lastDirection are allowed
+	 * Player x's men only go up, player o's men only go down and kings go both ways
+	 *
+	 * @param xPiece If the piece belongs to player x
+	 * @param king   If the piece is a king
+	 * @return First allowed direction
+	 */
+	public static int firstDirection(boolean xPiece, boolean king) {
+		return king || xPiece ? UP_LEFT : DOWN_LEFT;
+		
+	}
+	
+	/**
+	 * Gets the last direction a piece can go in, see firstDirection
+	 *
+	 * @param xPiece If the piece belongs to player x
+	 * @param king   If the piece is a king
+	 * @return Last allowed direction
+	 */
+	public static int lastDirection(boolean xPiece, boolean king) {
+		return king || !xPiece ? DOWN_RIGHT : UP_RIGHT;
+		
+	}
+	
+	/**
+	 * Moves every bit one square up and to the left
+	 *
+	 * @param bits Squares to move
+	 * @return Squares after the step, bits that leave the board are dropped
+	 */
+	public static int upLeft(int bits) {
+		return ((bits & EVEN_ROWS) >>> 4) | ((bits & ODD_ROWS & ~LEFT_EDGE) >>> 5);
+		
+	}
+	
+	/**
+	 * Moves every bit one square up and to the right
+	 *
+	 * @param bits Squares to move
+	 * @return Squares after the step, bits that leave the board are dropped
+	 */
+	public static int upRight(int bits) {
+		return ((bits & EVEN_ROWS & ~RIGHT_EDGE) >>> 3) | ((bits & ODD_ROWS) >>> 4);
+		
+	}
+	
+	/**
+	 * Moves every bit one square down and to the left
+	 *
+	 * @param bits Squares to move
+	 * @return Squares after the step, bits that leave the board are dropped
+	 */
+	public static int downLeft(int bits) {
+		return ((bits & EVEN_ROWS) << 4) | ((bits & ODD_ROWS & ~LEFT_EDGE) << 3);
+		
+	}
+	
+	/**
+	 * Moves every bit one square down and to the right
+	 *
+	 * @param bits Squares to move
+	 * @return Squares after the step, bits that leave the board are dropped
+	 */
+	public static int downRight(int bits) {
+		return ((bits & EVEN_ROWS & ~RIGHT_EDGE) << 5) | ((bits & ODD_ROWS) << 4);
+		
+	}
+	
+	/**
+	 * Moves every bit one square in the given direction
+	 *
+	 * @param direction One of UP_LEFT, UP_RIGHT, DOWN_LEFT or DOWN_RIGHT
+	 * @param bits      Squares to move
+	 * @return Squares after the step, bits that leave the board are dropped
+	 */
+	public static int step(int direction, int bits) {
+		switch(direction) {
+			case UP_LEFT:
+				return upLeft(bits);
+			case UP_RIGHT:
+				return upRight(bits);
+			case DOWN_LEFT:
+				return downLeft(bits);
+			default:
+				return downRight(bits);
+		}
+		
+	}
+	
+	/**
+	 * Gets every square diagonally next to the given squares
+	 *
+	 * @param bits Squares to check around
+	 * @return All the neighbouring squares
+	 */
+	public static int neighbors(int bits) {
+		return upLeft(bits) | upRight(bits) | downLeft(bits) | downRight(bits);
+		
+	}
+	
+	/**
+	 * Finds which pieces can step into an empty square
+	 *
+	 * @param pieces Pieces to check
+	 * @param empty  Empty squares on the board
+	 * @param up     If the pieces can move up the board
+	 * @param down   If the pieces can move down the board
+	 * @return Pieces that have at least one step
+	 */
+	public static int movers(int pieces, int empty, boolean up, boolean down) {
+		int movers = 0;
+		
+		// A piece can step up if the square up from it is empty, so step the empty squares back down
+		if(up) {
+			movers |= pieces & (downRight(empty) | downLeft(empty));
+			
+		}
+		if(down) {
+			movers |= pieces & (upRight(empty) | upLeft(empty));
+			
+		}
+		
+		return movers;
+		
+	}
+	
+	/**
+	 * Finds which pieces can jump an opponent piece into an empty square
+	 *
+	 * @param pieces   Pieces to check
+	 * @param opponent Opponent pieces that can be captured
+	 * @param empty    Empty squares on the board
+	 * @param up       If the pieces can move up the board
+	 * @param down     If the pieces can move down the board
+	 * @return Pieces that have at least one jump
+	 */
+	public static int jumpers(int pieces, int opponent, int empty, boolean up, boolean down) {
+		int jumpers = 0;
+		
+		// Walk the empty squares back over the opponent pieces to find where a jump can start
+		if(up) {
+			jumpers |= pieces & downRight(opponent & downRight(empty));
+			jumpers |= pieces & downLeft(opponent & downLeft(empty));
+			
+		}
+		if(down) {
+			jumpers |= pieces & upRight(opponent & upRight(empty));
+			jumpers |= pieces & upLeft(opponent & upLeft(empty));
+			
+		}
+		
+		return jumpers;
+		
+	}
+	
+}
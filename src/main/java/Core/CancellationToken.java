@@ -0,0 +1,38 @@
+package Core;
+
+/**
+ * Lets another thread ask a running search to stop
+ * The search checks the token every few thousand nodes and returns the best move of its last completed iteration
+ * A token can be shared by several searches, cancelling it stops all of them
+ *
+ * @author Jacob Barrios
+ * @version 1.0, 10/18/2026
+ */
+public class CancellationToken {
+	// Token that is never cancelled, for searches nobody needs to stop
+	public static final CancellationToken NONE = new CancellationToken();
+	
+	private volatile boolean cancelled;
+	
+	/**
+	 * Asks every search using the token to stop, does nothing to NONE
+	 */
+	public void cancel() {
+		if(this != NONE) {
+			cancelled = true;
+			
+		}
+		
+	}
+	
+	/**
+	 * Checks if the token has been cancelled
+	 *
+	 * @return If the searches using it should stop
+	 */
+	public boolean isCancelled() {
+		return cancelled;
+		
+	}
+	
+}
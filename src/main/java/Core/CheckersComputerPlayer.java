@@ -1,14 +1,51 @@
 package Core;
 
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.locks.LockSupport;
+
 /**
  * This class is for if the player wants to play against a computer
- * Generates a move based on what pieces are available and sends it to logic for check
+ * Searches for the best move with the search engine and sends it to logic for check
+ * If the checkers.tablebase system property names an endgame tablebase file, the search uses it
+ * If the checkers.book system property names an opening book file, book moves are played without searching
+ * If the checkers.cache system property names an evaluation cache file, search results are kept in it between runs,
+ * with its size from checkers.cache.mb and its eviction policy, deepest or recent, from checkers.cache.policy
+ * With pondering on, the reply the computer expects is searched on a background thread while the opponent thinks.
+ * The search shares the engine and its transposition table, so even when the opponent plays something else
+ * the next search starts with a warm table
  *
  * @author Jacob Barrios
- * @version 1.0, 9/9/24
+ * @version 2.0, 10/18/2026
  */
 public class CheckersComputerPlayer {
+	public static final String TABLEBASE_PROPERTY = "checkers.tablebase";
+	public static final String BOOK_PROPERTY = "checkers.book";
+	public static final String CACHE_PROPERTY = "checkers.cache";
+	public static final String CACHE_SIZE_PROPERTY = "checkers.cache.mb";
+	public static final String CACHE_POLICY_PROPERTY = "checkers.cache.policy";
+	
 	private final CheckersLogic logic;
+	private final SearchEngine engine;
+	private final TimeManager timeManager = new TimeManager();
+	private SearchResult lastResult;
+	
+	// How often a move checks on a ponder search that is still running
+	private static final long PONDER_POLL_NANOS = 5_000_000;
+	
+	// Background search of the position after the expected reply, null when not pondering
+	private ExecutorService ponderThread;
+	private Future<SearchResult> ponderTask;
+	private CancellationToken ponderToken;
+	private long ponderHash;
+	private int ponderHits;
+	private int ponderMisses;
 	
 	/**
 	 * Constructor for the CheckersComputerPlayer
@@ -16,96 +53,336 @@ public class CheckersComputerPlayer {
 	 * @param logic Logic class to pass the instance of the board
 	 */
 	public CheckersComputerPlayer(CheckersLogic logic) {
+		this(logic, new SearchEngine());
+		
+		String file = System.getProperty(TABLEBASE_PROPERTY);
+		if(file != null) {
+			try {
+				engine.setTablebase(new EndgameTablebase(Path.of(file)));
+				
+			}
+			catch(IOException e) {
+				// The computer still plays without it
+				System.err.println("Couldn't open the endgame tablebase: " + e.getMessage());
+				
+			}
+			
+		}
+		
+		String bookFile = System.getProperty(BOOK_PROPERTY);
+		if(bookFile != null) {
+			try {
+				engine.setBook(new OpeningBook(Path.of(bookFile)));
+				
+			}
+			catch(IOException e) {
+				System.err.println("Couldn't open the opening book: " + e.getMessage());
+				
+			}
+			
+		}
+		
+		// Shared with other engine processes on the same machine that use the same file
+		String cacheFile = System.getProperty(CACHE_PROPERTY);
+		if(cacheFile != null) {
+			try {
+				int sizeMb = Integer.getInteger(CACHE_SIZE_PROPERTY, EvaluationCache.DEFAULT_SIZE_MB);
+				int policy = EvaluationCache.parsePolicy(System.getProperty(CACHE_POLICY_PROPERTY, "deepest"));
+				engine.setCache(new EvaluationCache(Path.of(cacheFile), sizeMb, policy));
+				
+			}
+			catch(IOException | IllegalArgumentException e) {
+				System.err.println("Couldn't open the evaluation cache: " + e.getMessage());
+				
+			}
+			
+		}
+		
+	}
+	
+	/**
+	 * Constructor for the CheckersComputerPlayer with a configured search engine
+	 *
+	 * @param logic  Logic class to pass the instance of the board
+	 * @param engine Search engine used to pick moves
+	 */
+	public CheckersComputerPlayer(CheckersLogic logic, SearchEngine engine) {
 		this.logic = logic;
+		this.engine = engine;
 		
 	}
 	
 	/**
-	 * Iterates through the board to see the first valid move a piece can make
+	 * Searches the current position and picks the best move for the player whose turn it is
 	 *
 	 * @return Move made from the computer
 	 */
 	public String moveForComputer() {
-		String move;
-		char[][] tempBoard = this.logic.getBoard();
-		
-		// Iterates through the whole board to find all the o pieces
-		for(int i = 0; i < tempBoard.length; i++) {
-			for(int j = 0; j < tempBoard[i].length; j++) {
-				if(tempBoard[i][j] == 'o') {
-					// Checks if the piece can capture a piece or make a move
-					if(validComputerMove(j, i, j + 2, i + 2)) {
-						move = logic.convertToMove(j, i, j + 2, i + 2);
-						return move;
-						
-					}
-					else if(validComputerMove(j, i, j - 2, i + 2)) {
-						move = logic.convertToMove(j, i, j - 2, i + 2);
-						return move;
-						
-					}
-					else if(validComputerMove(j, i, j + 1, i + 1)) {
-						move = logic.convertToMove(j, i, j + 1, i + 1);
-						return move;
-						
-					}
-					else if(validComputerMove(j, i, j - 1, i + 1)) {
-						move = logic.convertToMove(j, i, j - 1, i + 1);
-						return move;
-						
-					}
-					
-				}
-				
-			}
+		return moveForComputer(CancellationToken.NONE);
+		
+	}
+	
+	/**
+	 * Searches to the full depth unless the token is cancelled first, then the best move found so far is returned
+	 *
+	 * @param token Token another thread can cancel to stop the search
+	 * @return Move made from the computer
+	 */
+	public String moveForComputer(CancellationToken token) {
+		SearchResult pondered = ponderResult(false, 0, token);
+		
+		return moveText(pondered != null ? pondered : engine.search(logic, token));
+		
+	}
+	
+	/**
+	 * Searches for at most the given time, returning the best move found so far when time runs out or the token is cancelled
+	 *
+	 * @param budget Most time the search can take
+	 * @param token  Token another thread can cancel to stop the search
+	 * @return Move made from the computer
+	 */
+	public String moveForComputer(Duration budget, CancellationToken token) {
+		long deadline = System.nanoTime() + budget.toNanos();
+		SearchResult pondered = ponderResult(true, deadline, token);
+		
+		return moveText(pondered != null ? pondered : engine.search(logic, deadline, token));
+		
+	}
+	
+	/**
+	 * Searches until the deadline, returning the best move found so far when it passes or the token is cancelled
+	 *
+	 * @param deadline Time the move has to be ready by
+	 * @param token    Token another thread can cancel to stop the search
+	 * @return Move made from the computer
+	 */
+	public String moveForComputer(Instant deadline, CancellationToken token) {
+		return moveForComputer(Duration.between(Instant.now(), deadline), token);
+		
+	}
+	
+	/**
+	 * Searches for the computer's share of the time left on its game clock
+	 *
+	 * @param remainingMillis Time left on the computer's clock
+	 * @param incrementMillis Time added to the clock after each move
+	 * @param token           Token another thread can cancel to stop the search
+	 * @return Move made from the computer
+	 */
+	public String moveForComputer(long remainingMillis, long incrementMillis, CancellationToken token) {
+		// The undo stack holds both players' moves
+		long budget = timeManager.budgetMillis(remainingMillis, incrementMillis, logic.getHistorySize() / 2);
+		
+		return moveForComputer(Duration.ofMillis(budget), token);
+		
+	}
+	
+	/**
+	 * Keeps the result of a search and turns its move into move notation
+	 *
+	 * @param result Result of the search
+	 * @return Move made from the computer
+	 */
+	private String moveText(SearchResult result) {
+		lastResult = result;
+		
+		if(lastResult.getBestMove() == Move.NONE) {
+			return "No more moves";
+			
+		}
+		
+		if(ponderThread != null) {
+			startPondering(result);
 			
 		}
 		
-		return "No more moves";
+		return logic.convertToMove(lastResult.getBestMove());
 		
 	}
 	
 	/**
-	 * Checks if the generated move from the computer is valid
+	 * Starts searching the position after the computer's move and the reply it expects
+	 * Nothing is started if the search didn't find a reply
 	 *
-	 * @param xStart x coordinate of piece
-	 * @param yStart y coordinate of piece
-	 * @param xEnd   x coordinate of new move
-	 * @param yEnd   y coordinate of new move
-	 * @return If the computer produced a valid move
+	 * @param result Result of the computer's search, its principal variation has the expected reply
 	 */
-	private boolean validComputerMove(int xStart, int yStart, int xEnd, int yEnd) {
-		char[][] tempBoard = logic.getBoard();
+	private void startPondering(SearchResult result) {
+		int[] line = result.getPrincipalVariation();
 		
-		// Check if the move is within bounds and the target cell is empty.
-		if(xStart < 0 || xStart >= 8 || yStart < 0 || yStart >= 8 || xEnd < 0 || xEnd >= 8 || yEnd < 0 || yEnd >= 8) {
-			return false;
+		if(line.length < 2) {
+			return;
 			
 		}
 		
-		// Is the coordinate the piece wants to move to empty
-		if(tempBoard[yEnd][xEnd] != '_') {
-			return false;
+		// The board isn't updated until the move is processed, so the search gets its own copy
+		CheckersLogic board = new CheckersLogic(logic);
+		board.makeMove(line[0]);
+		board.makeMove(line[1]);
+		
+		CancellationToken token = new CancellationToken();
+		ponderHash = board.getHash();
+		ponderToken = token;
+		ponderTask = ponderThread.submit(() -> engine.search(board, token));
+		
+	}
+	
+	/**
+	 * Finishes the ponder search before the computer moves
+	 * If the opponent played the expected reply the ponder search is already on the current position,
+	 * so it is kept and given whatever time is left, or runs to its depth limit for an untimed move unless the token is cancelled
+	 * Otherwise it is cancelled, which only takes a few thousand nodes
+	 *
+	 * @param timed    If the move has a deadline
+	 * @param deadline Deadline as a System.nanoTime value, only used if timed
+	 * @param token    Token the caller can cancel to stop the search
+	 * @return Result of the ponder search, null if there wasn't one or it was for another position
+	 */
+	private SearchResult ponderResult(boolean timed, long deadline, CancellationToken token) {
+		if(ponderTask == null) {
+			return null;
+			
 		}
 		
-		// Check if the piece is moving only 1 step in any direction
-		if(Math.abs(xStart - xEnd) == 1 && yEnd - yStart == 1) {
-			return true;
+		Future<SearchResult> task = ponderTask;
+		ponderTask = null;
+		
+		if(logic.getHash() != ponderHash) {
+			ponderMisses++;
+			ponderToken.cancel();
+			waitFor(task);
+			
+			return null;
+			
+		}
+		
+		ponderHits++;
+		
+		// Let the search keep going until it finishes, the deadline passes or the caller cancels
+		long left = timed ? deadline - System.nanoTime() : PONDER_POLL_NANOS;
+		while(left > 0 && !task.isDone() && !token.isCancelled()) {
+			LockSupport.parkNanos(Math.min(left, PONDER_POLL_NANOS));
+			left = timed ? deadline - System.nanoTime() : PONDER_POLL_NANOS;
 			
 		}
 		
-		// Check for capturing move.
-		if(Math.abs(xStart - xEnd) == 2 && Math.abs(yStart - yEnd) == 2) {
-			int xMiddle = (xStart + xEnd) / 2;
-			int yMiddle = (yStart + yEnd) / 2;
+		ponderToken.cancel();
+		
+		return waitFor(task);
+		
+	}
+	
+	/**
+	 * Waits for a ponder search to end
+	 *
+	 * @param task Ponder search
+	 * @return Result of the search
+	 */
+	private static SearchResult waitFor(Future<SearchResult> task) {
+		try {
+			return task.get();
+			
+		}
+		catch(InterruptedException e) {
+			Thread.currentThread().interrupt();
+			
+			throw new IllegalStateException("Interrupted waiting for the ponder search", e);
+			
+		}
+		catch(ExecutionException e) {
+			throw new IllegalStateException("Ponder search failed", e.getCause());
+			
+		}
+		
+	}
+	
+	/**
+	 * Turns pondering on or off, turning it off stops any ponder search and its thread
+	 *
+	 * @param pondering If the computer searches on the opponent's time
+	 */
+	public void setPondering(boolean pondering) {
+		stopPondering();
+		
+		if(pondering && ponderThread == null) {
+			ponderThread = Executors.newSingleThreadExecutor(task -> {
+				Thread thread = new Thread(task, "ponder");
+				thread.setDaemon(true);
+				
+				return thread;
+				
+			});
 			
-			return tempBoard[yMiddle][xMiddle] == 'x' && tempBoard[yEnd][xEnd] == '_';
+		}
+		else if(!pondering && ponderThread != null) {
+			ponderThread.shutdownNow();
+			ponderThread = null;
 			
 		}
 		
-		return false;
+	}
+	
+	/**
+	 * Cancels the ponder search if one is running, for example when the game is over or the board is set up again
+	 */
+	public void stopPondering() {
+		if(ponderTask != null) {
+			ponderToken.cancel();
+			waitFor(ponderTask);
+			ponderTask = null;
+			
+		}
 		
 	}
 	
+	/**
+	 * Checks if a ponder search is waiting for the opponent's move
+	 *
+	 * @return If the computer is pondering
+	 */
+	public boolean isPondering() {
+		return ponderTask != null;
+		
+	}
+	
+	/**
+	 * Gets how many times the opponent played the reply the computer pondered on
+	 *
+	 * @return Number of ponder hits
+	 */
+	public int getPonderHits() {
+		return ponderHits;
+		
+	}
+	
+	/**
+	 * Gets how many times the opponent played something else and the ponder search was thrown away
+	 *
+	 * @return Number of ponder misses
+	 */
+	public int getPonderMisses() {
+		return ponderMisses;
+		
+	}
+	
+	/**
+	 * Gets the search engine so its depth and node budget can be changed
+	 *
+	 * @return Search engine used to pick moves
+	 */
+	public SearchEngine getEngine() {
+		return engine;
+		
+	}
+	
+	/**
+	 * Gets the score, principal variation and speed of the last search
+	 *
+	 * @return Result of the last search, null if the computer hasn't moved yet
+	 */
+	public SearchResult getLastResult() {
+		return lastResult;
+		
+	}
 	
 }
@@ -1,47 +1,283 @@
 package Core;
 
+import java.util.Arrays;
+
 /**
  * This class handles all the logic of the game
  *
  * @author Jacob Barrios
- * @version 4.0, 9/30/2024
+ * @version 5.0, 10/18/2026
  */
 public class CheckersLogic {
-	private char[][] board;
+	// Starting squares for each side
+	static final int O_START = 0x00000FFF;
+	static final int X_START = 0xFFF00000;
+	
+	// Most moves a position can have, used to size move buffers
+	public static final int MAX_MOVES = 128;
+	
+	// One bit per playable square, see Bitboard for the square layout
+	private int xPieces;
+	private int oPieces;
+	private int kings;
 	private boolean playerXTurn;
-	private boolean takingMove = true;
+	
+	// Zobrist hash of the position, updated on every change
+	private long hash;
+	
+	// Piece counts, updated on every change
+	private int xCount;
+	private int oCount;
+	
+	// Which players can move, filled in by the move generator or the first check and kept until the pieces change
+	private static final int X_CAN_MOVE = 1;
+	private static final int O_CAN_MOVE = 2;
+	private static final int X_KNOWN = 4;
+	private static final int O_KNOWN = 8;
+	private int mobility;
+	
+	// Reused when looking up a move so processing a move doesn't allocate
+	private final int[] moveBuffer = new int[MAX_MOVES];
+	
+	// Stack for following jump chains, one frame per jump, preallocated so generating moves doesn't allocate
+	private final int[] chainSquares = new int[Move.MAX_JUMPS + 1];
+	private final int[] chainMoves = new int[Move.MAX_JUMPS + 1];
+	private final int[] chainCaptured = new int[Move.MAX_JUMPS + 1];
+	private final int[] chainDirections = new int[Move.MAX_JUMPS + 1];
+	private final boolean[] chainExtended = new boolean[Move.MAX_JUMPS + 1];
+	
+	// Undo stack, one entry per move made, preallocated so making a move doesn't allocate
+	private static final int UNDO_CAPACITY = 512;
+	private static final int UNDO_X_TURN = 1;
+	private static final int UNDO_PROMOTED = 2;
+	private int[] undoMoves = new int[UNDO_CAPACITY];
+	private int[] undoCapturedKings = new int[UNDO_CAPACITY];
+	private int[] undoFlags = new int[UNDO_CAPACITY];
+	private long[] undoHashes = new long[UNDO_CAPACITY];
+	private int[] undoMobility = new int[UNDO_CAPACITY];
+	private int historySize;
 	
 	/**
 	 * Constructor for the logic class
 	 */
 	public CheckersLogic() {
-		this.board = new char[8][8];
-		newGameBoard();
 		this.playerXTurn = true;
+		newGameBoard();
+		
+	}
+	
+	/**
+	 * Constructor that copies the position of another logic class, the undo stack is not copied
+	 *
+	 * @param other Logic class to copy
+	 */
+	public CheckersLogic(CheckersLogic other) {
+		copyFrom(other);
+		
+	}
+	
+	/**
+	 * Copies the pieces, turn and hash of another logic class so it can be searched on another thread
+	 * The undo stack is emptied
+	 *
+	 * @param other Logic class to copy
+	 */
+	public void copyFrom(CheckersLogic other) {
+		this.xPieces = other.xPieces;
+		this.oPieces = other.oPieces;
+		this.kings = other.kings;
+		this.playerXTurn = other.playerXTurn;
+		this.hash = other.hash;
+		this.xCount = other.xCount;
+		this.oCount = other.oCount;
+		this.mobility = other.mobility;
+		clearHistory();
 		
 	}
 	
 	/**
-	 * Creates a new board array and all the pieces are represented by a 'x' or 'o'
+	 * Sets up the pieces for a new game, 'x' on the bottom three rows and 'o' on the top three rows
 	 */
 	public void newGameBoard() {
-		this.board = new char[8][8];
-		
-		//Repeat throughout the board
-		for(int i = 0; i < this.board.length; i++) {
-			for(int j = 0; j < this.board.length; j++) {
-				//Setup player o's side
-				if(i < 3 && (i + j) % 2 == 1) {
-					board[i][j] = 'o';
+		this.xPieces = X_START;
+		this.oPieces = O_START;
+		this.kings = 0;
+		this.hash = Zobrist.hash(xPieces, oPieces, kings, playerXTurn);
+		recount();
+		clearHistory();
+		
+	}
+	
+	/**
+	 * Builds a board array from the bitboards
+	 * Pieces are represented by 'x' or 'o', kings by 'X' or 'O' and empty squares by '_'
+	 * The array is a copy, changing it does not change the game
+	 *
+	 * @return 2d array of the board
+	 */
+	public char[][] getBoard() {
+		char[][] board = new char[8][8];
+		
+		for(char[] row : board) {
+			Arrays.fill(row, '_');
+			
+		}
+		
+		// Only visit the squares that have a piece on them
+		int occupied = xPieces | oPieces;
+		while(occupied != 0) {
+			int square = Integer.numberOfTrailingZeros(occupied);
+			int bit = 1 << square;
+			char piece = (xPieces & bit) != 0 ? 'x' : 'o';
+			
+			if((kings & bit) != 0) {
+				piece = Character.toUpperCase(piece);
+				
+			}
+			
+			board[Bitboard.row(square)][Bitboard.col(square)] = piece;
+			occupied &= occupied - 1;
+			
+		}
+		
+		return board;
+		
+	}
+	
+	/**
+	 * Gets the piece on one square without building the whole board array
+	 *
+	 * @param square Square index, see Bitboard
+	 * @return 'x', 'o', 'X', 'O' or '_' if the square is empty
+	 */
+	public char getPiece(int square) {
+		int bit = 1 << square;
+		char piece;
+		
+		if((xPieces & bit) != 0) {
+			piece = 'x';
+			
+		}
+		else if((oPieces & bit) != 0) {
+			piece = 'o';
+			
+		}
+		else {
+			return '_';
+			
+		}
+		
+		return (kings & bit) != 0 ? Character.toUpperCase(piece) : piece;
+		
+	}
+	
+	/**
+	 * Places a piece on the board or clears a square, used to set up positions
+	 *
+	 * @param row   Row of the board (0 is the top)
+	 * @param col   Column of the board (0 is column a)
+	 * @param piece 'x', 'o', 'X', 'O' or '_' to clear the square
+	 */
+	public void setPiece(int row, int col, char piece) {
+		int square = Bitboard.square(row, col);
+		
+		// Light squares are always empty
+		if(square < 0) {
+			if(piece == '_' && row >= 0 && row < 8 && col >= 0 && col < 8) {
+				return;
+				
+			}
+			
+			throw new IllegalArgumentException("Not a playable square: " + row + ", " + col);
+			
+		}
+		
+		int bit = 1 << square;
+		clearHistory();
+		hash ^= Zobrist.pieces(bit, xPieces, kings);
+		xPieces &= ~bit;
+		oPieces &= ~bit;
+		kings &= ~bit;
+		
+		switch(piece) {
+			case 'x' -> xPieces |= bit;
+			case 'o' -> oPieces |= bit;
+			case 'X' -> {
+				xPieces |= bit;
+				kings |= bit;
+			}
+			case 'O' -> {
+				oPieces |= bit;
+				kings |= bit;
+			}
+			case '_' -> {
+			}
+			default -> throw new IllegalArgumentException("Unknown piece: " + piece);
+		}
+		
+		hash ^= Zobrist.pieces(bit, xPieces, kings);
+		recount();
+		
+	}
+	
+	/**
+	 * Sets up a position from a PDN FEN string, e.g. "W:W21,22,K30:B1,2,3"
+	 * Squares are numbered 1 to 32 from the top left, W is player x and B is player o,
+	 * K marks a king and a range like 1-12 can be used for several pieces
+	 *
+	 * @param fen Position in FEN form, the first letter is the player to move
+	 */
+	public void loadFen(String fen) {
+		String[] fields = fen.trim().replace(".", "").split(":");
+		
+		if(fields.length < 1 || fields[0].length() != 1 || "WB".indexOf(fields[0].charAt(0)) < 0) {
+			throw new IllegalArgumentException("Invalid FEN: " + fen);
+			
+		}
+		
+		int newX = 0;
+		int newO = 0;
+		int newKings = 0;
+		
+		for(int i = 1; i < fields.length; i++) {
+			String field = fields[i].trim();
+			
+			if(field.isEmpty() || "WB".indexOf(field.charAt(0)) < 0) {
+				throw new IllegalArgumentException("Invalid FEN: " + fen);
+				
+			}
+			
+			boolean xSide = field.charAt(0) == 'W';
+			
+			for(String entry : field.substring(1).split(",")) {
+				entry = entry.trim();
+				
+				if(entry.isEmpty()) {
+					continue;
 					
 				}
-				//Setup player x's side
-				else if(i > 4 && (i + j) % 2 == 1) {
-					board[i][j] = 'x';
+				
+				boolean king = entry.charAt(0) == 'K';
+				String[] range = (king ? entry.substring(1) : entry).split("-");
+				int first = parseFenSquare(range[0], fen);
+				int last = range.length > 1 ? parseFenSquare(range[1], fen) : first;
+				
+				for(int square = first; square <= last; square++) {
+					int bit = 1 << square;
 					
-				}
-				else {
-					this.board[i][j] = '_';
+					if(xSide) {
+						newX |= bit;
+						
+					}
+					else {
+						newO |= bit;
+						
+					}
+					
+					if(king) {
+						newKings |= bit;
+						
+					}
 					
 				}
 				
@@ -49,111 +285,298 @@ public class CheckersLogic {
 			
 		}
 		
+		if((newX & newO) != 0) {
+			throw new IllegalArgumentException("Square used twice in FEN: " + fen);
+			
+		}
+		
+		setPosition(newX, newO, newKings, fields[0].charAt(0) == 'W');
+		
 	}
 	
 	/**
-	 * Gets the board array
+	 * Sets up a whole position at once from bitboards, see Bitboard for the square layout
 	 *
-	 * @return 2d array of the board
+	 * @param xPieces     Squares of player x's pieces
+	 * @param oPieces     Squares of player o's pieces
+	 * @param kings       Squares of the kings of both players
+	 * @param playerXTurn If it's player x's turn
 	 */
-	public char[][] getBoard() {
-		return board;
+	public void setPosition(int xPieces, int oPieces, int kings, boolean playerXTurn) {
+		if((xPieces & oPieces) != 0 || (kings & ~(xPieces | oPieces)) != 0) {
+			throw new IllegalArgumentException("Pieces overlap or a king has no piece");
+			
+		}
+		
+		this.xPieces = xPieces;
+		this.oPieces = oPieces;
+		this.kings = kings;
+		this.playerXTurn = playerXTurn;
+		this.hash = Zobrist.hash(xPieces, oPieces, kings, playerXTurn);
+		recount();
+		clearHistory();
 		
 	}
 	
 	/**
-	 * Processes the move by passing it into a method to validate the move
-	 * and another method that updates the board
+	 * Sets up a position from a snapshot, see getPosition
 	 *
-	 * @param move from player
-	 * @return if move is valid
+	 * @param position Position to set up
 	 */
-	public boolean processMove(String move) {
-		// converts move string to index of the array
-		int yStart = 8 - Character.getNumericValue((move.charAt(0)));
-		int xStart = move.charAt(1) - 'a';
-		int yEnd = 8 - Character.getNumericValue((move.charAt(3)));
-		int xEnd = move.charAt(4) - 'a';
+	public void setPosition(Position position) {
+		setPosition(position.getXPieces(), position.getOPieces(), position.getKings(), position.isPlayerXTurn());
+		
+	}
+	
+	/**
+	 * Takes an immutable snapshot of the position that can be shared with other threads, in O(1)
+	 *
+	 * @return Pieces, player to move and hash of the current position
+	 */
+	public Position getPosition() {
+		return new Position(xPieces, oPieces, kings, playerXTurn, hash);
 		
-		if(validMove(xStart, yStart, xEnd, yEnd)) {
-			makeMove(xStart, yStart, xEnd, yEnd);
+	}
+	
+	/**
+	 * Counts the pieces again and forgets who can move, used after the position is set up by hand
+	 */
+	private void recount() {
+		xCount = Integer.bitCount(xPieces);
+		oCount = Integer.bitCount(oPieces);
+		mobility = 0;
+		
+	}
+	
+	/**
+	 * Converts a square number from a FEN string to a square index
+	 *
+	 * @param number Square number from 1 to 32
+	 * @param fen    Whole FEN string for the error message
+	 * @return Square index from 0 to 31
+	 */
+	private static int parseFenSquare(String number, String fen) {
+		try {
+			int square = Integer.parseInt(number.trim()) - 1;
 			
-			return true;
+			if(square >= 0 && square < Bitboard.SQUARES) {
+				return square;
+				
+			}
+			
+		}
+		catch(NumberFormatException e) {
+			// Falls through to the error below
 			
 		}
 		
-		return false;
+		throw new IllegalArgumentException("Invalid square in FEN: " + fen);
 		
 	}
 	
 	/**
-	 * Checks if the move is valid by checking
-	 * If there is a piece at the end of the move
-	 * If a piece exists where is starts
+	 * Gets the position as a PDN FEN string, see loadFen
 	 *
-	 * @param xStart x coordinate of piece
-	 * @param yStart y coordinate of piece
-	 * @param xEnd   x coordinate of new move
-	 * @param yEnd   y coordinate of new move
-	 * @return if move is valid
+	 * @return Position in FEN form
 	 */
-	private boolean validMove(int xStart, int yStart, int xEnd, int yEnd) {
-		int moveDirection;
-		char opponentPiece;
-		char piece;
+	public String toFen() {
+		StringBuilder fen = new StringBuilder();
+		fen.append(playerXTurn ? 'W' : 'B');
 		
-		// Check if the move is within bounds and the target cell is empty.
-		if(xStart < 0 || xStart >= 8 || yStart < 0 || yStart >= 8 || xEnd < 0 || xEnd >= 8 || yEnd < 0 || yEnd >= 8) {
-			return false;
+		appendFenPieces(fen, 'W', xPieces);
+		appendFenPieces(fen, 'B', oPieces);
+		
+		return fen.toString();
+		
+	}
+	
+	/**
+	 * Adds one player's pieces to a FEN string
+	 *
+	 * @param fen    FEN being built
+	 * @param color  W or B
+	 * @param pieces Squares of the player's pieces
+	 */
+	private void appendFenPieces(StringBuilder fen, char color, int pieces) {
+		fen.append(':').append(color);
+		boolean first = true;
+		
+		while(pieces != 0) {
+			int square = Integer.numberOfTrailingZeros(pieces);
+			
+			if(!first) {
+				fen.append(',');
+				
+			}
+			if((kings & (1 << square)) != 0) {
+				fen.append('K');
+				
+			}
+			
+			fen.append(square + 1);
+			first = false;
+			pieces &= pieces - 1;
 			
 		}
 		
-		//
-		piece = board[yStart][xStart];
-		if(board[yEnd][xEnd] != '_' || piece == '_') {
+	}
+	
+	/**
+	 * Processes the move by looking for it in the legal moves
+	 * and updating the board if it was found
+	 * A multi-jump can be given with only its start and end, or with every square it lands on
+	 * A move that lands on exactly the given squares wins over a longer jump with the same start and end
+	 *
+	 * @param move from player, like "3a-4b" or "3a-5c-7e"
+	 * @return if move is valid
+	 */
+	public boolean processMove(String move) {
+		String[] parts = move.split("-");
+		
+		if(parts.length < 2 || parts.length > Move.MAX_JUMPS + 1) {
 			return false;
+			
 		}
-		if(playerXTurn && piece != 'x' || !playerXTurn && piece != 'o') {
-			return false;
+		
+		// converts each part of the move string to a square
+		int[] squares = new int[parts.length];
+		for(int i = 0; i < parts.length; i++) {
+			if(parts[i].length() != 2) {
+				return false;
+				
+			}
+			
+			int y = 8 - Character.getNumericValue(parts[i].charAt(0));
+			int x = parts[i].charAt(1) - 'a';
+			squares[i] = Bitboard.square(y, x);
+			
+			// Off the board or on a light square
+			if(squares[i] < 0) {
+				return false;
+				
+			}
+			
 		}
 		
-		// Check if the move is forward and diagonal.
-		if(playerXTurn) {
-			moveDirection = -1;
+		int found = findMove(squares, squares.length);
+		if(found != Move.NONE) {
+			makeMove(found);
+			
+			return true;
 			
 		}
-		else {
-			moveDirection = 1;
+		
+		return false;
+		
+	}
+	
+	/**
+	 * Finds the legal move that goes through the given squares, does not change the board or allocate
+	 * A multi-jump can be given with only its start and end, or with every square it lands on
+	 * A move that lands on exactly the given squares wins over a longer jump with the same start and end
+	 *
+	 * @param squares Start square, then the squares the move lands on, see Bitboard
+	 * @param length  Number of squares used from the array
+	 * @return Packed move, or Move.NONE if no legal move matches
+	 */
+	public int findMove(int[] squares, int length) {
+		if(length < 2 || length > Move.MAX_JUMPS + 1) {
+			return Move.NONE;
+			
 		}
 		
+		int count = generateMoves(moveBuffer);
+		int found = Move.NONE;
 		
-		if(Math.abs(yStart - yEnd) == 1 && Math.abs(xStart - xEnd) == 1) {
-			if((yEnd - yStart) == moveDirection) {
-				return true;
+		for(int i = 0; i < count; i++) {
+			if(!matchesPath(moveBuffer[i], squares, length)) {
+				continue;
+				
+			}
+			if(length > 2 || Move.jumpCount(moveBuffer[i]) <= 1) {
+				return moveBuffer[i];
+				
+			}
+			if(found == Move.NONE) {
+				found = moveBuffer[i];
+				
 			}
 			
 		}
-		// Check for capturing move.
-		if(Math.abs(xStart - xEnd) == 2 && Math.abs(yStart - yEnd) == 2) {
-			int xMiddle = (xStart + xEnd) / 2;
-			int yMiddle = (yStart + yEnd) / 2;
+		
+		return found;
+		
+	}
+	
+	/**
+	 * Checks if a packed move goes through the given squares
+	 *
+	 * @param move    Packed move, see Move
+	 * @param squares Start square, then the squares the move lands on, or only the start and end
+	 * @param length  Number of squares used from the array
+	 * @return If the move matches
+	 */
+	private static boolean matchesPath(int move, int[] squares, int length) {
+		int last = length - 1;
+		
+		if(Move.from(move) != squares[0] || Move.to(move) != squares[last]) {
+			return false;
 			
-			if(playerXTurn) {
-				opponentPiece = 'o';
-			}
-			else {
-				opponentPiece = 'x';
-			}
+		}
+		if(length == 2) {
+			return true;
 			
-			if(board[yMiddle][xMiddle] == opponentPiece) {
-				if(this.takingMove) {
-					board[yMiddle][xMiddle] = '_'; // Capture the piece
-					
-				}
+		}
+		if(Move.jumpCount(move) != last) {
+			return false;
+			
+		}
+		
+		for(int i = 1; i < last; i++) {
+			if(Move.landing(move, i - 1) != squares[i]) {
+				return false;
 				
+			}
+			
+		}
+		
+		return true;
+		
+	}
+	
+	/**
+	 * Processes a packed move, the same as the String version without parsing
+	 *
+	 * @param move Packed move, see Move
+	 * @return if move is valid
+	 */
+	public boolean processMove(int move) {
+		if(isLegalMove(move)) {
+			makeMove(move);
+			
+			return true;
+			
+		}
+		
+		return false;
+		
+	}
+	
+	/**
+	 * Checks if a packed move is one of the legal moves, does not change the board
+	 *
+	 * @param move Packed move, see Move
+	 * @return if move is valid
+	 */
+	public boolean isLegalMove(int move) {
+		int count = generateMoves(moveBuffer);
+		
+		for(int i = 0; i < count; i++) {
+			if(moveBuffer[i] == move) {
 				return true;
 				
 			}
+			
 		}
 		
 		return false;
@@ -161,117 +584,453 @@ public class CheckersLogic {
 	}
 	
 	/**
-	 * Updates the board with the new move
+	 * Fills the buffer with every legal move for the player whose turn it is
+	 * Jumping is forced, so if there are captures only the captures are legal
+	 * Moves are in square order from the top left
 	 *
-	 * @param xStart x coordinate of piece
-	 * @param yStart y coordinate of piece
-	 * @param xEnd   x coordinate of new move
-	 * @param yEnd   y coordinate of new move
+	 * @param buffer Array to fill, needs room for MAX_MOVES moves
+	 * @return Number of moves put in the buffer
 	 */
-	private void makeMove(int xStart, int yStart, int xEnd, int yEnd) {
-		board[yEnd][xEnd] = board[yStart][xStart];
+	public int generateMoves(int[] buffer) {
+		int count = addCaptures(buffer, 0);
 		
-		board[yStart][xStart] = '_';
+		if(count == 0) {
+			count = addQuietMoves(buffer, 0);
+			
+		}
 		
-		changeTurn();
+		// Generating the moves also tells if the game is over
+		updateMobility(playerXTurn, count > 0);
+		
+		return count;
 		
 	}
 	
 	/**
-	 * Checks if one of the players have pieces left, and moves left
+	 * Fills the buffer with the legal capturing moves for the player whose turn it is
 	 *
-	 * @return players still have pieces and moves
+	 * @param buffer Array to fill, needs room for MAX_MOVES moves
+	 * @return Number of moves put in the buffer
 	 */
-	public boolean checkWin() {
-		boolean xExists = false;
-		boolean oExists = false;
+	public int generateCaptures(int[] buffer) {
+		return addCaptures(buffer, 0);
 		
-		boolean xHasMoves = false;
-		boolean oHasMoves = false;
+	}
+	
+	/**
+	 * Fills the buffer with the moves that don't capture for the player whose turn it is
+	 * They are only legal when generateCaptures finds nothing
+	 *
+	 * @param buffer Array to fill, needs room for MAX_MOVES moves
+	 * @return Number of moves put in the buffer
+	 */
+	public int generateQuietMoves(int[] buffer) {
+		return addQuietMoves(buffer, 0);
 		
-		boolean ogTurn = isPlayerXTurn();
+	}
+	
+	/**
+	 * Adds every complete jump chain for the player whose turn it is
+	 *
+	 * @param buffer Array to fill
+	 * @param count  Index to start adding at
+	 * @return Number of moves in the buffer after adding
+	 */
+	private int addCaptures(int[] buffer, int count) {
+		int own = playerXTurn ? xPieces : oPieces;
+		int opponent = playerXTurn ? oPieces : xPieces;
+		int empty = ~(xPieces | oPieces);
+		int men = own & ~kings;
 		
-		// Check if each player has pieces left and can make a valid move
-		for(int i = 0; i < board.length; i++) {
-			for(int j = 0; j < board.length; j++) {
-				char piece = board[i][j];
-				
-				if(piece == 'x') {
-					playerXTurn = true;
-					
-					xExists = true;
-					
-					if(hasValidMoves(j, i, piece)) {
-						xHasMoves = true;
-						
-					}
+		// Only visit the pieces that have a jump
+		int jumpers = Bitboard.jumpers(men, opponent, empty, playerXTurn, !playerXTurn)
+				| Bitboard.jumpers(own & kings, opponent, empty, true, true);
+			
+		while(jumpers != 0) {
+			int from = Integer.numberOfTrailingZeros(jumpers);
+			boolean king = (kings & (1 << from)) != 0;
+			
+			// The piece leaves its square, so a king's chain can come back through it
+			count = addJumps(buffer, count, from, king, opponent, empty | (1 << from));
+			jumpers &= jumpers - 1;
+			
+		}
+		
+		return count;
+		
+	}
+	
+	/**
+	 * Adds every jump chain of one piece
+	 * The chains are followed depth first with the chain stack instead of recursion, one frame per jump
+	 * A chain only ends when the piece has no more jumps, or when a man reaches the far row and is crowned
+	 *
+	 * @param buffer   Array to fill
+	 * @param count    Index to start adding at
+	 * @param from     Square the piece starts on
+	 * @param king     If the piece is a king
+	 * @param opponent Squares of the other player's pieces
+	 * @param empty    Squares the piece can land on
+	 * @return Number of moves in the buffer after adding
+	 */
+	private int addJumps(int[] buffer, int count, int from, boolean king, int opponent, int empty) {
+		int crownRow = playerXTurn ? Bitboard.TOP_ROW : Bitboard.BOTTOM_ROW;
+		int first = Bitboard.firstDirection(playerXTurn, king);
+		int last = Bitboard.lastDirection(playerXTurn, king);
+		int depth = 0;
+		
+		// The first frame has no jumps yet, its move is a step from the start square to itself
+		chainSquares[0] = from;
+		chainMoves[0] = Move.step(from, from);
+		chainCaptured[0] = 0;
+		chainDirections[0] = last;
+		chainExtended[0] = false;
+		
+		while(depth >= 0) {
+			int direction = chainDirections[depth];
+			
+			if(direction < first) {
+				// Every direction is tried, a chain that couldn't go on is a complete move
+				if(!chainExtended[depth] && depth > 0) {
+					buffer[count++] = chainMoves[depth];
 					
 				}
-				else if(piece == 'o') {
-					playerXTurn = false;
-					oExists = true;
-					
-					if(hasValidMoves(j, i, piece)) {
-						
-						oHasMoves = true;
-						
-					}
+				
+				depth--;
+				continue;
+				
+			}
+			
+			chainDirections[depth]--;
+			
+			// Pieces already jumped stay on the board until the move is over and can't be jumped twice
+			int square = chainSquares[depth];
+			int middle = Bitboard.neighbor(direction, square) & opponent & ~chainCaptured[depth];
+			int landing = Bitboard.jump(direction, square) & empty;
+			
+			if(middle == 0 || landing == 0) {
+				continue;
+				
+			}
+			
+			// Can't happen, see Move.MAX_JUMPS, but a longer chain must never be cut short into a legal looking move
+			if(depth == Move.MAX_JUMPS) {
+				throw new IllegalStateException("Jump chain longer than " + Move.MAX_JUMPS + " jumps");
+				
+			}
+			
+			int to = Integer.numberOfTrailingZeros(landing);
+			int move = Move.addJump(chainMoves[depth], to, direction);
+			chainExtended[depth] = true;
+			
+			if(!king && (landing & crownRow) != 0) {
+				buffer[count++] = move;
+				continue;
+				
+			}
+			
+			depth++;
+			chainSquares[depth] = to;
+			chainMoves[depth] = move;
+			chainCaptured[depth] = chainCaptured[depth - 1] | middle;
+			chainDirections[depth] = last;
+			chainExtended[depth] = false;
+			
+		}
+		
+		return count;
+		
+	}
+	
+	/**
+	 * Adds every one square step for the player whose turn it is
+	 *
+	 * @param buffer Array to fill
+	 * @param count  Index to start adding at
+	 * @return Number of moves in the buffer after adding
+	 */
+	private int addQuietMoves(int[] buffer, int count) {
+		int own = playerXTurn ? xPieces : oPieces;
+		int empty = ~(xPieces | oPieces);
+		
+		// Only visit the pieces that have a step
+		int movers = Bitboard.movers(own & ~kings, empty, playerXTurn, !playerXTurn)
+				| Bitboard.movers(own & kings, empty, true, true);
+			
+		while(movers != 0) {
+			int from = Integer.numberOfTrailingZeros(movers);
+			boolean king = (kings & (1 << from)) != 0;
+			int first = Bitboard.firstDirection(playerXTurn, king);
+			
+			for(int direction = Bitboard.lastDirection(playerXTurn, king); direction >= first; direction--) {
+				int target = Bitboard.neighbor(direction, from) & empty;
+				
+				if(target != 0) {
+					buffer[count++] = Move.step(from, Integer.numberOfTrailingZeros(target));
 					
 				}
 				
 			}
 			
+			movers &= movers - 1;
+			
 		}
 		
-		playerXTurn = ogTurn;
-		
-		// Return true if either player has no pieces or no valid moves
-		return !xExists || !xHasMoves || !oExists || !oHasMoves;
+		return count;
 		
 	}
 	
 	/**
-	 * Checks if one of the players can make a valid move
+	 * Updates the board with the new move, removes any jumped pieces and crowns a man that reaches the far row
+	 * The move is not validated, it should come from generateMoves
+	 * Everything needed to take the move back is pushed onto the undo stack
 	 *
-	 * @param xStart    x coordinate of the piece
-	 * @param yStart    y coordinate of the piece
-	 * @param pieceType type of the piece ('x' or 'o')
-	 * @return true if there are valid moves for the given piece
+	 * @param move Packed move, see Move
 	 */
-	private boolean hasValidMoves(int xStart, int yStart, char pieceType) {
-		this.takingMove = false;
-		int moveDirection; // Player 'x' moves up, 'o' moves down
+	public void makeMove(int move) {
+		int fromBit = 1 << Move.from(move);
+		int toBit = 1 << Move.to(move);
+		// Nothing moves if a king's jumps end on the square they started from
+		int moveBits = fromBit ^ toBit;
+		int captured = Move.capturedMask(move);
+		boolean promoted = (kings & fromBit) == 0 && (toBit & (playerXTurn ? Bitboard.TOP_ROW : Bitboard.BOTTOM_ROW)) != 0;
 		
-		if(pieceType == 'x') {
-			moveDirection = -1;
+		// Save the move before anything changes
+		if(historySize == undoMoves.length) {
+			growHistory();
+			
+		}
+		
+		undoMoves[historySize] = move;
+		undoCapturedKings[historySize] = kings & captured;
+		undoFlags[historySize] = (playerXTurn ? UNDO_X_TURN : 0) | (promoted ? UNDO_PROMOTED : 0);
+		undoHashes[historySize] = hash;
+		undoMobility[historySize] = mobility;
+		historySize++;
+		
+		// Take the moving piece and the captured pieces out of the hash before the bitboards change
+		hash ^= Zobrist.pieces(fromBit | captured, xPieces, kings);
+		
+		int capturedCount = Integer.bitCount(captured);
+		
+		if(playerXTurn) {
+			xPieces ^= moveBits;
+			oPieces &= ~captured;
+			oCount -= capturedCount;
 			
 		}
 		else {
-			moveDirection = 1;
+			oPieces ^= moveBits;
+			xPieces &= ~captured;
+			xCount -= capturedCount;
 			
 		}
 		
-		// Check normal move (1 step diagonal)
-		for(int i = -1; i <= 1; i += 2) { // Check both left (-1) and right (+1)
-			if(validMove(xStart, yStart, xStart + i, yStart + (moveDirection))) {
-				this.takingMove = true;
-				
-				return true; // If any valid move is found
-			}
+		mobility = 0;
+		
+		if(promoted) {
+			kings |= toBit;
+			
+		}
+		else if((kings & fromBit) != 0) {
+			kings ^= moveBits;
+			
 		}
+		kings &= ~captured;
 		
-		// Check for capture moves (2 steps diagonal)
-		for(int i = -2; i <= 2; i += 4) { // Check both left (-2) and right (+2)
-			if(validMove(xStart, yStart, xStart + i, yStart + (2 * moveDirection))) {
-				this.takingMove = true;
-				
-				return true; // If any valid capturing move is found
-			}
+		// Put the piece back into the hash on its new square
+		hash ^= Zobrist.pieces(toBit, xPieces, kings);
+		
+		changeTurn();
+		
+	}
+	
+	/**
+	 * Takes back the last move made with makeMove or processMove
+	 * Puts back the captured pieces, the turn and undoes any promotion
+	 */
+	public void unmakeMove() {
+		if(historySize == 0) {
+			throw new IllegalStateException("No move to undo");
+			
 		}
 		
-		this.takingMove = true;
+		historySize--;
+		int move = undoMoves[historySize];
+		int flags = undoFlags[historySize];
+		int fromBit = 1 << Move.from(move);
+		int toBit = 1 << Move.to(move);
+		int moveBits = fromBit ^ toBit;
+		int captured = Move.capturedMask(move);
+		
+		playerXTurn = (flags & UNDO_X_TURN) != 0;
 		
-		return false; // No valid moves found
+		int capturedCount = Integer.bitCount(captured);
+		
+		if(playerXTurn) {
+			xPieces ^= moveBits;
+			oPieces |= captured;
+			oCount += capturedCount;
+			
+		}
+		else {
+			oPieces ^= moveBits;
+			xPieces |= captured;
+			xCount += capturedCount;
+			
+		}
+		
+		// A piece that was promoted by the move goes back to being a man
+		if((flags & UNDO_PROMOTED) != 0) {
+			kings &= ~toBit;
+			
+		}
+		else if((kings & toBit) != 0) {
+			kings ^= moveBits;
+			
+		}
+		kings |= undoCapturedKings[historySize];
+		hash = undoHashes[historySize];
+		mobility = undoMobility[historySize];
+		
+	}
+	
+	/**
+	 * Gets how many moves can be taken back with unmakeMove
+	 *
+	 * @return Number of moves on the undo stack
+	 */
+	public int getHistorySize() {
+		return historySize;
+		
+	}
+	
+	/**
+	 * Gets the last move that was made
+	 *
+	 * @return Packed move, or Move.NONE if there is no move to undo
+	 */
+	public int getLastMove() {
+		return historySize == 0 ? Move.NONE : undoMoves[historySize - 1];
+		
+	}
+	
+	/**
+	 * Gets the squares the last move changed, so a view only has to redraw those
+	 *
+	 * @return One bit per changed square, see Move.changedMask, or 0 if there is no move to undo
+	 */
+	public int getLastChangedSquares() {
+		return Move.changedMask(getLastMove());
+		
+	}
+	
+	/**
+	 * Doubles the size of the undo stack when a game gets longer than expected
+	 */
+	private void growHistory() {
+		int size = undoMoves.length * 2;
+		
+		undoMoves = Arrays.copyOf(undoMoves, size);
+		undoCapturedKings = Arrays.copyOf(undoCapturedKings, size);
+		undoFlags = Arrays.copyOf(undoFlags, size);
+		undoHashes = Arrays.copyOf(undoHashes, size);
+		undoMobility = Arrays.copyOf(undoMobility, size);
+		
+	}
+	
+	/**
+	 * Empties the undo stack, used when the position is set up by hand
+	 */
+	private void clearHistory() {
+		historySize = 0;
+		
+	}
+	
+	/**
+	 * Checks if one of the players have pieces left, and moves left
+	 *
+	 * @return players still have pieces and moves
+	 */
+	public boolean checkWin() {
+		// Return true if either player has no pieces or no valid moves
+		return !sideCanMove(true) || !sideCanMove(false);
+		
+	}
+	
+	/**
+	 * Checks if the player whose turn it is can't move, which loses the game
+	 *
+	 * @return If the game is over
+	 */
+	public boolean isGameOver() {
+		return !sideCanMove(playerXTurn);
+		
+	}
+	
+	/**
+	 * Checks if a player can move, only looking at the board if it isn't known since the pieces last changed
+	 *
+	 * @param forX If the check is for player x or player o
+	 * @return If the player has a legal move
+	 */
+	private boolean sideCanMove(boolean forX) {
+		int known = forX ? X_KNOWN : O_KNOWN;
+		
+		if((mobility & known) == 0) {
+			// A player with no pieces can't move, no need to look at the board
+			boolean canMove = (forX ? xCount : oCount) > 0 && hasValidMoves(forX);
+			updateMobility(forX, canMove);
+			
+		}
+		
+		return (mobility & (forX ? X_CAN_MOVE : O_CAN_MOVE)) != 0;
+		
+	}
+	
+	/**
+	 * Remembers if a player can move
+	 *
+	 * @param forX    If it's for player x or player o
+	 * @param canMove If the player has a legal move
+	 */
+	private void updateMobility(boolean forX, boolean canMove) {
+		int canMoveBit = forX ? X_CAN_MOVE : O_CAN_MOVE;
+		
+		mobility = (mobility & ~canMoveBit) | (forX ? X_KNOWN : O_KNOWN) | (canMove ? canMoveBit : 0);
+		
+	}
+	
+	/**
+	 * Checks if the game is over, or its result is already known from the endgame tablebase
+	 *
+	 * @param tablebase Tablebase to look the position up in, null to only check the board
+	 * @return If the game is over or can't change result anymore
+	 */
+	public boolean checkWin(EndgameTablebase tablebase) {
+		return checkWin() || (tablebase != null && tablebase.probe(this) != EndgameTablebase.UNKNOWN);
+		
+	}
+	
+	/**
+	 * Checks if one of the players can make a valid move
+	 *
+	 * @param forX If the moves are checked for player x or player o
+	 * @return true if any piece of the player can step or jump
+	 */
+	private boolean hasValidMoves(boolean forX) {
+		int own = forX ? xPieces : oPieces;
+		int opponent = forX ? oPieces : xPieces;
+		int empty = ~(xPieces | oPieces);
+		
+		// Player 'x' moves up, 'o' moves down, kings move both ways
+		int men = own & ~kings;
+		int ownKings = own & kings;
+		
+		int movers = Bitboard.movers(men, empty, forX, !forX) | Bitboard.movers(ownKings, empty, true, true);
+		int jumpers = Bitboard.jumpers(men, opponent, empty, forX, !forX) | Bitboard.jumpers(ownKings, opponent, empty, true, true);
+		
+		return (movers | jumpers) != 0;
 		
 	}
 	
@@ -299,6 +1058,80 @@ public class CheckersLogic {
 		
 	}
 	
+	/**
+	 * Converts a packed move to move notation to pass through the processMove method
+	 * A multi-jump lists every square it lands on, like "3a-5c-7e"
+	 *
+	 * @param move Packed move, see Move
+	 * @return The move in coordinate form
+	 */
+	public String convertToMove(int move) {
+		int from = Move.from(move);
+		int jumps = Move.jumpCount(move);
+		int to = jumps > 1 ? Move.landing(move, 0) : Move.to(move);
+		
+		StringBuilder text = new StringBuilder(convertToMove(Bitboard.col(from), Bitboard.row(from), Bitboard.col(to), Bitboard.row(to)));
+		for(int i = 1; i < jumps; i++) {
+			int square = Move.landing(move, i);
+			text.append('-').append(8 - Bitboard.row(square)).append((char) ('a' + Bitboard.col(square)));
+			
+		}
+		
+		return text.toString();
+		
+	}
+	
+	/**
+	 * Gets the squares of player x's pieces, see Bitboard for the square layout
+	 *
+	 * @return One bit per x piece
+	 */
+	public int getXPieces() {
+		return xPieces;
+		
+	}
+	
+	/**
+	 * Gets the squares of player o's pieces, see Bitboard for the square layout
+	 *
+	 * @return One bit per o piece
+	 */
+	public int getOPieces() {
+		return oPieces;
+		
+	}
+	
+	/**
+	 * Gets how many pieces a player has left
+	 *
+	 * @param forX If the count is for player x or player o
+	 * @return Number of pieces, kings included
+	 */
+	public int getPieceCount(boolean forX) {
+		return forX ? xCount : oCount;
+		
+	}
+	
+	/**
+	 * Gets the squares of the kings of both players, see Bitboard for the square layout
+	 *
+	 * @return One bit per king
+	 */
+	public int getKings() {
+		return kings;
+		
+	}
+	
+	/**
+	 * Gets the Zobrist hash of the position, kept up to date on every move
+	 *
+	 * @return Hash of the pieces and the player to move
+	 */
+	public long getHash() {
+		return hash;
+		
+	}
+	
 	/**
 	 * Checks if it's player 1's turn
 	 *
@@ -313,6 +1146,7 @@ public class CheckersLogic {
 	 */
 	public void changeTurn() {
 		playerXTurn = !playerXTurn;
+		hash ^= Zobrist.O_TO_MOVE;
 		
 	}
 	
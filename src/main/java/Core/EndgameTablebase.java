@@ -0,0 +1,220 @@
+package Core;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Win, loss or draw results for every position with only a few pieces left, read from a file made by TablebaseGenerator
+ * Each slice of the file is memory mapped, so a probe reads the result straight from the file pages
+ * without copying anything onto the heap. Results are from the view of the player to move
+ * The file starts with a header, then one entry per slice (key, offset and number of positions),
+ * then the results packed four to a byte, two bits each
+ *
+ * @author Jacob Barrios
+ * @version 1.0, 10/18/2026
+ */
+public class EndgameTablebase implements AutoCloseable {
+	// Results, stored in two bits
+	public static final int UNKNOWN = 0;
+	public static final int WIN = 1;
+	public static final int LOSS = 2;
+	public static final int DRAW = 3;
+	
+	// "CKTB" at the start of the file, and the version of the rules the results were made with
+	static final int MAGIC = 0x434B5442;
+	static final int VERSION = 2;
+	static final int HEADER_BYTES = 4 * Integer.BYTES;
+	static final int SLICE_ENTRY_BYTES = Integer.BYTES + 2 * Long.BYTES;
+	
+	private final FileChannel channel;
+	private final int maxPieces;
+	// Mapped results of each slice, indexed by slice key, null if the file doesn't have the slice
+	private final MappedByteBuffer[] slices = new MappedByteBuffer[1 << 16];
+	
+	private final LongAdder probes = new LongAdder();
+	private final LongAdder hits = new LongAdder();
+	
+	/**
+	 * Opens a tablebase file
+	 *
+	 * @param file File made by TablebaseGenerator
+	 * @throws IOException If the file can't be read or isn't a tablebase
+	 */
+	public EndgameTablebase(Path file) throws IOException {
+		this.channel = FileChannel.open(file, StandardOpenOption.READ);
+		
+		try {
+			ByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_BYTES);
+			
+			if(header.getInt() != MAGIC) {
+				throw new IOException("Not a tablebase file: " + file);
+				
+			}
+			if(header.getInt() != VERSION) {
+				throw new IOException("Tablebase was made for other rules, generate it again: " + file);
+				
+			}
+			
+			this.maxPieces = header.getInt();
+			int sliceCount = header.getInt();
+			ByteBuffer entries = channel.map(FileChannel.MapMode.READ_ONLY, HEADER_BYTES, (long) sliceCount * SLICE_ENTRY_BYTES);
+			
+			for(int i = 0; i < sliceCount; i++) {
+				int key = entries.getInt();
+				long offset = entries.getLong();
+				long positions = entries.getLong();
+				
+				slices[key] = channel.map(FileChannel.MapMode.READ_ONLY, offset, packedBytes(positions));
+				
+			}
+			
+		}
+		catch(IOException | RuntimeException e) {
+			channel.close();
+			
+			throw e;
+			
+		}
+		
+	}
+	
+	/**
+	 * Looks up the result of the position on a board
+	 *
+	 * @param logic Board to look up
+	 * @return WIN, LOSS or DRAW for the player to move, UNKNOWN if the position isn't in the tablebase
+	 */
+	public int probe(CheckersLogic logic) {
+		return probe(logic.getXPieces(), logic.getOPieces(), logic.getKings(), logic.isPlayerXTurn());
+		
+	}
+	
+	/**
+	 * Looks up the result of a position
+	 *
+	 * @param xPieces     Squares of player x's pieces
+	 * @param oPieces     Squares of player o's pieces
+	 * @param kings       Squares of the kings
+	 * @param playerXTurn If it's player x's turn
+	 * @return WIN, LOSS or DRAW for the player to move, UNKNOWN if the position isn't in the tablebase
+	 */
+	public int probe(int xPieces, int oPieces, int kings, boolean playerXTurn) {
+		// Cheap check first, most positions in a search have too many pieces
+		if(Integer.bitCount(xPieces | oPieces) > maxPieces) {
+			return UNKNOWN;
+			
+		}
+		
+		probes.increment();
+		int result = playerXTurn ? lookup(xPieces, oPieces, kings) : lookup(TablebaseIndex.rotate(oPieces),
+				TablebaseIndex.rotate(xPieces), TablebaseIndex.rotate(kings));
+			
+		if(result != UNKNOWN) {
+			hits.increment();
+			
+		}
+		
+		return result;
+		
+	}
+	
+	/**
+	 * Looks up a position with player x to move
+	 *
+	 * @param xPieces Squares of the player to move
+	 * @param oPieces Squares of the other player
+	 * @param kings   Squares of the kings
+	 * @return Result for the player to move
+	 */
+	private int lookup(int xPieces, int oPieces, int kings) {
+		// A player with no pieces left has no moves
+		if(xPieces == 0) {
+			return LOSS;
+			
+		}
+		if(oPieces == 0) {
+			return UNKNOWN;
+			
+		}
+		
+		MappedByteBuffer slice = slices[TablebaseIndex.sliceKey(xPieces, oPieces, kings)];
+		
+		if(slice == null) {
+			return UNKNOWN;
+			
+		}
+		
+		return read(slice, TablebaseIndex.index(xPieces, oPieces, kings));
+		
+	}
+	
+	/**
+	 * Reads one result out of packed results
+	 *
+	 * @param packed Results packed four to a byte
+	 * @param index  Index of the position
+	 * @return Result stored for the position
+	 */
+	static int read(ByteBuffer packed, long index) {
+		return packed.get((int) (index >>> 2)) >>> ((index & 3) * 2) & 3;
+		
+	}
+	
+	/**
+	 * Gets how many bytes the packed results of a slice take
+	 *
+	 * @param positions Number of positions in the slice
+	 * @return Number of bytes
+	 */
+	static long packedBytes(long positions) {
+		return (positions + 3) / 4;
+		
+	}
+	
+	/**
+	 * Gets the most pieces a position can have to be in the tablebase
+	 *
+	 * @return Number of pieces
+	 */
+	public int getMaxPieces() {
+		return maxPieces;
+		
+	}
+	
+	/**
+	 * Gets how many positions with few enough pieces were looked up
+	 *
+	 * @return Number of probes
+	 */
+	public long getProbes() {
+		return probes.sum();
+		
+	}
+	
+	/**
+	 * Gets how many lookups found a result
+	 *
+	 * @return Number of hits
+	 */
+	public long getHits() {
+		return hits.sum();
+		
+	}
+	
+	/**
+	 * Closes the file, the mapped results stay readable until they are garbage collected
+	 *
+	 * @throws IOException If the file can't be closed
+	 */
+	@Override
+	public void close() throws IOException {
+		channel.close();
+		
+	}
+	
+}
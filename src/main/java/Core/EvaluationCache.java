@@ -0,0 +1,406 @@
+package Core;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Search results kept in a memory mapped file, so they survive restarts and can be shared by engine processes
+ * The file is a header and then buckets of four slots, each slot the key xor'd with the data and the data,
+ * laid out like the TranspositionTable. A writer claims a slot by a compare and set of its data to a marker no entry has,
+ * then writes the key and the data, so a slot only ever has one writer and its key and data are always from the same entry.
+ * A reader that looks while a slot is being written sees a miss, and no lock is held while searching or storing.
+ * A process killed between the claim and the data write leaves that slot unused until the file is deleted
+ * The file lock is only taken while the file is created or its header is checked
+ * Each time the file is opened starts a new generation, which the eviction policy uses to tell old entries from new ones
+ *
+ * @author Jacob Barrios
+ * @version 1.0, 10/18/2026
+ */
+public class EvaluationCache implements AutoCloseable {
+	public static final int DEFAULT_SIZE_MB = 64;
+	// Largest file, the slots are mapped as one buffer
+	public static final int MAX_SIZE_MB = 1024;
+	
+	// Eviction policies for a full bucket, keep the deepest searches or the most recent ones
+	public static final int KEEP_DEEPEST = 0;
+	public static final int KEEP_RECENT = 1;
+	
+	// "CKEC" at the start of the file
+	static final int MAGIC = 0x434B4543;
+	static final int VERSION = 1;
+	// Magic, version, number of buckets and generation, padded so the buckets start on a cache line
+	static final int HEADER_BYTES = 64;
+	private static final int BUCKETS_OFFSET = 2 * Integer.BYTES;
+	private static final int GENERATION_OFFSET = 3 * Integer.BYTES;
+	
+	private static final int SLOTS = 4;
+	private static final int SLOT_BYTES = 2 * Long.BYTES;
+	private static final int BUCKET_BYTES = SLOTS * SLOT_BYTES;
+	// Data of a slot being written, its move has more jumps than any move can so no entry packs to it
+	private static final long CLAIMED = -1L;
+	
+	// Atomic access to the mapped file, which works between processes as well as threads
+	private static final VarHandle LONG = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.nativeOrder());
+	private static final VarHandle INT = MethodHandles.byteBufferViewVarHandle(int[].class, ByteOrder.nativeOrder());
+	
+	// File locks belong to the whole JVM, so two caches opening the same file here at once would overlap
+	private static final Object OPEN_LOCK = new Object();
+	
+	private final FileChannel channel;
+	private final MappedByteBuffer buffer;
+	private final int bucketMask;
+	private final int generation;
+	private final int policy;
+	
+	private final LongAdder probes = new LongAdder();
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder stores = new LongAdder();
+	private final LongAdder lostRaces = new LongAdder();
+	
+	/**
+	 * Opens a cache file, creating it if it doesn't exist
+	 *
+	 * @param file   Cache file, shared by every process that opens it
+	 * @param sizeMb Size of a new file in megabytes, rounded down to a power of two number of buckets,
+	 *               an existing file keeps the size it was made with
+	 * @param policy KEEP_DEEPEST or KEEP_RECENT
+	 * @throws IOException If the file can't be opened or isn't a cache file
+	 */
+	public EvaluationCache(Path file, int sizeMb, int policy) throws IOException {
+		if(sizeMb < 1 || sizeMb > MAX_SIZE_MB) {
+			throw new IllegalArgumentException("Cache size must be 1 to " + MAX_SIZE_MB + " MB: " + sizeMb);
+			
+		}
+		if(policy != KEEP_DEEPEST && policy != KEEP_RECENT) {
+			throw new IllegalArgumentException("Unknown eviction policy: " + policy);
+			
+		}
+		
+		this.policy = policy;
+		this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+		
+		try {
+			int buckets;
+			
+			// Another process could be creating the same file
+			synchronized(OPEN_LOCK) {
+				FileLock lock = channel.lock();
+				
+				try {
+					if(channel.size() == 0) {
+						buckets = Integer.highestOneBit((int) ((long) sizeMb * 1024 * 1024 / BUCKET_BYTES));
+						MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_BYTES + (long) buckets * BUCKET_BYTES);
+						header.order(ByteOrder.nativeOrder()).putInt(0, MAGIC).putInt(Integer.BYTES, VERSION).putInt(BUCKETS_OFFSET, buckets);
+						header.force();
+						
+					}
+					else {
+						if(channel.size() < HEADER_BYTES) {
+							throw new IOException("Not an evaluation cache file: " + file);
+							
+						}
+						
+						MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_BYTES);
+						header.order(ByteOrder.nativeOrder());
+						
+						// A file from a machine with the other byte order fails this check too
+						if(header.getInt(0) != MAGIC) {
+							throw new IOException("Not an evaluation cache file: " + file);
+							
+						}
+						if(header.getInt(Integer.BYTES) != VERSION) {
+							throw new IOException("Evaluation cache was made by another version, delete it: " + file);
+							
+						}
+						
+						buckets = header.getInt(BUCKETS_OFFSET);
+						if(buckets <= 0 || Integer.bitCount(buckets) != 1 || channel.size() != HEADER_BYTES + (long) buckets * BUCKET_BYTES) {
+							throw new IOException("Evaluation cache is damaged, delete it: " + file);
+							
+						}
+						
+					}
+					
+				}
+				finally {
+					lock.release();
+					
+				}
+				
+			}
+			
+			this.buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_BYTES + (long) buckets * BUCKET_BYTES);
+			this.bucketMask = buckets - 1;
+			this.generation = ((int) INT.getAndAdd(buffer, GENERATION_OFFSET, 1) + 1) & 0xFF;
+			
+		}
+		catch(IOException | RuntimeException e) {
+			channel.close();
+			
+			throw e;
+			
+		}
+		
+	}
+	
+	/**
+	 * Looks up a position
+	 *
+	 * @param key Hash of the position
+	 * @return Packed data of the entry, or 0 if the position isn't in the cache
+	 */
+	public long probe(long key) {
+		int index = bucketIndex(key);
+		probes.increment();
+		
+		for(int i = index; i < index + BUCKET_BYTES; i += SLOT_BYTES) {
+			long data = (long) LONG.getAcquire(buffer, i + Long.BYTES);
+			
+			if(data != 0 && data != CLAIMED && ((long) LONG.getAcquire(buffer, i) ^ data) == key) {
+				hits.increment();
+				
+				return data;
+				
+			}
+			
+		}
+		
+		return 0;
+		
+	}
+	
+	/**
+	 * Stores the result of searching a position, a shallower result doesn't replace a deeper one for the same position
+	 * If another thread or process writes the chosen slot at the same time, this result is dropped
+	 *
+	 * @param key   Hash of the position
+	 * @param move  Best move, not Move.NONE
+	 * @param score Score of the position for the player to move, must fit in a short
+	 * @param depth Depth the position was searched to
+	 */
+	public void store(long key, int move, int score, int depth) {
+		int index = bucketIndex(key);
+		int replace = index;
+		int replaceValue = Integer.MAX_VALUE;
+		long replaceData = 0;
+		
+		for(int i = index; i < index + BUCKET_BYTES; i += SLOT_BYTES) {
+			long data = (long) LONG.getAcquire(buffer, i + Long.BYTES);
+			
+			// Another writer has this slot, if every slot is taken the claim below fails
+			if(data == CLAIMED) {
+				continue;
+				
+			}
+			if(data == 0 || ((long) LONG.getAcquire(buffer, i) ^ data) == key) {
+				if(data != 0 && policy == KEEP_DEEPEST && depth(data) > depth) {
+					return;
+					
+				}
+				
+				replace = i;
+				replaceData = data;
+				
+				break;
+				
+			}
+			
+			// Lowest value is replaced, age counts first for KEEP_RECENT and depth first for KEEP_DEEPEST
+			int recency = 0xFF - ((generation - generation(data)) & 0xFF);
+			int value = policy == KEEP_RECENT ? recency << 8 | depth(data) : depth(data) << 8 | recency;
+			
+			if(value < replaceValue) {
+				replace = i;
+				replaceValue = value;
+				replaceData = data;
+				
+			}
+			
+		}
+		
+		long data = pack(move, score, depth, generation);
+		
+		// Claim the slot so no other writer can touch it, then write the key before the data that makes it visible
+		if(!LONG.compareAndSet(buffer, replace + Long.BYTES, replaceData, CLAIMED)) {
+			lostRaces.increment();
+			
+			return;
+			
+		}
+		
+		LONG.setRelease(buffer, replace, key ^ data);
+		LONG.setRelease(buffer, replace + Long.BYTES, data);
+		stores.increment();
+		
+	}
+	
+	/**
+	 * Gets the bucket of a key
+	 *
+	 * @param key Hash of the position
+	 * @return Offset of the bucket in the file
+	 */
+	private int bucketIndex(long key) {
+		// The low bits pick the bucket, the full key is still checked
+		return HEADER_BYTES + ((int) key & bucketMask) * BUCKET_BYTES;
+		
+	}
+	
+	/**
+	 * Packs an entry into one long
+	 * Bits 0-31 hold the move, 32-47 the score, 48-55 the depth and 56-63 the generation
+	 *
+	 * @param move       Best move
+	 * @param score      Score, must fit in a short
+	 * @param depth      Search depth
+	 * @param generation Time the file was opened the entry is from
+	 * @return Packed data
+	 */
+	private static long pack(int move, int score, int depth, int generation) {
+		return (move & 0xFFFFFFFFL)
+				| ((score & 0xFFFFL) << 32)
+				| ((long) (depth & 0xFF) << 48)
+				| ((long) generation << 56);
+		
+	}
+	
+	/**
+	 * Gets the best move from packed data
+	 *
+	 * @param data Packed data from probe
+	 * @return Packed move, see Move
+	 */
+	public static int move(long data) {
+		return (int) data;
+		
+	}
+	
+	/**
+	 * Gets the score from packed data
+	 *
+	 * @param data Packed data from probe
+	 * @return Score for the player to move
+	 */
+	public static int score(long data) {
+		return (short) (data >>> 32);
+		
+	}
+	
+	/**
+	 * Gets the depth from packed data
+	 *
+	 * @param data Packed data from probe
+	 * @return Depth the position was searched to
+	 */
+	public static int depth(long data) {
+		return (int) (data >>> 48) & 0xFF;
+		
+	}
+	
+	/**
+	 * Gets the generation from packed data
+	 *
+	 * @param data Packed data
+	 * @return Time the file was opened the entry is from
+	 */
+	private static int generation(long data) {
+		return (int) (data >>> 56) & 0xFF;
+		
+	}
+	
+	/**
+	 * Reads an eviction policy by name
+	 *
+	 * @param name "deepest" or "recent"
+	 * @return KEEP_DEEPEST or KEEP_RECENT
+	 */
+	public static int parsePolicy(String name) {
+		return switch(name.toLowerCase()) {
+			case "deepest" -> KEEP_DEEPEST;
+			case "recent" -> KEEP_RECENT;
+			default -> throw new IllegalArgumentException("Unknown eviction policy: " + name);
+		};
+		
+	}
+	
+	/**
+	 * Gets how many entries the cache can hold
+	 *
+	 * @return Number of slots
+	 */
+	public long capacity() {
+		return (long) (bucketMask + 1) * SLOTS;
+		
+	}
+	
+	/**
+	 * Gets which time this is the file has been opened, wrapping at 256
+	 *
+	 * @return Generation of the entries stored now
+	 */
+	public int getGeneration() {
+		return generation;
+		
+	}
+	
+	/**
+	 * Gets how many lookups were made
+	 *
+	 * @return Number of probes
+	 */
+	public long getProbes() {
+		return probes.sum();
+		
+	}
+	
+	/**
+	 * Gets how many lookups found the position
+	 *
+	 * @return Number of hits
+	 */
+	public long getHits() {
+		return hits.sum();
+		
+	}
+	
+	/**
+	 * Gets how many results were stored
+	 *
+	 * @return Number of stores
+	 */
+	public long getStores() {
+		return stores.sum();
+		
+	}
+	
+	/**
+	 * Gets how many results were dropped because another writer took the slot first
+	 *
+	 * @return Number of lost races
+	 */
+	public long getLostRaces() {
+		return lostRaces.sum();
+		
+	}
+	
+	/**
+	 * Writes the entries out to the file and closes it
+	 *
+	 * @throws IOException If the file can't be closed
+	 */
+	@Override
+	public void close() throws IOException {
+		buffer.force();
+		channel.close();
+		
+	}
+	
+}
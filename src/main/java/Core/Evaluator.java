@@ -0,0 +1,20 @@
+package Core;
+
+/**
+ * Scores a position for the search engine so different evaluations can be plugged in
+ *
+ * @author Jacob Barrios
+ * @version 1.0, 10/18/2026
+ */
+public interface Evaluator {
+
+	/**
+	 * Scores the position from the point of view of the player whose turn it is
+	 * A positive score means the player to move is better, a man is worth about 100
+	 *
+	 * @param logic Position to score, must not be changed
+	 * @return Score of the position
+	 */
+	int evaluate(CheckersLogic logic);
+	
+}
@@ -0,0 +1,322 @@
+package Core;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Games stored in the binary archive format written by GameArchiveWriter, read through memory mapped buffers
+ * The file is a header, an index with the offset of every game and then the games, so any game is found in O(1)
+ * A game is its result, its start position if it isn't the standard one with player o to move, its number of moves and one byte per move
+ * The move byte holds the start square and the direction of the step or first jump, which picks one legal move
+ * except when a jump chain splits later. Then a second byte says which of those moves it is, in packed move order
+ * Games are replayed through CheckersLogic, so reading them doesn't allocate
+ *
+ * @author Jacob Barrios
+ * @version 1.0, 10/18/2026
+ */
+public class GameArchive implements AutoCloseable {
+	// "CKGA" at the start of the file
+	static final int MAGIC = 0x434B4741;
+	static final int VERSION = 2;
+	// Magic, version and number of games
+	static final int HEADER_BYTES = 2 * Integer.BYTES + Long.BYTES;
+	
+	// Results as they are stored
+	static final int STORED_DRAW = 0;
+	static final int STORED_X_WINS = 1;
+	static final int STORED_O_WINS = 2;
+	static final int STORED_NO_RESULT = 3;
+	
+	// Flag for a game with its own start position, the pieces and turn follow the flags
+	static final int HAS_START = 1;
+	static final int START_BYTES = 3 * Integer.BYTES + 1;
+	
+	// Bits of a move byte, the start square, the direction and if a second byte follows
+	static final int SQUARE_MASK = 0x1F;
+	static final int DIRECTION_SHIFT = 5;
+	static final int SPLIT = 0x80;
+	
+	// Longest game, every move can take two bytes
+	static final int MAX_PLIES = PdnReader.MAX_PLIES;
+	static final int MAX_GAME_BYTES = 2 + START_BYTES + Short.BYTES + 2 * MAX_PLIES;
+	
+	// The file is mapped in chunks that overlap by a whole game, so every game is in one chunk
+	private static final long CHUNK_BYTES = 1L << 30;
+	
+	private final FileChannel channel;
+	private final MappedByteBuffer[] chunks;
+	private final long size;
+	private final long dataStart;
+	
+	// Reused move buffer of each thread replaying games
+	private final ThreadLocal<int[]> buffers = ThreadLocal.withInitial(() -> new int[CheckersLogic.MAX_MOVES]);
+	
+	/**
+	 * Opens an archive file
+	 *
+	 * @param file File made by GameArchiveWriter
+	 * @throws IOException If the file can't be read or isn't a game archive
+	 */
+	public GameArchive(Path file) throws IOException {
+		this.channel = FileChannel.open(file, StandardOpenOption.READ);
+		
+		try {
+			long fileBytes = channel.size();
+			
+			if(fileBytes < HEADER_BYTES) {
+				throw new IOException("Not a game archive: " + file);
+				
+			}
+			
+			MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_BYTES);
+			
+			if(header.getInt() != MAGIC) {
+				throw new IOException("Not a game archive: " + file);
+				
+			}
+			if(header.getInt() != VERSION) {
+				throw new IOException("Game archive was made by another version, convert it again: " + file);
+				
+			}
+			
+			this.size = header.getLong();
+			this.dataStart = HEADER_BYTES + size * Long.BYTES;
+			
+			if(size < 0 || dataStart > fileBytes) {
+				throw new IOException("Game archive is cut off: " + file);
+				
+			}
+			
+			this.chunks = new MappedByteBuffer[(int) ((fileBytes + CHUNK_BYTES - 1) / CHUNK_BYTES)];
+			for(int i = 0; i < chunks.length; i++) {
+				long start = i * CHUNK_BYTES;
+				chunks[i] = channel.map(FileChannel.MapMode.READ_ONLY, start, Math.min(CHUNK_BYTES + MAX_GAME_BYTES, fileBytes - start));
+				
+			}
+			
+		}
+		catch(IOException | RuntimeException e) {
+			channel.close();
+			
+			throw e;
+			
+		}
+		
+	}
+	
+	/**
+	 * Replays a game, the board is left on the last position
+	 *
+	 * @param game  Index of the game, from 0 to size - 1
+	 * @param logic Board to play the game on, its position is replaced
+	 * @param moves Array for the packed moves, needs room for getPlies moves
+	 * @return Number of moves
+	 * @throws IllegalStateException If a stored move isn't legal, which means the file is damaged
+	 */
+	public int replay(long game, CheckersLogic logic, int[] moves) {
+		long offset = offset(game);
+		MappedByteBuffer chunk = chunks[(int) (offset / CHUNK_BYTES)];
+		int at = setUpStart(chunk, (int) (offset % CHUNK_BYTES), logic);
+		int plies = chunk.getShort(at) & 0xFFFF;
+		at += Short.BYTES;
+		int[] buffer = buffers.get();
+		
+		for(int ply = 0; ply < plies; ply++) {
+			int code = chunk.get(at++) & 0xFF;
+			int rank = (code & SPLIT) != 0 ? chunk.get(at++) & 0xFF : 0;
+			int move = decode(buffer, logic.generateMoves(buffer), code, rank);
+			
+			if(move == Move.NONE) {
+				throw new IllegalStateException("Game " + game + " has a move that isn't legal at ply " + ply);
+				
+			}
+			
+			logic.makeMove(move);
+			moves[ply] = move;
+			
+		}
+		
+		return plies;
+		
+	}
+	
+	/**
+	 * Sets up the position a game starts from without replaying it
+	 *
+	 * @param game  Index of the game
+	 * @param logic Board to set up, its position is replaced
+	 */
+	public void setUpStart(long game, CheckersLogic logic) {
+		long offset = offset(game);
+		setUpStart(chunks[(int) (offset / CHUNK_BYTES)], (int) (offset % CHUNK_BYTES), logic);
+		
+	}
+	
+	/**
+	 * Sets up the start position stored in a game record
+	 *
+	 * @param chunk Chunk with the game
+	 * @param at    Where the game starts in the chunk
+	 * @param logic Board to set up
+	 * @return Where the number of moves is in the chunk
+	 */
+	private static int setUpStart(MappedByteBuffer chunk, int at, CheckersLogic logic) {
+		// Skip the result
+		at++;
+		
+		if((chunk.get(at++) & HAS_START) != 0) {
+			logic.setPosition(chunk.getInt(at), chunk.getInt(at + Integer.BYTES), chunk.getInt(at + 2 * Integer.BYTES),
+					chunk.get(at + 3 * Integer.BYTES) != 0);
+			
+			return at + START_BYTES;
+			
+		}
+		
+		logic.setPosition(CheckersLogic.X_START, CheckersLogic.O_START, 0, false);
+		
+		return at;
+		
+	}
+	
+	/**
+	 * Gets the result of a game without replaying it
+	 *
+	 * @param game Index of the game
+	 * @return Result for player x, see PdnGame
+	 */
+	public int getResult(long game) {
+		long offset = offset(game);
+		
+		return switch(chunks[(int) (offset / CHUNK_BYTES)].get((int) (offset % CHUNK_BYTES))) {
+			case STORED_X_WINS -> PdnGame.X_WINS;
+			case STORED_O_WINS -> PdnGame.O_WINS;
+			case STORED_DRAW -> PdnGame.DRAW;
+			default -> PdnGame.NO_RESULT;
+		};
+		
+	}
+	
+	/**
+	 * Finds where a game starts in the file
+	 *
+	 * @param game Index of the game
+	 * @return Offset from the start of the file
+	 */
+	private long offset(long game) {
+		if(game < 0 || game >= size) {
+			throw new IllegalArgumentException("No game " + game + " in an archive of " + size);
+			
+		}
+		
+		long at = HEADER_BYTES + game * Long.BYTES;
+		
+		return dataStart + chunks[(int) (at / CHUNK_BYTES)].getLong((int) (at % CHUNK_BYTES));
+		
+	}
+	
+	/**
+	 * Gets the direction of a move's step or first jump
+	 *
+	 * @param move Packed move
+	 * @return Direction, see Bitboard
+	 */
+	static int firstDirection(int move) {
+		if(Move.isCapture(move)) {
+			return Move.jumpDirection(move, 0);
+			
+		}
+		
+		int direction = Bitboard.UP_LEFT;
+		while(Bitboard.neighbor(direction, Move.from(move)) != 1 << Move.to(move)) {
+			direction++;
+			
+		}
+		
+		return direction;
+		
+	}
+	
+	/**
+	 * Checks if a legal move starts with the square and direction of a move byte
+	 *
+	 * @param move Packed move
+	 * @param code Move byte
+	 * @return If the move matches
+	 */
+	static boolean matches(int move, int code) {
+		return Move.from(move) == (code & SQUARE_MASK) && firstDirection(move) == ((code >>> DIRECTION_SHIFT) & 3);
+		
+	}
+	
+	/**
+	 * Finds the legal move a move byte stands for
+	 *
+	 * @param moves Legal moves
+	 * @param count Number of legal moves
+	 * @param code  Move byte
+	 * @param rank  Which of the matching moves in packed move order, 0 if there is only one
+	 * @return Packed move, or Move.NONE if none matches
+	 */
+	static int decode(int[] moves, int count, int code, int rank) {
+		for(int i = 0; i < count; i++) {
+			if(matches(moves[i], code) && rank(moves, count, moves[i]) == rank) {
+				return moves[i];
+				
+			}
+			
+		}
+		
+		return Move.NONE;
+		
+	}
+	
+	/**
+	 * Counts the legal moves with the same start and direction as a move that come before it in packed move order
+	 * Sorting by the packed move keeps the archive the same whatever order the moves are generated in
+	 *
+	 * @param moves Legal moves
+	 * @param count Number of legal moves
+	 * @param move  Move to rank, one of the legal moves
+	 * @return Rank of the move, 0 for the first
+	 */
+	static int rank(int[] moves, int count, int move) {
+		int code = Move.from(move) | (firstDirection(move) << DIRECTION_SHIFT);
+		int rank = 0;
+		
+		for(int i = 0; i < count; i++) {
+			if(moves[i] < move && matches(moves[i], code)) {
+				rank++;
+				
+			}
+			
+		}
+		
+		return rank;
+		
+	}
+	
+	/**
+	 * Gets how many games the archive has
+	 *
+	 * @return Number of games
+	 */
+	public long size() {
+		return size;
+		
+	}
+	
+	/**
+	 * Closes the file, the mapped games stay readable until they are garbage collected
+	 *
+	 * @throws IOException If the file can't be closed
+	 */
+	@Override
+	public void close() throws IOException {
+		channel.close();
+		
+	}
+	
+}
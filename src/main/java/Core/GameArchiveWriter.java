@@ -0,0 +1,224 @@
+package Core;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Writes games in the binary archive format read by GameArchive, one game at a time
+ * The games go to a temporary file next to the archive while the offsets are collected,
+ * then close writes the header and index and copies the games after them
+ *
+ * @author Jacob Barrios
+ * @version 1.0, 10/18/2026
+ */
+public class GameArchiveWriter implements Closeable {
+	private final Path file;
+	private final Path games;
+	private final DataOutputStream out;
+	private final CheckersLogic logic = new CheckersLogic();
+	private final int[] buffer = new int[CheckersLogic.MAX_MOVES];
+	
+	// Offset of every game from the start of the games
+	private long[] offsets = new long[1024];
+	private long size;
+	private long written;
+	private boolean closed;
+	
+	/**
+	 * Creates an archive file
+	 *
+	 * @param file File to write, replaced when the writer is closed
+	 * @throws IOException If the temporary file can't be created
+	 */
+	public GameArchiveWriter(Path file) throws IOException {
+		this.file = file;
+		this.games = file.resolveSibling(file.getFileName() + ".tmp");
+		this.out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(games)));
+		
+	}
+	
+	/**
+	 * Adds a game
+	 *
+	 * @param start  Start position of the game, only the pieces and turn are used
+	 * @param moves  Packed moves of the game in order
+	 * @param count  Number of moves
+	 * @param result Result for player x, see PdnGame
+	 * @throws IOException              If the game can't be written
+	 * @throws IllegalArgumentException If the game is too long or a move isn't legal
+	 */
+	public void add(CheckersLogic start, int[] moves, int count, int result) throws IOException {
+		if(count > GameArchive.MAX_PLIES) {
+			throw new IllegalArgumentException("Game is longer than " + GameArchive.MAX_PLIES + " moves");
+			
+		}
+		
+		logic.copyFrom(start);
+		// Games from PDN files without a FEN tag start like standard PDN, with player o to move
+		boolean usual = logic.getXPieces() == CheckersLogic.X_START && logic.getOPieces() == CheckersLogic.O_START && logic.getKings() == 0
+				&& !logic.isPlayerXTurn();
+			
+		// Check every move before anything is written, so a bad game leaves the file as it was
+		for(int ply = 0; ply < count; ply++) {
+			if(!logic.processMove(moves[ply])) {
+				throw new IllegalArgumentException("Move " + (ply + 1) + " isn't legal");
+				
+			}
+			
+		}
+		
+		if(size == offsets.length) {
+			offsets = Arrays.copyOf(offsets, offsets.length * 2);
+			
+		}
+		
+		offsets[(int) size++] = written;
+		logic.copyFrom(start);
+		
+		out.writeByte(switch(result) {
+			case PdnGame.X_WINS -> GameArchive.STORED_X_WINS;
+			case PdnGame.O_WINS -> GameArchive.STORED_O_WINS;
+			case PdnGame.DRAW -> GameArchive.STORED_DRAW;
+			default -> GameArchive.STORED_NO_RESULT;
+		});
+		out.writeByte(usual ? 0 : GameArchive.HAS_START);
+		written += 2;
+		
+		if(!usual) {
+			out.writeInt(logic.getXPieces());
+			out.writeInt(logic.getOPieces());
+			out.writeInt(logic.getKings());
+			out.writeByte(logic.isPlayerXTurn() ? 1 : 0);
+			written += GameArchive.START_BYTES;
+			
+		}
+		
+		out.writeShort(count);
+		written += Short.BYTES;
+		
+		for(int ply = 0; ply < count; ply++) {
+			int legal = logic.generateMoves(buffer);
+			int code = Move.from(moves[ply]) | (GameArchive.firstDirection(moves[ply]) << GameArchive.DIRECTION_SHIFT);
+			int rank = GameArchive.rank(buffer, legal, moves[ply]);
+			
+			// A second byte is only needed if another legal move starts the same way
+			if(rank > 0 || GameArchive.decode(buffer, legal, code, 1) != Move.NONE) {
+				out.writeByte(code | GameArchive.SPLIT);
+				out.writeByte(rank);
+				written += 2;
+				
+			}
+			else {
+				out.writeByte(code);
+				written++;
+				
+			}
+			
+			logic.makeMove(moves[ply]);
+			
+		}
+		
+	}
+	
+	/**
+	 * Adds a game read from a PDN file
+	 *
+	 * @param game Game to add
+	 * @return If the game was added, games with an unreadable or illegal move are skipped
+	 * @throws IOException If the game can't be written
+	 */
+	public boolean add(PdnGame game) throws IOException {
+		if(game.getError() != null || game.getPlies() > GameArchive.MAX_PLIES) {
+			return false;
+			
+		}
+		
+		CheckersLogic start = new CheckersLogic();
+		int[] moves = new int[game.getPlies()];
+		
+		try {
+			game.setUpStart(start);
+			
+			if(game.replay(logic, moves) < game.getPlies()) {
+				return false;
+				
+			}
+			
+		}
+		catch(IllegalArgumentException e) {
+			// The FEN tag isn't a position
+			return false;
+			
+		}
+		
+		add(start, moves, game.getPlies(), game.getResult());
+		
+		return true;
+		
+	}
+	
+	/**
+	 * Gets how many games have been added
+	 *
+	 * @return Number of games
+	 */
+	public long size() {
+		return size;
+		
+	}
+	
+	/**
+	 * Writes the header and index and then the games
+	 *
+	 * @throws IOException If the archive can't be written
+	 */
+	@Override
+	public void close() throws IOException {
+		if(closed) {
+			return;
+			
+		}
+		
+		closed = true;
+		out.close();
+		
+		try {
+			try(DataOutputStream header = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)))) {
+				header.writeInt(GameArchive.MAGIC);
+				header.writeInt(GameArchive.VERSION);
+				header.writeLong(size);
+				
+				for(int i = 0; i < size; i++) {
+					header.writeLong(offsets[i]);
+					
+				}
+				
+			}
+			
+			try(FileChannel target = FileChannel.open(file, StandardOpenOption.APPEND);
+					FileChannel source = FileChannel.open(games, StandardOpenOption.READ)) {
+				long copied = 0;
+				
+				while(copied < written) {
+					copied += source.transferTo(copied, written - copied, target);
+					
+				}
+				
+			}
+			
+		}
+		finally {
+			Files.deleteIfExists(games);
+			
+		}
+		
+	}
+	
+}
@@ -0,0 +1,331 @@
+package Core;
+
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Plays engine games on a number of boards without end, so they can be watched live
+ * Like Tournament, every board's games run on a virtual thread and the searches run on a pool with one thread per core
+ * After every move the board's latest update replaces the one before it, so a viewer that polls once per frame
+ * only ever sees the newest position of each board no matter how many moves were made since it last looked
+ *
+ * @author Jacob Barrios
+ * @version 1.0, 10/18/2026
+ */
+public class GameRunner implements AutoCloseable {
+	private final int boards;
+	private final ThreadLocal<SearchEngine> engines;
+	private final int searchThreads;
+	private final long seed;
+	private volatile long moveDelayMillis;
+	
+	// Newest update of each board not yet taken by the viewer
+	private final AtomicReferenceArray<Update> latest;
+	private final LongAdder games = new LongAdder();
+	private final LongAdder moves = new LongAdder();
+	
+	private ExecutorService searchPool;
+	private ExecutorService gamePool;
+	private volatile boolean running;
+	
+	/**
+	 * Position of a board after a move, only read after it is taken
+	 */
+	public static final class Update {
+		private final long game;
+		private final int ply;
+		private final int move;
+		private final Position position;
+		
+		/**
+		 * Constructor for the update, copies the position from the board
+		 *
+		 * @param game  Number of the game on its board
+		 * @param ply   Moves made in the game so far
+		 * @param logic Board after the move
+		 */
+		private Update(long game, int ply, CheckersLogic logic) {
+			this.game = game;
+			this.ply = ply;
+			this.move = logic.getLastMove();
+			this.position = logic.getPosition();
+			
+		}
+		
+		/**
+		 * Gets the number of the game on its board, it goes up by one every time a game ends
+		 *
+		 * @return Game number starting at 0
+		 */
+		public long getGame() {
+			return game;
+			
+		}
+		
+		/**
+		 * Gets how many moves were made in the game
+		 *
+		 * @return Ply of the position, 0 for the start of a game
+		 */
+		public int getPly() {
+			return ply;
+			
+		}
+		
+		/**
+		 * Gets the move that led to the position
+		 *
+		 * @return Packed move, Move.NONE at the start of a game
+		 */
+		public int getMove() {
+			return move;
+			
+		}
+		
+		/**
+		 * Gets the position after the move
+		 *
+		 * @return Snapshot of the board
+		 */
+		public Position getPosition() {
+			return position;
+			
+		}
+		
+		/**
+		 * Puts the position on a board, replacing what was there and emptying its undo stack
+		 *
+		 * @param logic Board to set up
+		 */
+		public void setUp(CheckersLogic logic) {
+			logic.setPosition(position);
+			
+		}
+		
+	}
+	
+	/**
+	 * Constructor for the runner
+	 *
+	 * @param boards        Number of games played at once
+	 * @param engine        Makes the engine, called once per search thread
+	 * @param searchThreads Number of searches that can run at once, usually the number of cores
+	 * @param seed          Seed for the random openings
+	 */
+	public GameRunner(int boards, Supplier<SearchEngine> engine, int searchThreads, long seed) {
+		if(boards < 1) {
+			throw new IllegalArgumentException("Need at least one board: " + boards);
+			
+		}
+		
+		this.boards = boards;
+		this.engines = ThreadLocal.withInitial(engine);
+		this.searchThreads = Math.max(1, searchThreads);
+		this.seed = seed;
+		this.latest = new AtomicReferenceArray<>(boards);
+		
+	}
+	
+	/**
+	 * Starts a game on every board
+	 */
+	public synchronized void start() {
+		if(running) {
+			throw new IllegalStateException("Games are already running");
+			
+		}
+		
+		running = true;
+		searchPool = Executors.newFixedThreadPool(searchThreads, task -> {
+			Thread thread = new Thread(task, "live-game-search");
+			thread.setDaemon(true);
+			
+			return thread;
+			
+		});
+		gamePool = Executors.newVirtualThreadPerTaskExecutor();
+		
+		for(int board = 0; board < boards; board++) {
+			int index = board;
+			gamePool.execute(() -> playGames(index));
+			
+		}
+		
+	}
+	
+	/**
+	 * Stops every game, a search that is running is abandoned
+	 */
+	@Override
+	public synchronized void close() {
+		if(!running) {
+			return;
+			
+		}
+		
+		running = false;
+		gamePool.shutdownNow();
+		searchPool.shutdownNow();
+		
+		try {
+			gamePool.awaitTermination(1, TimeUnit.SECONDS);
+			
+		}
+		catch(InterruptedException e) {
+			Thread.currentThread().interrupt();
+			
+		}
+		
+	}
+	
+	/**
+	 * Plays games on one board until the runner is closed
+	 *
+	 * @param board Index of the board
+	 */
+	private void playGames(int board) {
+		try {
+			for(long game = 0; running; game++) {
+				playGame(board, game);
+				games.increment();
+				
+				// Leave the finished game on screen for a moment
+				Thread.sleep(2 * moveDelayMillis);
+				
+			}
+			
+		}
+		catch(InterruptedException e) {
+			// Closed while waiting
+			
+		}
+		catch(ExecutionException e) {
+			if(running) {
+				throw new IllegalStateException("Game failed", e.getCause());
+				
+			}
+			
+		}
+		catch(RejectedExecutionException e) {
+			// The search pool was shut down by close between the check of running and the submit
+			if(running) {
+				throw e;
+				
+			}
+			
+		}
+		
+	}
+	
+	/**
+	 * Plays one game, publishing the position after every move
+	 *
+	 * @param board Index of the board
+	 * @param game  Number of the game on the board
+	 * @throws InterruptedException If the runner is closed
+	 * @throws ExecutionException   If a search fails
+	 */
+	private void playGame(int board, long game) throws InterruptedException, ExecutionException {
+		CheckersLogic logic = new CheckersLogic();
+		int[] buffer = new int[CheckersLogic.MAX_MOVES];
+		long[] seen = new long[Tournament.MAX_PLIES + 1];
+		// Every board and game gets a different opening
+		Random random = new Random(seed + game * boards + board);
+		
+		latest.set(board, new Update(game, 0, logic));
+		
+		for(int ply = 0; ply < Tournament.MAX_PLIES && running; ply++) {
+			int count = logic.generateMoves(buffer);
+			
+			if(count == 0 || Tournament.repeated(seen, ply, logic.getHash())) {
+				return;
+				
+			}
+			
+			seen[ply] = logic.getHash();
+			
+			if(ply < Tournament.OPENING_PLIES) {
+				logic.makeMove(buffer[random.nextInt(count)]);
+				
+			}
+			else {
+				// Book moves come from the game's seed too, so the game can be played again
+				long bookSeed = random.nextLong();
+				// The game's thread waits here, so the search can use the board
+				logic.makeMove(searchPool.submit(() -> {
+					SearchEngine engine = engines.get();
+					engine.setBookSeed(bookSeed);
+					
+					return engine.search(logic);
+					
+				}).get().getBestMove());
+				
+			}
+			
+			moves.increment();
+			latest.set(board, new Update(game, ply + 1, logic));
+			Thread.sleep(moveDelayMillis);
+			
+		}
+		
+	}
+	
+	/**
+	 * Takes the newest update of a board, updates replaced before they were taken are skipped
+	 *
+	 * @param board Index of the board
+	 * @return Newest update, or null if the board hasn't changed since it was last taken
+	 */
+	public Update take(int board) {
+		return latest.getAndSet(board, null);
+		
+	}
+	
+	/**
+	 * Sets how long each board waits after a move, so the games can be followed by eye
+	 *
+	 * @param moveDelayMillis Wait in milliseconds, 0 to play as fast as the engines can
+	 */
+	public void setMoveDelay(long moveDelayMillis) {
+		this.moveDelayMillis = Math.max(0, moveDelayMillis);
+		
+	}
+	
+	/**
+	 * Gets how many boards are played on
+	 *
+	 * @return Number of boards
+	 */
+	public int getBoards() {
+		return boards;
+		
+	}
+	
+	/**
+	 * Gets how many games have finished
+	 *
+	 * @return Number of games
+	 */
+	public long getGames() {
+		return games.sum();
+		
+	}
+	
+	/**
+	 * Gets how many moves have been made on all boards
+	 *
+	 * @return Number of moves
+	 */
+	public long getMoves() {
+		return moves.sum();
+		
+	}
+	
+}
@@ -0,0 +1,50 @@
+package Core;
+
+/**
+ * Default evaluation for the search engine
+ * Counts material, with a small bonus for men moving up the board and for keeping the back row
+ *
+ * @author Jacob Barrios
+ * @version 1.0, 10/18/2026
+ */
+public class MaterialEvaluator implements Evaluator {
+	public static final int MAN_VALUE = 100;
+	public static final int KING_VALUE = 160;
+	private static final int ADVANCE_BONUS = 3;
+	private static final int BACK_ROW_BONUS = 8;
+	
+	/**
+	 * Scores the position from the point of view of the player whose turn it is
+	 *
+	 * @param logic Position to score
+	 * @return Score of the position
+	 */
+	@Override
+	public int evaluate(CheckersLogic logic) {
+		int kings = logic.getKings();
+		int xMen = logic.getXPieces() & ~kings;
+		int oMen = logic.getOPieces() & ~kings;
+		int xKings = logic.getXPieces() & kings;
+		int oKings = logic.getOPieces() & kings;
+		
+		int score = MAN_VALUE * (Integer.bitCount(xMen) - Integer.bitCount(oMen));
+		score += KING_VALUE * (Integer.bitCount(xKings) - Integer.bitCount(oKings));
+		
+		// Men closer to becoming a king are worth a little more, x moves up and o moves down
+		for(int row = 0; row < 8; row++) {
+			int rowBits = 0xF << (row * 4);
+			
+			score += ADVANCE_BONUS * (7 - row) * Integer.bitCount(xMen & rowBits);
+			score -= ADVANCE_BONUS * row * Integer.bitCount(oMen & rowBits);
+			
+		}
+		
+		// Men left on the back row stop the other player from getting kings
+		score += BACK_ROW_BONUS * Integer.bitCount(xMen & Bitboard.BOTTOM_ROW);
+		score -= BACK_ROW_BONUS * Integer.bitCount(oMen & Bitboard.TOP_ROW);
+		
+		return logic.isPlayerXTurn() ? score : -score;
+		
+	}
+	
+}
@@ -0,0 +1,212 @@
+package Core;
+
+/**
+ * Helper class for moves packed into an int so they can be stored in plain arrays
+ * Bits 0-4 hold the start square, bits 5-9 the end square, bits 10-13 the number of jumps
+ * and every 2 bits from bit 14 up hold the direction of each jump in order
+ * The captured pieces are found by following the jump directions from the start square
+ *
+ * @author Jacob Barrios
+ * @version 1.0, 10/18/2026
+ */
+public final class Move {
+	// Value that is never a legal move, the start and end square can't be the same for a step
+	public static final int NONE = 0;
+	
+	// Most jumps in one move, which is also what fits in the bits left after the squares and jump count
+	// Every landing square of a chain has the same row and column parity as the start square, so every piece it jumps
+	// is on a square of the other parity off the edge of the board. There are only 9 of those, 3 rows by 3 columns,
+	// and a piece can't be jumped twice, so no chain can be longer
+	public static final int MAX_JUMPS = 9;
+	
+	private static final int SQUARE_MASK = 0x1F;
+	private static final int TO_SHIFT = 5;
+	private static final int JUMPS_SHIFT = 10;
+	private static final int JUMPS_MASK = 0xF;
+	private static final int DIRECTIONS_SHIFT = 14;
+	
+	/**
+	 * Private constructor, only static helpers in this class
+	 */
+	private Move() {
+	
+	}
+	
+	/**
+	 * Packs a one square step
+	 *
+	 * @param from Start square
+	 * @param to   End square
+	 * @return The packed move
+	 */
+	public static int step(int from, int to) {
+		return from | (to << TO_SHIFT);
+		
+	}
+	
+	/**
+	 * Packs a single jump
+	 *
+	 * @param from      Start square
+	 * @param to        Landing square
+	 * @param direction Direction of the jump, see Bitboard
+	 * @return The packed move
+	 */
+	public static int jump(int from, int to, int direction) {
+		return from | (to << TO_SHIFT) | (1 << JUMPS_SHIFT) | (direction << DIRECTIONS_SHIFT);
+		
+	}
+	
+	/**
+	 * Adds one more jump to the end of a move
+	 *
+	 * @param move      Packed move, a step from the start square to itself if there are no jumps yet
+	 * @param to        Landing square of the new jump
+	 * @param direction Direction of the new jump, see Bitboard
+	 * @return The packed move with the jump added, the end square is the new landing square
+	 */
+	public static int addJump(int move, int to, int direction) {
+		int jumps = jumpCount(move);
+		int squares = from(move) | (to << TO_SHIFT);
+		
+		return squares | ((jumps + 1) << JUMPS_SHIFT) | (move & (-1 << DIRECTIONS_SHIFT)) | (direction << (DIRECTIONS_SHIFT + 2 * jumps));
+		
+	}
+	
+	/**
+	 * Gets the start square of a move
+	 *
+	 * @param move Packed move
+	 * @return Start square
+	 */
+	public static int from(int move) {
+		return move & SQUARE_MASK;
+		
+	}
+	
+	/**
+	 * Gets the end square of a move
+	 *
+	 * @param move Packed move
+	 * @return End square
+	 */
+	public static int to(int move) {
+		return (move >>> TO_SHIFT) & SQUARE_MASK;
+		
+	}
+	
+	/**
+	 * Gets how many pieces the move jumps
+	 *
+	 * @param move Packed move
+	 * @return Number of jumps, 0 for a step
+	 */
+	public static int jumpCount(int move) {
+		return (move >>> JUMPS_SHIFT) & JUMPS_MASK;
+		
+	}
+	
+	/**
+	 * Checks if the move captures a piece
+	 *
+	 * @param move Packed move
+	 * @return If the move jumps at least one piece
+	 */
+	public static boolean isCapture(int move) {
+		return jumpCount(move) != 0;
+		
+	}
+	
+	/**
+	 * Gets the direction of one jump in the move
+	 *
+	 * @param move  Packed move
+	 * @param index Which jump, starting at 0
+	 * @return Direction of the jump, see Bitboard
+	 */
+	public static int jumpDirection(int move, int index) {
+		return (move >>> (DIRECTIONS_SHIFT + 2 * index)) & 3;
+		
+	}
+	
+	/**
+	 * Gets the square a move lands on after one of its jumps
+	 *
+	 * @param move  Packed move
+	 * @param index Which jump, starting at 0
+	 * @return Landing square of the jump
+	 */
+	public static int landing(int move, int index) {
+		int square = from(move);
+		
+		for(int i = 0; i <= index; i++) {
+			square = Integer.numberOfTrailingZeros(Bitboard.jump(jumpDirection(move, i), square));
+			
+		}
+		
+		return square;
+		
+	}
+	
+	/**
+	 * Turns a move around with the board, see TablebaseIndex.rotate
+	 * Square s becomes square 31 - s and each jump direction the opposite one, so rotating twice gives the move back
+	 *
+	 * @param move Packed move
+	 * @return The same move on the board rotated half a turn
+	 */
+	public static int rotate(int move) {
+		if(move == NONE) {
+			return NONE;
+			
+		}
+		
+		// Flipping every bit of a square or a direction gives its opposite
+		int directions = ((1 << (2 * jumpCount(move))) - 1) << DIRECTIONS_SHIFT;
+		
+		return move ^ SQUARE_MASK ^ (SQUARE_MASK << TO_SHIFT) ^ directions;
+		
+	}
+	
+	/**
+	 * Gets the squares of every piece the move captures
+	 *
+	 * @param move Packed move
+	 * @return One bit for each captured square, 0 for a step
+	 */
+	public static int capturedMask(int move) {
+		int captured = 0;
+		int square = from(move);
+		int jumps = jumpCount(move);
+		
+		// Follow the jumps, the piece passes over the captured square and lands on the next one
+		for(int i = 0; i < jumps; i++) {
+			int direction = jumpDirection(move, i);
+			
+			captured |= Bitboard.neighbor(direction, square);
+			square = Integer.numberOfTrailingZeros(Bitboard.jump(direction, square));
+			
+		}
+		
+		return captured;
+		
+	}
+	
+	/**
+	 * Gets every square a move changes, the start and end squares and the captured squares
+	 * A promotion happens on the end square, so it is covered too
+	 *
+	 * @param move Packed move
+	 * @return One bit for each changed square, 0 for Move.NONE
+	 */
+	public static int changedMask(int move) {
+		if(move == NONE) {
+			return 0;
+			
+		}
+		
+		return (1 << from(move)) | (1 << to(move)) | capturedMask(move);
+		
+	}
+	
+}
@@ -0,0 +1,279 @@
+package Core;
+
+import java.util.Arrays;
+import java.util.function.IntPredicate;
+
+/**
+ * Open addressing table of counts keyed by position hash and move, used by the opening book and explorer builders
+ * Each entry has the same number of int counters, what they count is up to the builder
+ * Not thread safe, each thread fills its own table and they can be merged after
+ *
+ * @author Jacob Barrios
+ * @version 1.0, 10/18/2026
+ */
+final class MoveCountTable {
+	private static final int INITIAL_CAPACITY = 1 << 12;
+	
+	// Entries by slot, an empty slot has Move.NONE as its move
+	private long[] hashes = new long[INITIAL_CAPACITY];
+	private int[] moves = new int[INITIAL_CAPACITY];
+	// Counters by field then slot
+	private final int[][] counts;
+	private int size;
+	
+	/**
+	 * Constructor for the table
+	 *
+	 * @param fields Number of counters each entry has
+	 */
+	MoveCountTable(int fields) {
+		this.counts = new int[fields][INITIAL_CAPACITY];
+		
+	}
+	
+	/**
+	 * Finds the slot of the entry for a position and move, adding the entry if it isn't there
+	 * The slot stays valid until the next entry is added
+	 *
+	 * @param hash Position hash
+	 * @param move Packed move
+	 * @return Slot of the entry
+	 */
+	int find(long hash, int move) {
+		// Grow before adding, so the slot found here is still the entry's slot when the counts are added
+		if((size + 1) * 2 > moves.length) {
+			grow();
+			
+		}
+		
+		int mask = moves.length - 1;
+		int slot = slot(hash, move) & mask;
+		
+		// Linear probing, the table is never more than half full so an empty slot is always found
+		while(moves[slot] != Move.NONE && (moves[slot] != move || hashes[slot] != hash)) {
+			slot = (slot + 1) & mask;
+			
+		}
+		
+		if(moves[slot] == Move.NONE) {
+			hashes[slot] = hash;
+			moves[slot] = move;
+			size++;
+			
+		}
+		
+		return slot;
+		
+	}
+	
+	/**
+	 * Adds to one counter of an entry
+	 *
+	 * @param slot   Slot of the entry, from find
+	 * @param field  Which counter
+	 * @param amount Amount to add
+	 */
+	void add(int slot, int field, int amount) {
+		counts[field][slot] += amount;
+		
+	}
+	
+	/**
+	 * Adds every entry of another table with the same fields to the bigger of the two
+	 *
+	 * @param other Table to merge
+	 * @return The merged table
+	 */
+	MoveCountTable merge(MoveCountTable other) {
+		MoveCountTable into = size >= other.size ? this : other;
+		MoveCountTable from = into == this ? other : this;
+		
+		for(int i = 0; i < from.moves.length; i++) {
+			if(from.moves[i] != Move.NONE) {
+				int slot = into.find(from.hashes[i], from.moves[i]);
+				
+				for(int field = 0; field < counts.length; field++) {
+					into.counts[field][slot] += from.counts[field][i];
+					
+				}
+				
+			}
+			
+		}
+		
+		return into;
+		
+	}
+	
+	/**
+	 * Gets the slots of the entries that pass a test, sorted by hash then move
+	 * The hashes are sorted with a radix sort a byte at a time and the few moves of each hash by insertion
+	 *
+	 * @param keep Test of which slots to keep
+	 * @return Slots of the kept entries in order
+	 */
+	int[] sorted(IntPredicate keep) {
+		int[] slots = new int[size];
+		int count = 0;
+		
+		for(int i = 0; i < moves.length; i++) {
+			if(moves[i] != Move.NONE && keep.test(i)) {
+				slots[count++] = i;
+				
+			}
+			
+		}
+		
+		slots = Arrays.copyOf(slots, count);
+		int[] buffer = new int[count];
+		int[] buckets = new int[257];
+		
+		for(int shift = 0; shift < Long.SIZE; shift += 8) {
+			Arrays.fill(buckets, 0);
+			
+			// Flipping the sign bit makes the unsigned byte order the same as signed long order
+			for(int i = 0; i < count; i++) {
+				buckets[radix(slots[i], shift) + 1]++;
+				
+			}
+			for(int i = 0; i < 256; i++) {
+				buckets[i + 1] += buckets[i];
+				
+			}
+			for(int i = 0; i < count; i++) {
+				buffer[buckets[radix(slots[i], shift)]++] = slots[i];
+				
+			}
+			
+			int[] swap = slots;
+			slots = buffer;
+			buffer = swap;
+			
+		}
+		
+		for(int i = 1; i < count; i++) {
+			int slot = slots[i];
+			int j = i;
+			
+			while(j > 0 && hashes[slots[j - 1]] == hashes[slot] && moves[slots[j - 1]] > moves[slot]) {
+				slots[j] = slots[j - 1];
+				j--;
+				
+			}
+			
+			slots[j] = slot;
+			
+		}
+		
+		return slots;
+		
+	}
+	
+	/**
+	 * Gets one byte of a slot's hash for the radix sort
+	 *
+	 * @param slot  Slot of the entry
+	 * @param shift Bit the byte starts at
+	 * @return Byte from 0 to 255
+	 */
+	private int radix(int slot, int shift) {
+		return (int) (((hashes[slot] ^ Long.MIN_VALUE) >>> shift) & 0xFF);
+		
+	}
+	
+	/**
+	 * Mixes a position hash and a move into a slot number
+	 *
+	 * @param hash Position hash
+	 * @param move Packed move
+	 * @return Slot before masking
+	 */
+	private static int slot(long hash, int move) {
+		return (int) (((hash ^ move) * 0x9E3779B97F4A7C15L) >>> 32);
+		
+	}
+	
+	/**
+	 * Doubles the table and puts every entry back in
+	 */
+	private void grow() {
+		long[] oldHashes = hashes;
+		int[] oldMoves = moves;
+		int[][] oldCounts = counts.clone();
+		int capacity = oldMoves.length * 2;
+		int mask = capacity - 1;
+		
+		hashes = new long[capacity];
+		moves = new int[capacity];
+		for(int field = 0; field < counts.length; field++) {
+			counts[field] = new int[capacity];
+			
+		}
+		
+		for(int i = 0; i < oldMoves.length; i++) {
+			if(oldMoves[i] != Move.NONE) {
+				int slot = slot(oldHashes[i], oldMoves[i]) & mask;
+				
+				while(moves[slot] != Move.NONE) {
+					slot = (slot + 1) & mask;
+					
+				}
+				
+				hashes[slot] = oldHashes[i];
+				moves[slot] = oldMoves[i];
+				for(int field = 0; field < counts.length; field++) {
+					counts[field][slot] = oldCounts[field][i];
+					
+				}
+				
+			}
+			
+		}
+		
+	}
+	
+	/**
+	 * Gets the position hash of an entry
+	 *
+	 * @param slot Slot of the entry
+	 * @return Position hash
+	 */
+	long hash(int slot) {
+		return hashes[slot];
+		
+	}
+	
+	/**
+	 * Gets the move of an entry
+	 *
+	 * @param slot Slot of the entry
+	 * @return Packed move
+	 */
+	int move(int slot) {
+		return moves[slot];
+		
+	}
+	
+	/**
+	 * Gets one counter of an entry
+	 *
+	 * @param slot  Slot of the entry
+	 * @param field Which counter
+	 * @return Value of the counter
+	 */
+	int count(int slot, int field) {
+		return counts[field][slot];
+		
+	}
+	
+	/**
+	 * Gets how many different position and move pairs the table has
+	 *
+	 * @return Number of entries
+	 */
+	int size() {
+		return size;
+		
+	}
+	
+}
@@ -0,0 +1,272 @@
+package Core;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Random;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Moves for the opening positions, read from a file made by OpeningBookBuilder
+ * The file is a header followed by records of position hash, move, weight and score, sorted by hash then move
+ * The records are memory mapped and a position is found by binary search, so nothing is read onto the heap
+ * The weight is how many games played the move and the score is how well they went for the player
+ * making it, from 0 for only losses to MAX_SCORE for only wins
+ *
+ * @author Jacob Barrios
+ * @version 1.0, 10/18/2026
+ */
+public class OpeningBook implements AutoCloseable {
+	// Score of a move that won every game it was played in
+	public static final int MAX_SCORE = 1000;
+	// Moves scoring this much below the best book move are still played by default
+	public static final int DEFAULT_MARGIN = 100;
+	
+	// "CKOB" at the start of the file
+	static final int MAGIC = 0x434B4F42;
+	static final int VERSION = 1;
+	static final int HEADER_BYTES = 3 * Integer.BYTES;
+	static final int RECORD_BYTES = Long.BYTES + 3 * Integer.BYTES;
+	
+	private static final int MOVE_OFFSET = Long.BYTES;
+	private static final int WEIGHT_OFFSET = MOVE_OFFSET + Integer.BYTES;
+	private static final int SCORE_OFFSET = WEIGHT_OFFSET + Integer.BYTES;
+	
+	private final FileChannel channel;
+	private final SortedRecords records;
+	private final int size;
+	private volatile int margin = DEFAULT_MARGIN;
+	
+	private final LongAdder probes = new LongAdder();
+	private final LongAdder hits = new LongAdder();
+	
+	/**
+	 * Opens an opening book file
+	 *
+	 * @param file File made by OpeningBookBuilder
+	 * @throws IOException If the file can't be read or isn't an opening book
+	 */
+	public OpeningBook(Path file) throws IOException {
+		this.channel = FileChannel.open(file, StandardOpenOption.READ);
+		
+		try {
+			if(channel.size() < HEADER_BYTES) {
+				throw new IOException("Not an opening book file: " + file);
+				
+			}
+			
+			MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_BYTES);
+			
+			if(header.getInt() != MAGIC) {
+				throw new IOException("Not an opening book file: " + file);
+				
+			}
+			if(header.getInt() != VERSION) {
+				throw new IOException("Opening book was made by another version, build it again: " + file);
+				
+			}
+			
+			this.size = header.getInt();
+			
+			if(size < 0 || HEADER_BYTES + (long) size * RECORD_BYTES > channel.size()) {
+				throw new IOException("Opening book is cut off: " + file);
+				
+			}
+			
+			this.records = new SortedRecords(channel, HEADER_BYTES, size, RECORD_BYTES);
+			
+		}
+		catch(IOException | RuntimeException e) {
+			channel.close();
+			
+			throw e;
+			
+		}
+		
+	}
+	
+	/**
+	 * Picks a book move for the position on a board
+	 * Only moves scoring within the margin of the best legal book move are kept,
+	 * then one of them is picked at random with a chance that grows with its weight
+	 *
+	 * @param logic  Board to look up
+	 * @param random Source of the random choice
+	 * @return Packed move, or Move.NONE if the position isn't in the book
+	 */
+	public int pick(CheckersLogic logic, Random random) {
+		probes.increment();
+		long hash = logic.getHash();
+		long first = records.first(hash);
+		int best = -1;
+		
+		// A different position with the same hash can't have legal moves here, so checking legality is enough
+		for(long i = first; i < size && records.hash(i) == hash; i++) {
+			if(score(i) > best && logic.isLegalMove(move(i))) {
+				best = score(i);
+				
+			}
+			
+		}
+		
+		if(best < 0) {
+			return Move.NONE;
+			
+		}
+		
+		int lowest = best - margin;
+		long total = 0;
+		for(long i = first; i < size && records.hash(i) == hash; i++) {
+			if(score(i) >= lowest && logic.isLegalMove(move(i))) {
+				total += weight(i);
+				
+			}
+			
+		}
+		
+		long target = random.nextLong(total);
+		for(long i = first; i < size && records.hash(i) == hash; i++) {
+			if(score(i) >= lowest && logic.isLegalMove(move(i))) {
+				target -= weight(i);
+				
+				if(target < 0) {
+					hits.increment();
+					
+					return move(i);
+					
+				}
+				
+			}
+			
+		}
+		
+		return Move.NONE;
+		
+	}
+	
+	/**
+	 * Gets every book move for the position on a board, in the order they are stored
+	 *
+	 * @param logic   Board to look up
+	 * @param moves   Array for the moves, needs room for CheckersLogic.MAX_MOVES moves
+	 * @param weights Array for the weight of each move
+	 * @param scores  Array for the score of each move
+	 * @return Number of book moves
+	 */
+	public int probe(CheckersLogic logic, int[] moves, int[] weights, int[] scores) {
+		long hash = logic.getHash();
+		int count = 0;
+		
+		for(long i = records.first(hash); i < size && records.hash(i) == hash && count < moves.length; i++) {
+			if(logic.isLegalMove(move(i))) {
+				moves[count] = move(i);
+				weights[count] = weight(i);
+				scores[count] = score(i);
+				count++;
+				
+			}
+			
+		}
+		
+		return count;
+		
+	}
+	
+	/**
+	 * Gets the move of a record
+	 *
+	 * @param index Index of the record
+	 * @return Packed move
+	 */
+	private int move(long index) {
+		return records.field(index, MOVE_OFFSET);
+		
+	}
+	
+	/**
+	 * Gets the weight of a record
+	 *
+	 * @param index Index of the record
+	 * @return Number of games that played the move
+	 */
+	private int weight(long index) {
+		return records.field(index, WEIGHT_OFFSET);
+		
+	}
+	
+	/**
+	 * Gets the score of a record
+	 *
+	 * @param index Index of the record
+	 * @return Score from 0 to MAX_SCORE
+	 */
+	private int score(long index) {
+		return records.field(index, SCORE_OFFSET);
+		
+	}
+	
+	/**
+	 * Sets how much worse than the best book move a move can score and still be played
+	 * 0 only plays the best moves, MAX_SCORE plays any book move
+	 *
+	 * @param margin Score margin from 0 to MAX_SCORE
+	 */
+	public void setMargin(int margin) {
+		this.margin = Math.max(0, Math.min(margin, MAX_SCORE));
+		
+	}
+	
+	/**
+	 * Gets how much worse than the best book move a move can score and still be played
+	 *
+	 * @return Score margin
+	 */
+	public int getMargin() {
+		return margin;
+		
+	}
+	
+	/**
+	 * Gets how many records the book has
+	 *
+	 * @return Number of records
+	 */
+	public int size() {
+		return size;
+		
+	}
+	
+	/**
+	 * Gets how many positions were looked up with pick
+	 *
+	 * @return Number of probes
+	 */
+	public long getProbes() {
+		return probes.sum();
+		
+	}
+	
+	/**
+	 * Gets how many lookups found a book move
+	 *
+	 * @return Number of hits
+	 */
+	public long getHits() {
+		return hits.sum();
+		
+	}
+	
+	/**
+	 * Closes the file, the mapped records stay readable until they are garbage collected
+	 *
+	 * @throws IOException If the file can't be closed
+	 */
+	@Override
+	public void close() throws IOException {
+		channel.close();
+		
+	}
+	
+}
@@ -0,0 +1,208 @@
+package Core;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Collects the opening moves of finished games and writes them as an opening book file
+ * Every position in the first plies of a game gets one entry per move played from it,
+ * counting the games that played the move and the points they got for the player making it
+ * Entries are kept in a MoveCountTable keyed by position hash and move until the book is written
+ * Games can come from self-play, see Tournament.setBookBuilder, or from game records
+ *
+ * @author Jacob Barrios
+ * @version 1.0, 10/18/2026
+ */
+public class OpeningBookBuilder {
+	public static final int DEFAULT_PLIES = 12;
+	
+	// Counters of each entry, the games that played the move and the points for the player making it,
+	// 2 for a win and 1 for a draw
+	private static final int GAMES = 0;
+	private static final int POINTS = 1;
+	
+	private final int maxPlies;
+	private final MoveCountTable table = new MoveCountTable(2);
+	private long gameCount;
+	
+	/**
+	 * Constructor for the builder
+	 *
+	 * @param maxPlies Plies from the start of each game to put in the book
+	 */
+	public OpeningBookBuilder(int maxPlies) {
+		if(maxPlies < 1) {
+			throw new IllegalArgumentException("Plies must be at least 1: " + maxPlies);
+			
+		}
+		
+		this.maxPlies = maxPlies;
+		
+	}
+	
+	/**
+	 * Adds the opening of a game played from the start position
+	 * Moves after an illegal one are ignored
+	 *
+	 * @param played Packed moves of the game in order
+	 * @param count  Number of moves
+	 * @param result Result for player x, 1 win, 0 draw, -1 loss
+	 */
+	public synchronized void addGame(int[] played, int count, int result) {
+		CheckersLogic logic = new CheckersLogic();
+		
+		for(int ply = 0; ply < Math.min(count, maxPlies); ply++) {
+			if(!logic.isLegalMove(played[ply])) {
+				break;
+				
+			}
+			
+			int forMover = logic.isPlayerXTurn() ? result : -result;
+			add(logic.getHash(), played[ply], forMover + 1);
+			logic.makeMove(played[ply]);
+			
+		}
+		
+		gameCount++;
+		
+	}
+	
+	/**
+	 * Adds a game record, the moves in move notation separated by spaces followed by the result
+	 * The result is "1-0" if player x won, "0-1" if player o won and "1/2-1/2" for a draw
+	 * Move numbers like "1." are skipped
+	 *
+	 * @param record Game record, like "3a-4b 6d-5c 1/2-1/2"
+	 * @return If the record could be read, records with an illegal move or no result are not added
+	 */
+	public boolean addGame(String record) {
+		String[] tokens = record.trim().split("\\s+");
+		int result = parseResult(tokens[tokens.length - 1]);
+		
+		if(result == Integer.MIN_VALUE) {
+			return false;
+			
+		}
+		
+		CheckersLogic logic = new CheckersLogic();
+		int[] played = new int[maxPlies];
+		int count = 0;
+		
+		for(int i = 0; i < tokens.length - 1 && count < maxPlies; i++) {
+			if(tokens[i].endsWith(".")) {
+				continue;
+				
+			}
+			if(!logic.processMove(tokens[i])) {
+				return false;
+				
+			}
+			
+			played[count++] = logic.getLastMove();
+			
+		}
+		
+		addGame(played, count, result);
+		
+		return true;
+		
+	}
+	
+	/**
+	 * Reads the result at the end of a game record
+	 *
+	 * @param text Result text
+	 * @return Result for player x, or Integer.MIN_VALUE if it isn't a result
+	 */
+	private static int parseResult(String text) {
+		return switch(text) {
+			case "1-0" -> 1;
+			case "0-1" -> -1;
+			case "1/2-1/2" -> 0;
+			default -> Integer.MIN_VALUE;
+		};
+		
+	}
+	
+	/**
+	 * Counts one more game playing a move from a position
+	 *
+	 * @param hash   Position hash
+	 * @param move   Packed move
+	 * @param earned Points the player making the move got
+	 */
+	private void add(long hash, int move, int earned) {
+		int slot = table.find(hash, move);
+		table.add(slot, GAMES, 1);
+		table.add(slot, POINTS, earned);
+		
+	}
+	
+	/**
+	 * Writes the book file with the records sorted by hash then move
+	 *
+	 * @param file      File to write, replaced if it exists
+	 * @param minWeight Fewest games a move needs to be in the book
+	 * @return Number of records written
+	 * @throws IOException If the file can't be written
+	 */
+	public synchronized int write(Path file, int minWeight) throws IOException {
+		int[] kept = table.sorted(slot -> table.count(slot, GAMES) >= minWeight);
+		
+		try(OutputStream stream = Files.newOutputStream(file);
+				DataOutputStream out = new DataOutputStream(new BufferedOutputStream(stream))) {
+			out.writeInt(OpeningBook.MAGIC);
+			out.writeInt(OpeningBook.VERSION);
+			out.writeInt(kept.length);
+			
+			for(int slot : kept) {
+				int games = table.count(slot, GAMES);
+				out.writeLong(table.hash(slot));
+				out.writeInt(table.move(slot));
+				out.writeInt(games);
+				// Points are out of 2 per game
+				out.writeInt((int) ((long) table.count(slot, POINTS) * OpeningBook.MAX_SCORE / (2L * games)));
+				
+			}
+			
+		}
+		
+		return kept.length;
+		
+	}
+	
+	/**
+	 * Gets how many different position and move pairs were seen
+	 *
+	 * @return Number of entries
+	 */
+	public synchronized int size() {
+		return table.size();
+		
+	}
+	
+	/**
+	 * Gets how many games were added
+	 *
+	 * @return Number of games
+	 */
+	public synchronized long getGames() {
+		return gameCount;
+		
+	}
+	
+	/**
+	 * Gets how many plies of each game go in the book
+	 *
+	 * @return Number of plies
+	 */
+	public int getMaxPlies() {
+		return maxPlies;
+		
+	}
+	
+}
@@ -0,0 +1,211 @@
+package Core;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * What was played from each position of a game archive and how it scored, read from a file made by OpeningExplorerBuilder
+ * The file is a header followed by records of position hash, move, wins, draws and losses, sorted by hash then move
+ * Wins, draws and losses are for the player making the move. The records are memory mapped and a position is found
+ * by binary search, so a lookup reads a few dozen records and nothing is read onto the heap
+ * Positions are stored as seen by the player to move, turned around like the tablebase when player o is to move,
+ * so games that start with either player to move share their records
+ *
+ * @author Jacob Barrios
+ * @version 1.0, 10/18/2026
+ */
+public class OpeningExplorer implements AutoCloseable {
+	// "CKOX" at the start of the file
+	static final int MAGIC = 0x434B4F58;
+	static final int VERSION = 2;
+	// Magic, version, number of records and number of games
+	static final int HEADER_BYTES = 2 * Integer.BYTES + 2 * Long.BYTES;
+	static final int RECORD_BYTES = Long.BYTES + 4 * Integer.BYTES;
+	
+	private static final int MOVE_OFFSET = Long.BYTES;
+	private static final int WINS_OFFSET = MOVE_OFFSET + Integer.BYTES;
+	private static final int DRAWS_OFFSET = WINS_OFFSET + Integer.BYTES;
+	private static final int LOSSES_OFFSET = DRAWS_OFFSET + Integer.BYTES;
+	
+	private final FileChannel channel;
+	private final SortedRecords records;
+	private final long size;
+	private final long games;
+	
+	/**
+	 * Opens an explorer file
+	 *
+	 * @param file File made by OpeningExplorerBuilder
+	 * @throws IOException If the file can't be read or isn't an explorer file
+	 */
+	public OpeningExplorer(Path file) throws IOException {
+		this.channel = FileChannel.open(file, StandardOpenOption.READ);
+		
+		try {
+			if(channel.size() < HEADER_BYTES) {
+				throw new IOException("Not an opening explorer file: " + file);
+				
+			}
+			
+			MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_BYTES);
+			
+			if(header.getInt() != MAGIC) {
+				throw new IOException("Not an opening explorer file: " + file);
+				
+			}
+			if(header.getInt() != VERSION) {
+				throw new IOException("Opening explorer was made by another version, build it again: " + file);
+				
+			}
+			
+			this.size = header.getLong();
+			this.games = header.getLong();
+			
+			if(size < 0 || HEADER_BYTES + size * RECORD_BYTES > channel.size()) {
+				throw new IOException("Opening explorer is cut off: " + file);
+				
+			}
+			
+			this.records = new SortedRecords(channel, HEADER_BYTES, size, RECORD_BYTES);
+			
+		}
+		catch(IOException | RuntimeException e) {
+			channel.close();
+			
+			throw e;
+			
+		}
+		
+	}
+	
+	/**
+	 * Gets the moves played from the position on a board, in the order they are stored
+	 * Moves that aren't legal on the board belong to another position with the same hash and are left out
+	 *
+	 * @param logic  Board to look up
+	 * @param moves  Array for the moves, needs room for CheckersLogic.MAX_MOVES moves
+	 * @param wins   Array for the games won by the player making each move
+	 * @param draws  Array for the games drawn after each move
+	 * @param losses Array for the games lost by the player making each move
+	 * @return Number of moves
+	 */
+	public int probe(CheckersLogic logic, int[] moves, int[] wins, int[] draws, int[] losses) {
+		long hash = key(logic);
+		int count = 0;
+		
+		for(long i = records.first(hash); i < size && records.hash(i) == hash && count < moves.length; i++) {
+			int move = keyMove(logic, move(i));
+			
+			if(logic.isLegalMove(move)) {
+				moves[count] = move;
+				wins[count] = records.field(i, WINS_OFFSET);
+				draws[count] = records.field(i, DRAWS_OFFSET);
+				losses[count] = records.field(i, LOSSES_OFFSET);
+				count++;
+				
+			}
+			
+		}
+		
+		return count;
+		
+	}
+	
+	/**
+	 * Counts the games that reached the position on a board
+	 *
+	 * @param logic Board to look up
+	 * @return Number of games that made a move from the position
+	 */
+	public long games(CheckersLogic logic) {
+		long hash = key(logic);
+		long total = 0;
+		
+		for(long i = records.first(hash); i < size && records.hash(i) == hash; i++) {
+			if(logic.isLegalMove(keyMove(logic, move(i)))) {
+				total += records.field(i, WINS_OFFSET) + records.field(i, DRAWS_OFFSET) + records.field(i, LOSSES_OFFSET);
+				
+			}
+			
+		}
+		
+		return total;
+		
+	}
+	
+	/**
+	 * Gets the hash a position is stored under, the hash of the position turned around if player o is to move
+	 *
+	 * @param logic Board with the position
+	 * @return Hash with player x to move
+	 */
+	static long key(CheckersLogic logic) {
+		if(logic.isPlayerXTurn()) {
+			return logic.getHash();
+			
+		}
+		
+		return Zobrist.hash(TablebaseIndex.rotate(logic.getOPieces()), TablebaseIndex.rotate(logic.getXPieces()),
+				TablebaseIndex.rotate(logic.getKings()), true);
+		
+	}
+	
+	/**
+	 * Turns a move between the board and the way it is stored, see key
+	 * Turning a move around twice gives it back, so this goes both ways
+	 *
+	 * @param logic Board the move is played on
+	 * @param move  Packed move
+	 * @return The move turned around if player o is to move
+	 */
+	static int keyMove(CheckersLogic logic, int move) {
+		return logic.isPlayerXTurn() ? move : Move.rotate(move);
+		
+	}
+	
+	/**
+	 * Gets the move of a record
+	 *
+	 * @param index Index of the record
+	 * @return Packed move
+	 */
+	private int move(long index) {
+		return records.field(index, MOVE_OFFSET);
+		
+	}
+	
+	/**
+	 * Gets how many records the explorer has
+	 *
+	 * @return Number of records
+	 */
+	public long size() {
+		return size;
+		
+	}
+	
+	/**
+	 * Gets how many games the explorer was built from
+	 *
+	 * @return Number of games
+	 */
+	public long getGames() {
+		return games;
+		
+	}
+	
+	/**
+	 * Closes the file, the mapped records stay readable until they are garbage collected
+	 *
+	 * @throws IOException If the file can't be closed
+	 */
+	@Override
+	public void close() throws IOException {
+		channel.close();
+		
+	}
+	
+}
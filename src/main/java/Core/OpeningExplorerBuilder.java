@@ -0,0 +1,258 @@
+package Core;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Counts what was played from every position of a game archive and writes it as an opening explorer file
+ * Each thread replays its share of the games into its own table keyed by position hash and move as the player to move
+ * sees them, see OpeningExplorer.key,
+ * counting the wins, draws and losses of the player making the move, then the tables are merged
+ * Games without a result are skipped, and only the first plies of each game are counted so the tables stay in memory
+ *
+ * @author Jacob Barrios
+ * @version 1.0, 10/18/2026
+ */
+public class OpeningExplorerBuilder {
+	public static final int DEFAULT_PLIES = 40;
+	
+	// Counters of each entry, for the player making the move
+	private static final int WINS = 0;
+	private static final int DRAWS = 1;
+	private static final int LOSSES = 2;
+	
+	private final int maxPlies;
+	private final int threads;
+	private Table table = new Table();
+	private long games;
+	
+	/**
+	 * Constructor for the builder
+	 *
+	 * @param maxPlies Plies from the start of each game to count
+	 * @param threads  Number of games replayed at once, usually the number of cores
+	 */
+	public OpeningExplorerBuilder(int maxPlies, int threads) {
+		if(maxPlies < 1) {
+			throw new IllegalArgumentException("Plies must be at least 1: " + maxPlies);
+			
+		}
+		
+		this.maxPlies = maxPlies;
+		this.threads = Math.max(1, threads);
+		
+	}
+	
+	/**
+	 * Counts one game, moves after an illegal one are ignored
+	 *
+	 * @param start  Start position of the game, it isn't changed
+	 * @param played Packed moves of the game in order
+	 * @param count  Number of moves
+	 * @param result Result for player x, see PdnGame, games without a result are skipped
+	 */
+	public synchronized void addGame(CheckersLogic start, int[] played, int count, int result) {
+		if(result != PdnGame.NO_RESULT) {
+			table.addGame(new CheckersLogic(start), played, Math.min(count, maxPlies), result);
+			games++;
+			
+		}
+		
+	}
+	
+	/**
+	 * Counts every game of an archive, each thread takes every threads-th game
+	 *
+	 * @param archive Archive to replay
+	 */
+	public void addArchive(GameArchive archive) {
+		ExecutorService pool = Executors.newFixedThreadPool(threads, task -> {
+			Thread thread = new Thread(task, "explorer-replay");
+			thread.setDaemon(true);
+			
+			return thread;
+			
+		});
+		List<Future<Table>> tasks = new ArrayList<>();
+		
+		try {
+			for(int i = 0; i < threads; i++) {
+				int first = i;
+				
+				tasks.add(pool.submit(() -> {
+					Table counted = new Table();
+					CheckersLogic logic = new CheckersLogic();
+					int[] played = new int[GameArchive.MAX_PLIES];
+					
+					for(long game = first; game < archive.size(); game += threads) {
+						int result = archive.getResult(game);
+						
+						if(result != PdnGame.NO_RESULT) {
+							int count = archive.replay(game, logic, played);
+							archive.setUpStart(game, logic);
+							counted.addGame(logic, played, Math.min(count, maxPlies), result);
+							
+						}
+						
+					}
+					
+					return counted;
+					
+				}));
+				
+			}
+			
+			for(Future<Table> task : tasks) {
+				Table counted = task.get();
+				
+				synchronized(this) {
+					games += counted.games;
+					table = table.merge(counted);
+					
+				}
+				
+			}
+			
+		}
+		catch(InterruptedException e) {
+			Thread.currentThread().interrupt();
+			
+			throw new IllegalStateException("Building the explorer was interrupted", e);
+			
+		}
+		catch(ExecutionException e) {
+			throw new IllegalStateException("Replaying a game failed", e.getCause());
+			
+		}
+		finally {
+			pool.shutdownNow();
+			
+		}
+		
+	}
+	
+	/**
+	 * Writes the explorer file with the records sorted by hash then move
+	 *
+	 * @param file     File to write, replaced if it exists
+	 * @param minGames Fewest games a move needs to be in the file
+	 * @return Number of records written
+	 * @throws IOException If the file can't be written
+	 */
+	public synchronized long write(Path file, int minGames) throws IOException {
+		MoveCountTable counts = table.counts;
+		int[] sorted = counts.sorted(slot -> table.games(slot) >= minGames);
+		
+		try(OutputStream stream = Files.newOutputStream(file);
+				DataOutputStream out = new DataOutputStream(new BufferedOutputStream(stream))) {
+			out.writeInt(OpeningExplorer.MAGIC);
+			out.writeInt(OpeningExplorer.VERSION);
+			out.writeLong(sorted.length);
+			out.writeLong(games);
+			
+			for(int slot : sorted) {
+				out.writeLong(counts.hash(slot));
+				out.writeInt(counts.move(slot));
+				out.writeInt(counts.count(slot, WINS));
+				out.writeInt(counts.count(slot, DRAWS));
+				out.writeInt(counts.count(slot, LOSSES));
+				
+			}
+			
+		}
+		
+		return sorted.length;
+		
+	}
+	
+	/**
+	 * Gets how many different position and move pairs were seen
+	 *
+	 * @return Number of entries
+	 */
+	public synchronized int size() {
+		return table.counts.size();
+		
+	}
+	
+	/**
+	 * Gets how many games were counted
+	 *
+	 * @return Number of games
+	 */
+	public synchronized long getGames() {
+		return games;
+		
+	}
+	
+	/**
+	 * Counts of the games replayed by one thread
+	 */
+	private static class Table {
+		private MoveCountTable counts = new MoveCountTable(3);
+		private long games;
+		
+		/**
+		 * Counts the moves of one game
+		 *
+		 * @param logic  Board on the start position of the game, it is played forward
+		 * @param played Packed moves of the game in order
+		 * @param count  Number of moves to count
+		 * @param result Result for player x
+		 */
+		private void addGame(CheckersLogic logic, int[] played, int count, int result) {
+			for(int ply = 0; ply < count; ply++) {
+				if(!logic.isLegalMove(played[ply])) {
+					break;
+					
+				}
+				
+				int forMover = logic.isPlayerXTurn() ? result : -result;
+				int slot = counts.find(OpeningExplorer.key(logic), OpeningExplorer.keyMove(logic, played[ply]));
+				counts.add(slot, forMover > 0 ? WINS : forMover == 0 ? DRAWS : LOSSES, 1);
+				logic.makeMove(played[ply]);
+				
+			}
+			
+			games++;
+			
+		}
+		
+		/**
+		 * Adds the counts of another table to this one
+		 *
+		 * @param other Table to merge
+		 * @return This table
+		 */
+		private Table merge(Table other) {
+			counts = counts.merge(other.counts);
+			games += other.games;
+			
+			return this;
+			
+		}
+		
+		/**
+		 * Counts the games that played the move in a slot
+		 *
+		 * @param slot Slot of the entry
+		 * @return Number of games
+		 */
+		private long games(int slot) {
+			return (long) counts.count(slot, WINS) + counts.count(slot, DRAWS) + counts.count(slot, LOSSES);
+			
+		}
+		
+	}
+	
+}
@@ -0,0 +1,227 @@
+package Core;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * One game read from a PDN file by PdnReader
+ * The moves are kept as the squares written in the file and only checked against the rules by replay,
+ * so a reader can hand games to other threads to be checked
+ * Squares are numbered 1 to 32 like in loadFen, player x is White on 21 to 32 and player o is Black on 1 to 12
+ * A game without a FEN tag starts like standard English draughts, with Black (player o) to move
+ *
+ * @author Jacob Barrios
+ * @version 1.0, 10/18/2026
+ */
+public class PdnGame {
+	// Result for player x
+	public static final int X_WINS = 1;
+	public static final int DRAW = 0;
+	public static final int O_WINS = -1;
+	// The game has no result, written as "*"
+	public static final int NO_RESULT = Integer.MIN_VALUE;
+	// Returned by parseResult for text that isn't a result
+	static final int NOT_A_RESULT = Integer.MAX_VALUE;
+	
+	// A path is packed into a long, the number of squares in the low bits then 5 bits per square
+	private static final int LENGTH_BITS = 4;
+	private static final int SQUARE_BITS = 5;
+	
+	private final Map<String, String> tags;
+	private final long[] paths;
+	private final int plies;
+	private final int result;
+	private final String error;
+	
+	/**
+	 * Constructor for the game, made by PdnReader
+	 *
+	 * @param tags   Tag pairs in the order they were read
+	 * @param paths  Packed squares of each move
+	 * @param plies  Number of moves
+	 * @param result Result for player x, or NO_RESULT
+	 * @param error  What was wrong with the game text, null if it could be read
+	 */
+	PdnGame(Map<String, String> tags, long[] paths, int plies, int result, String error) {
+		this.tags = Collections.unmodifiableMap(tags);
+		this.paths = paths;
+		this.plies = plies;
+		this.result = result;
+		this.error = error;
+		
+	}
+	
+	/**
+	 * Replays the game from its start position, the FEN tag if it has one
+	 * Each move is found among the legal moves, so the board stops at the first move that isn't legal
+	 *
+	 * @param logic Board to play the game on, its position is replaced
+	 * @param moves Array for the packed moves, needs room for getPlies moves
+	 * @return Number of moves played, less than getPlies if a move wasn't legal
+	 * @throws IllegalArgumentException If the FEN tag isn't a valid position
+	 */
+	public int replay(CheckersLogic logic, int[] moves) {
+		setUpStart(logic);
+		
+		int[] squares = new int[Move.MAX_JUMPS + 1];
+		
+		for(int ply = 0; ply < plies; ply++) {
+			int length = pathLength(paths[ply]);
+			
+			for(int i = 0; i < length; i++) {
+				squares[i] = pathSquare(paths[ply], i);
+				
+			}
+			
+			int move = logic.findMove(squares, length);
+			if(move == Move.NONE) {
+				return ply;
+				
+			}
+			
+			logic.makeMove(move);
+			moves[ply] = move;
+			
+		}
+		
+		return plies;
+		
+	}
+	
+	/**
+	 * Puts the start position of the game on a board, the FEN tag if it has one,
+	 * otherwise the standard start with player o to move
+	 *
+	 * @param logic Board to set up, its position is replaced
+	 * @throws IllegalArgumentException If the FEN tag isn't a valid position
+	 */
+	public void setUpStart(CheckersLogic logic) {
+		String fen = tags.get("FEN");
+		
+		if(fen != null) {
+			logic.loadFen(fen);
+			
+		}
+		else {
+			logic.setPosition(CheckersLogic.X_START, CheckersLogic.O_START, 0, false);
+			
+		}
+		
+	}
+	
+	/**
+	 * Packs the squares of one move
+	 *
+	 * @param squares Square indexes, see Bitboard
+	 * @param length  Number of squares, at most Move.MAX_JUMPS + 1
+	 * @return Packed path
+	 */
+	static long packPath(int[] squares, int length) {
+		long path = length;
+		
+		for(int i = 0; i < length; i++) {
+			path |= (long) squares[i] << (LENGTH_BITS + SQUARE_BITS * i);
+			
+		}
+		
+		return path;
+		
+	}
+	
+	/**
+	 * Gets how many squares a packed path has
+	 *
+	 * @param path Packed path
+	 * @return Number of squares
+	 */
+	private static int pathLength(long path) {
+		return (int) (path & ((1 << LENGTH_BITS) - 1));
+		
+	}
+	
+	/**
+	 * Gets one square of a packed path
+	 *
+	 * @param path  Packed path
+	 * @param index Which square, starting at 0
+	 * @return Square index
+	 */
+	private static int pathSquare(long path, int index) {
+		return (int) (path >>> (LENGTH_BITS + SQUARE_BITS * index)) & ((1 << SQUARE_BITS) - 1);
+		
+	}
+	
+	/**
+	 * Reads a game result
+	 *
+	 * @param text Result text, "1-0" if player x won, "0-1" if player o won, "1/2-1/2" for a draw or "*"
+	 * @return Result for player x, NO_RESULT for "*", or NOT_A_RESULT if it isn't a result
+	 */
+	static int parseResult(String text) {
+		return switch(text) {
+			case "1-0" -> X_WINS;
+			case "0-1" -> O_WINS;
+			case "1/2-1/2" -> DRAW;
+			case "*" -> NO_RESULT;
+			default -> NOT_A_RESULT;
+		};
+		
+	}
+	
+	/**
+	 * Writes a game result the way PDN does
+	 *
+	 * @param result Result for player x, or NO_RESULT
+	 * @return Result text
+	 */
+	public static String resultText(int result) {
+		return switch(result) {
+			case X_WINS -> "1-0";
+			case O_WINS -> "0-1";
+			case DRAW -> "1/2-1/2";
+			default -> "*";
+		};
+		
+	}
+	
+	/**
+	 * Gets the tag pairs, like Event or White
+	 *
+	 * @return Tags by name, in the order they were read
+	 */
+	public Map<String, String> getTags() {
+		return tags;
+		
+	}
+	
+	/**
+	 * Gets how many moves the game has
+	 *
+	 * @return Number of moves
+	 */
+	public int getPlies() {
+		return plies;
+		
+	}
+	
+	/**
+	 * Gets the result at the end of the moves
+	 *
+	 * @return Result for player x, 1 win, 0 draw, -1 loss, or NO_RESULT
+	 */
+	public int getResult() {
+		return result;
+		
+	}
+	
+	/**
+	 * Gets what was wrong with the game text, the moves after the problem are not kept
+	 *
+	 * @return Error message, or null if the game could be read
+	 */
+	public String getError() {
+		return error;
+		
+	}
+	
+}
@@ -0,0 +1,485 @@
+package Core;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Reads PDN (Portable Draughts Notation) game records one game at a time
+ * The file is read through a fixed size buffer, so memory doesn't grow with the size of the file,
+ * and every game is cut off at MAX_PLIES moves and its tag values at MAX_TAG_LENGTH characters
+ * Comments, variations and annotations are skipped. Moves are written as square numbers, like "22-18" or "15x22x29"
+ * A game ends at its result, or at the next tag or the end of the file if it has none
+ *
+ * @author Jacob Barrios
+ * @version 1.0, 10/18/2026
+ */
+public class PdnReader implements Closeable {
+	// Most moves kept for one game
+	public static final int MAX_PLIES = 1024;
+	// Longest tag value kept, the rest is skipped
+	public static final int MAX_TAG_LENGTH = 1024;
+	
+	private static final int BUFFER_BYTES = 1 << 16;
+	// Longest token kept, longer tokens can't be moves or results
+	private static final int MAX_TOKEN_LENGTH = 64;
+	private static final int END = -1;
+	
+	private final ReadableByteChannel channel;
+	private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_BYTES);
+	
+	// Reused for every game, copied out when a game is finished
+	private final long[] paths = new long[MAX_PLIES];
+	private final int[] squares = new int[Move.MAX_JUMPS + 1];
+	private final StringBuilder token = new StringBuilder();
+	private long gamesRead;
+	
+	/**
+	 * Opens a PDN file
+	 *
+	 * @param file File to read
+	 * @throws IOException If the file can't be opened
+	 */
+	public PdnReader(Path file) throws IOException {
+		this(FileChannel.open(file, StandardOpenOption.READ));
+		
+	}
+	
+	/**
+	 * Constructor for reading PDN from a channel
+	 *
+	 * @param channel Channel to read, closed with the reader
+	 */
+	public PdnReader(ReadableByteChannel channel) {
+		this.channel = channel;
+		buffer.flip();
+		
+	}
+	
+	/**
+	 * Reads the next game, its moves are not checked against the rules, see PdnGame.replay
+	 *
+	 * @return The game, or null at the end of the file
+	 * @throws IOException If the file can't be read
+	 */
+	public PdnGame next() throws IOException {
+		Map<String, String> tags = new LinkedHashMap<>();
+		int plies = 0;
+		String error = null;
+		boolean started = false;
+		
+		while(true) {
+			int c = skipSpaceAndComments();
+			
+			if(c == END) {
+				if(!started && tags.isEmpty()) {
+					return null;
+					
+				}
+				
+				return finish(tags, plies, PdnGame.NO_RESULT, error);
+				
+			}
+			if(c == '[') {
+				// A tag after the moves starts the next game, this one had no result
+				if(started) {
+					return finish(tags, plies, PdnGame.NO_RESULT, error);
+					
+				}
+				
+				read();
+				if(!readTag(tags) && error == null) {
+					error = "Bad tag";
+					
+				}
+				
+				continue;
+				
+			}
+			
+			started = true;
+			readToken();
+			
+			int result = parseResult();
+			if(result != PdnGame.NOT_A_RESULT) {
+				return finish(tags, plies, result, error);
+				
+			}
+			
+			// Once something is wrong the rest of the moves are skipped up to the result
+			if(error != null || token.charAt(0) == '$') {
+				continue;
+				
+			}
+			
+			int start = skipMoveNumber();
+			if(start == token.length()) {
+				continue;
+				
+			}
+			
+			int length = parseMove(start);
+			if(length < 0) {
+				error = "Bad move " + token.substring(start);
+				
+			}
+			else if(plies == MAX_PLIES) {
+				error = "Game is longer than " + MAX_PLIES + " moves";
+				
+			}
+			else {
+				paths[plies++] = PdnGame.packPath(squares, length);
+				
+			}
+			
+		}
+		
+	}
+	
+	/**
+	 * Makes the game that was read
+	 *
+	 * @param tags   Tag pairs
+	 * @param plies  Number of moves
+	 * @param result Result for player x
+	 * @param error  What was wrong with the game text, or null
+	 * @return The game
+	 */
+	private PdnGame finish(Map<String, String> tags, int plies, int result, String error) {
+		gamesRead++;
+		
+		return new PdnGame(tags, Arrays.copyOf(paths, plies), plies, result, error);
+		
+	}
+	
+	/**
+	 * Reads a tag pair after its '[', like Event "Club match"]
+	 *
+	 * @param tags Tags of the game, the tag is added to them
+	 * @return If the tag could be read
+	 * @throws IOException If the file can't be read
+	 */
+	private boolean readTag(Map<String, String> tags) throws IOException {
+		token.setLength(0);
+		
+		while(peek() != END && peek() != '"' && peek() != ']') {
+			int c = read();
+			
+			if(!Character.isWhitespace(c) && token.length() < MAX_TOKEN_LENGTH) {
+				token.append((char) c);
+				
+			}
+			
+		}
+		
+		String name = token.toString();
+		int quote = read();
+		
+		if(quote != '"' || name.isEmpty()) {
+			if(quote == '"') {
+				skipPast(']');
+				
+			}
+			
+			return false;
+			
+		}
+		
+		// Backslash escapes the next character
+		token.setLength(0);
+		int c;
+		while((c = read()) != END && c != '"') {
+			if(c == '\\') {
+				c = read();
+				
+			}
+			if(c != END && token.length() < MAX_TAG_LENGTH) {
+				token.append((char) c);
+				
+			}
+			
+		}
+		
+		tags.put(name, token.toString());
+		skipPast(']');
+		
+		return c == '"';
+		
+	}
+	
+	/**
+	 * Reads the next token into token, up to a space or the start of a comment or tag
+	 *
+	 * @throws IOException If the file can't be read
+	 */
+	private void readToken() throws IOException {
+		token.setLength(0);
+		
+		while(peek() != END && !Character.isWhitespace(peek()) && "[{(;".indexOf(peek()) < 0) {
+			int c = read();
+			
+			if(token.length() < MAX_TOKEN_LENGTH) {
+				token.append((char) c);
+				
+			}
+			
+		}
+		
+	}
+	
+	/**
+	 * Reads the token as a game result, only short tokens starting like a result are turned into a String
+	 *
+	 * @return Result for player x, PdnGame.NO_RESULT for "*", or PdnGame.NOT_A_RESULT
+	 */
+	private int parseResult() {
+		if(token.length() > "1/2-1/2".length() || "10*".indexOf(token.charAt(0)) < 0) {
+			return PdnGame.NOT_A_RESULT;
+			
+		}
+		
+		return PdnGame.parseResult(token.toString());
+		
+	}
+	
+	/**
+	 * Skips a move number like "12." or "12..." at the start of the token
+	 *
+	 * @return Where the rest of the token starts, the length of the token if it was only a move number
+	 */
+	private int skipMoveNumber() {
+		int i = 0;
+		
+		while(i < token.length() && Character.isDigit(token.charAt(i))) {
+			i++;
+			
+		}
+		if(i == 0 || i == token.length() || token.charAt(i) != '.') {
+			return 0;
+			
+		}
+		while(i < token.length() && token.charAt(i) == '.') {
+			i++;
+			
+		}
+		
+		return i;
+		
+	}
+	
+	/**
+	 * Reads the squares of a move from the token, annotations like "!" or "?" after it are ignored
+	 *
+	 * @param start Where the move starts in the token
+	 * @return Number of squares read into squares, or -1 if it isn't a move
+	 */
+	private int parseMove(int start) {
+		int end = token.length();
+		
+		while(end > start && "!?".indexOf(token.charAt(end - 1)) >= 0) {
+			end--;
+			
+		}
+		
+		int length = 0;
+		int i = start;
+		
+		while(i < end) {
+			int number = 0;
+			int digits = 0;
+			
+			while(i < end && Character.isDigit(token.charAt(i)) && digits < 3) {
+				number = number * 10 + token.charAt(i) - '0';
+				digits++;
+				i++;
+				
+			}
+			
+			// Squares are 1 to 32, separated by '-' for a step or 'x' for a jump
+			if(digits == 0 || number < 1 || number > Bitboard.SQUARES || length == squares.length) {
+				return -1;
+				
+			}
+			
+			squares[length++] = number - 1;
+			
+			if(i < end) {
+				char separator = token.charAt(i++);
+				
+				if((separator != '-' && separator != 'x') || i == end) {
+					return -1;
+					
+				}
+				
+			}
+			
+		}
+		
+		return length < 2 ? -1 : length;
+		
+	}
+	
+	/**
+	 * Skips spaces, comments in braces or after a semicolon and variations in parentheses
+	 *
+	 * @return The next character that isn't skipped, it is not read, or END
+	 * @throws IOException If the file can't be read
+	 */
+	private int skipSpaceAndComments() throws IOException {
+		while(true) {
+			int c = peek();
+			
+			if(c == END) {
+				return END;
+				
+			}
+			if(Character.isWhitespace(c)) {
+				read();
+				
+			}
+			else if(c == '{') {
+				skipPast('}');
+				
+			}
+			else if(c == ';') {
+				skipPast('\n');
+				
+			}
+			else if(c == '(') {
+				skipVariation();
+				
+			}
+			else {
+				return c;
+				
+			}
+			
+		}
+		
+	}
+	
+	/**
+	 * Skips a variation, which can have comments and other variations inside it
+	 *
+	 * @throws IOException If the file can't be read
+	 */
+	private void skipVariation() throws IOException {
+		int depth = 0;
+		int c;
+		
+		while((c = read()) != END) {
+			if(c == '{') {
+				skipPast('}');
+				
+			}
+			else if(c == '(') {
+				depth++;
+				
+			}
+			else if(c == ')' && --depth == 0) {
+				return;
+				
+			}
+			
+		}
+		
+	}
+	
+	/**
+	 * Reads up to and including a character
+	 *
+	 * @param end Character to stop after
+	 * @throws IOException If the file can't be read
+	 */
+	private void skipPast(char end) throws IOException {
+		int c;
+		
+		do {
+			c = read();
+			
+		} while(c != END && c != end);
+		
+	}
+	
+	/**
+	 * Gets the next character without reading it
+	 *
+	 * @return Next character, or END
+	 * @throws IOException If the file can't be read
+	 */
+	private int peek() throws IOException {
+		if(!buffer.hasRemaining() && !fill()) {
+			return END;
+			
+		}
+		
+		return buffer.get(buffer.position()) & 0xFF;
+		
+	}
+	
+	/**
+	 * Reads the next character, PDN is read as single byte characters
+	 *
+	 * @return Next character, or END
+	 * @throws IOException If the file can't be read
+	 */
+	private int read() throws IOException {
+		if(!buffer.hasRemaining() && !fill()) {
+			return END;
+			
+		}
+		
+		return buffer.get() & 0xFF;
+		
+	}
+	
+	/**
+	 * Reads more of the file into the buffer
+	 *
+	 * @return If anything was read, false at the end of the file
+	 * @throws IOException If the file can't be read
+	 */
+	private boolean fill() throws IOException {
+		buffer.clear();
+		int read;
+		
+		do {
+			read = channel.read(buffer);
+			
+		} while(read == 0);
+		
+		buffer.flip();
+		
+		return read > 0;
+		
+	}
+	
+	/**
+	 * Gets how many games have been read
+	 *
+	 * @return Number of games
+	 */
+	public long getGamesRead() {
+		return gamesRead;
+		
+	}
+	
+	/**
+	 * Closes the file
+	 *
+	 * @throws IOException If the file can't be closed
+	 */
+	@Override
+	public void close() throws IOException {
+		channel.close();
+		
+	}
+	
+}
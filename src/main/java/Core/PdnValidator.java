@@ -0,0 +1,216 @@
+package Core;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Checks every game of a PDN archive against the rules by replaying it, one game per task on a thread pool
+ * The games are read by one PdnReader and only a few games per thread are waiting at once,
+ * so an archive of any size is checked with bounded memory
+ * Each thread keeps its own board, so replaying doesn't allocate
+ *
+ * @author Jacob Barrios
+ * @version 1.0, 10/18/2026
+ */
+public class PdnValidator {
+	// Games read ahead for each thread before the reader waits
+	private static final int QUEUED_PER_THREAD = 16;
+	
+	private final int threads;
+	private final ThreadLocal<CheckersLogic> boards = ThreadLocal.withInitial(CheckersLogic::new);
+	private final ThreadLocal<int[]> moveBuffers = ThreadLocal.withInitial(() -> new int[PdnReader.MAX_PLIES]);
+	
+	private final LongAdder legal = new LongAdder();
+	private final LongAdder illegal = new LongAdder();
+	private final LongAdder unreadable = new LongAdder();
+	private final LongAdder plies = new LongAdder();
+	private final LongAdder xWins = new LongAdder();
+	private final LongAdder draws = new LongAdder();
+	private final LongAdder oWins = new LongAdder();
+	
+	/**
+	 * Constructor for the validator
+	 *
+	 * @param threads Number of games replayed at once, usually the number of cores
+	 */
+	public PdnValidator(int threads) {
+		this.threads = Math.max(1, threads);
+		
+	}
+	
+	/**
+	 * Checks every game of a file, the counts add up over every file checked
+	 *
+	 * @param file PDN file
+	 * @throws IOException If the file can't be read
+	 */
+	public void validate(Path file) throws IOException {
+		ExecutorService pool = Executors.newFixedThreadPool(threads, task -> {
+			Thread thread = new Thread(task, "pdn-replay");
+			thread.setDaemon(true);
+			
+			return thread;
+			
+		});
+		Semaphore queued = new Semaphore(threads * QUEUED_PER_THREAD);
+		
+		try(PdnReader reader = new PdnReader(file)) {
+			PdnGame game;
+			
+			while((game = reader.next()) != null) {
+				PdnGame task = game;
+				queued.acquire();
+				
+				pool.execute(() -> {
+					try {
+						check(task);
+						
+					}
+					finally {
+						queued.release();
+						
+					}
+					
+				});
+				
+			}
+			
+			pool.shutdown();
+			pool.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+			
+		}
+		catch(InterruptedException e) {
+			Thread.currentThread().interrupt();
+			
+			throw new IllegalStateException("Validation was interrupted", e);
+			
+		}
+		finally {
+			pool.shutdownNow();
+			
+		}
+		
+	}
+	
+	/**
+	 * Replays one game and counts it
+	 *
+	 * @param game Game read from the file
+	 */
+	private void check(PdnGame game) {
+		if(game.getError() != null) {
+			unreadable.increment();
+			
+			return;
+			
+		}
+		
+		int replayed;
+		try {
+			replayed = game.replay(boards.get(), moveBuffers.get());
+			
+		}
+		catch(IllegalArgumentException e) {
+			// The FEN tag isn't a position
+			unreadable.increment();
+			
+			return;
+			
+		}
+		
+		if(replayed < game.getPlies()) {
+			illegal.increment();
+			
+			return;
+			
+		}
+		
+		legal.increment();
+		plies.add(replayed);
+		
+		switch(game.getResult()) {
+			case PdnGame.X_WINS -> xWins.increment();
+			case PdnGame.O_WINS -> oWins.increment();
+			case PdnGame.DRAW -> draws.increment();
+			default -> {
+			}
+		}
+		
+	}
+	
+	/**
+	 * Gets how many games had only legal moves
+	 *
+	 * @return Number of games
+	 */
+	public long getLegal() {
+		return legal.sum();
+		
+	}
+	
+	/**
+	 * Gets how many games had a move that isn't legal
+	 *
+	 * @return Number of games
+	 */
+	public long getIllegal() {
+		return illegal.sum();
+		
+	}
+	
+	/**
+	 * Gets how many games couldn't be read, because of a bad move, tag or FEN
+	 *
+	 * @return Number of games
+	 */
+	public long getUnreadable() {
+		return unreadable.sum();
+		
+	}
+	
+	/**
+	 * Gets how many moves the legal games had
+	 *
+	 * @return Number of moves
+	 */
+	public long getPlies() {
+		return plies.sum();
+		
+	}
+	
+	/**
+	 * Gets how many legal games player x won
+	 *
+	 * @return Number of games
+	 */
+	public long getXWins() {
+		return xWins.sum();
+		
+	}
+	
+	/**
+	 * Gets how many legal games were drawn
+	 *
+	 * @return Number of games
+	 */
+	public long getDraws() {
+		return draws.sum();
+		
+	}
+	
+	/**
+	 * Gets how many legal games player o won
+	 *
+	 * @return Number of games
+	 */
+	public long getOWins() {
+		return oWins.sum();
+		
+	}
+	
+}
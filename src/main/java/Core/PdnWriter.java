@@ -0,0 +1,220 @@
+package Core;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Writes games as PDN (Portable Draughts Notation), one game at a time, so a file of any size can be written
+ * The tag pairs come first, then the numbered moves wrapped to fit in a line and the result
+ * Moves are written with square numbers like PdnReader reads them, jumps list every landing square
+ * A game from any other position than the standard start, where Black (player o) moves first, gets a FEN tag
+ *
+ * @author Jacob Barrios
+ * @version 1.0, 10/18/2026
+ */
+public class PdnWriter implements Closeable, Flushable {
+	// Longest line of moves
+	private static final int LINE_WIDTH = 80;
+	
+	private final Writer out;
+	// Reused for every game
+	private final StringBuilder line = new StringBuilder();
+	private long gamesWritten;
+	
+	/**
+	 * Creates a PDN file
+	 *
+	 * @param file File to write, replaced if it exists
+	 * @throws IOException If the file can't be created
+	 */
+	public PdnWriter(Path file) throws IOException {
+		this(Files.newBufferedWriter(file, StandardCharsets.ISO_8859_1));
+		
+	}
+	
+	/**
+	 * Constructor for writing PDN to a writer
+	 *
+	 * @param out Writer to write to, closed with this writer
+	 */
+	public PdnWriter(Writer out) {
+		this.out = out;
+		
+	}
+	
+	/**
+	 * Writes one game played from a position, the FEN tag is added if the tags don't have one
+	 * so the game reads back the same whatever side moved first
+	 *
+	 * @param tags   Tag pairs, like Event or White
+	 * @param start  Position the game was played from, it isn't changed
+	 * @param moves  Packed moves of the game in order
+	 * @param count  Number of moves
+	 * @param result Result for player x, see PdnGame
+	 * @throws IOException If the game can't be written
+	 */
+	public void write(Map<String, String> tags, CheckersLogic start, int[] moves, int count, int result) throws IOException {
+		if(tags.containsKey("FEN")) {
+			write(tags, moves, count, result);
+			
+			return;
+			
+		}
+		
+		Map<String, String> withStart = new LinkedHashMap<>(tags);
+		withStart.put("FEN", start.toFen());
+		write(withStart, moves, count, result);
+		
+	}
+	
+	/**
+	 * Writes one game, the Result tag is added if the tags don't have one
+	 * If there is a FEN tag the game starts from it, otherwise from the standard start with player o to move
+	 *
+	 * @param tags   Tag pairs, like Event or White
+	 * @param moves  Packed moves of the game in order
+	 * @param count  Number of moves
+	 * @param result Result for player x, see PdnGame
+	 * @throws IOException If the game can't be written
+	 */
+	public synchronized void write(Map<String, String> tags, int[] moves, int count, int result) throws IOException {
+		for(Map.Entry<String, String> tag : tags.entrySet()) {
+			writeTag(tag.getKey(), tag.getValue());
+			
+		}
+		if(!tags.containsKey("Result")) {
+			writeTag("Result", PdnGame.resultText(result));
+			
+		}
+		
+		// Black (player o) has the first move of each number, a game where White starts begins with "1..."
+		String fen = tags.get("FEN");
+		boolean blackFirst = fen == null || fen.trim().startsWith("B");
+		line.setLength(0);
+		
+		if(!blackFirst && count > 0) {
+			line.append("1...");
+			
+		}
+		
+		for(int ply = 0; ply < count; ply++) {
+			int number = (ply + (blackFirst ? 0 : 1)) / 2 + 1;
+			
+			if(blackFirst == (ply % 2 == 0)) {
+				append(number + ".");
+				
+			}
+			
+			append(moveText(moves[ply]));
+			
+		}
+		
+		append(PdnGame.resultText(result));
+		out.write(line.toString());
+		out.write("\n\n");
+		gamesWritten++;
+		
+	}
+	
+	/**
+	 * Writes a tag pair, quotes and backslashes in the value are escaped
+	 *
+	 * @param name  Tag name
+	 * @param value Tag value
+	 * @throws IOException If the tag can't be written
+	 */
+	private void writeTag(String name, String value) throws IOException {
+		out.write('[');
+		out.write(name);
+		out.write(" \"");
+		out.write(value.replace("\\", "\\\\").replace("\"", "\\\""));
+		out.write("\"]\n");
+		
+	}
+	
+	/**
+	 * Adds a word to the line of moves, writing the line out first if the word doesn't fit
+	 *
+	 * @param word Move number, move or result
+	 * @throws IOException If the line can't be written
+	 */
+	private void append(String word) throws IOException {
+		if(line.length() > 0 && line.length() + 1 + word.length() > LINE_WIDTH) {
+			out.write(line.toString());
+			out.write('\n');
+			line.setLength(0);
+			
+		}
+		if(line.length() > 0) {
+			line.append(' ');
+			
+		}
+		
+		line.append(word);
+		
+	}
+	
+	/**
+	 * Writes a move with square numbers, like "22-18" for a step or "15x22x29" for a double jump
+	 *
+	 * @param move Packed move, see Move
+	 * @return Move text
+	 */
+	public static String moveText(int move) {
+		StringBuilder text = new StringBuilder().append(Move.from(move) + 1);
+		int jumps = Move.jumpCount(move);
+		
+		if(jumps == 0) {
+			text.append('-').append(Move.to(move) + 1);
+			
+		}
+		
+		for(int i = 0; i < jumps; i++) {
+			text.append('x').append(Move.landing(move, i) + 1);
+			
+		}
+		
+		return text.toString();
+		
+	}
+	
+	/**
+	 * Gets how many games have been written
+	 *
+	 * @return Number of games
+	 */
+	public synchronized long getGamesWritten() {
+		return gamesWritten;
+		
+	}
+	
+	/**
+	 * Writes out anything that is buffered
+	 *
+	 * @throws IOException If it can't be written
+	 */
+	@Override
+	public synchronized void flush() throws IOException {
+		out.flush();
+		
+	}
+	
+	/**
+	 * Closes the file
+	 *
+	 * @throws IOException If the file can't be closed
+	 */
+	@Override
+	public synchronized void close() throws IOException {
+		out.close();
+		
+	}
+	
+}
@@ -0,0 +1,265 @@
+package Core;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Counts the positions reachable from a position to a fixed depth (perft)
+ * Used to check the move generator against known counts and to measure how fast it runs
+ * The root moves can be split across threads, and an optional table skips subtrees already counted
+ *
+ * @author Jacob Barrios
+ * @version 1.0, 10/18/2026
+ */
+public class Perft {
+	// One move buffer per ply so counting doesn't allocate
+	private final int[][] moves = new int[SearchEngine.MAX_PLY + 1][CheckersLogic.MAX_MOVES];
+	private final HashTable table;
+	
+	/**
+	 * Constructor for perft without a table
+	 */
+	public Perft() {
+		this(null);
+		
+	}
+	
+	/**
+	 * Constructor for perft
+	 *
+	 * @param table Table of counted subtrees, can be shared between threads, null for none
+	 */
+	public Perft(HashTable table) {
+		this.table = table;
+		
+	}
+	
+	/**
+	 * Counts the leaf positions to a depth
+	 *
+	 * @param logic Position to count from, put back the way it was afterwards
+	 * @param depth Depth in plies
+	 * @return Number of leaf positions
+	 */
+	public long count(CheckersLogic logic, int depth) {
+		if(depth < 0 || depth > SearchEngine.MAX_PLY) {
+			throw new IllegalArgumentException("Depth must be between 0 and " + SearchEngine.MAX_PLY + ": " + depth);
+			
+		}
+		
+		return count(logic, depth, 0);
+		
+	}
+	
+	/**
+	 * Counts the leaf positions below one ply
+	 *
+	 * @param logic Position to count from
+	 * @param depth Plies left
+	 * @param ply   Distance from the root, picks the move buffer
+	 * @return Number of leaf positions
+	 */
+	private long count(CheckersLogic logic, int depth, int ply) {
+		if(depth == 0) {
+			return 1;
+			
+		}
+		
+		int[] plyMoves = moves[ply];
+		int count = logic.generateMoves(plyMoves);
+		
+		// The last ply only needs the number of moves
+		if(depth == 1) {
+			return count;
+			
+		}
+		
+		long key = logic.getHash();
+		if(table != null) {
+			long stored = table.probe(key, depth);
+			
+			if(stored >= 0) {
+				return stored;
+				
+			}
+			
+		}
+		
+		long nodes = 0;
+		
+		for(int i = 0; i < count; i++) {
+			logic.makeMove(plyMoves[i]);
+			nodes += count(logic, depth - 1, ply + 1);
+			logic.unmakeMove();
+			
+		}
+		
+		if(table != null) {
+			table.store(key, depth, nodes);
+			
+		}
+		
+		return nodes;
+		
+	}
+	
+	/**
+	 * Counts the leaf positions below each root move
+	 *
+	 * @param logic Position to count from
+	 * @param depth Depth in plies, at least 1
+	 * @return Count for each root move in move notation, in generator order
+	 */
+	public Map<String, Long> divide(CheckersLogic logic, int depth) {
+		Map<String, Long> counts = new LinkedHashMap<>();
+		int[] rootMoves = new int[CheckersLogic.MAX_MOVES];
+		int count = logic.generateMoves(rootMoves);
+		
+		for(int i = 0; i < count; i++) {
+			logic.makeMove(rootMoves[i]);
+			counts.put(logic.convertToMove(rootMoves[i]), count(logic, depth - 1));
+			logic.unmakeMove();
+			
+		}
+		
+		return counts;
+		
+	}
+	
+	/**
+	 * Counts the leaf positions to a depth with the root moves split across threads
+	 *
+	 * @param logic   Position to count from, not changed
+	 * @param depth   Depth in plies
+	 * @param threads Number of threads
+	 * @param table   Table shared by the threads, null for none
+	 * @return Number of leaf positions
+	 */
+	public static long countParallel(CheckersLogic logic, int depth, int threads, HashTable table) {
+		if(depth <= 1 || threads <= 1) {
+			return new Perft(table).count(new CheckersLogic(logic), depth);
+			
+		}
+		
+		int[] rootMoves = new int[CheckersLogic.MAX_MOVES];
+		int count = logic.generateMoves(rootMoves);
+		ExecutorService pool = Executors.newFixedThreadPool(threads);
+		List<Future<Long>> tasks = new ArrayList<>();
+		
+		try {
+			// Each root move is counted on its own copy of the board
+			for(int i = 0; i < count; i++) {
+				int move = rootMoves[i];
+				
+				tasks.add(pool.submit(() -> {
+					CheckersLogic board = new CheckersLogic(logic);
+					board.makeMove(move);
+					
+					return new Perft(table).count(board, depth - 1);
+					
+				}));
+				
+			}
+			
+			long nodes = 0;
+			for(Future<Long> task : tasks) {
+				nodes += task.get();
+				
+			}
+			
+			return nodes;
+			
+		}
+		catch(InterruptedException e) {
+			Thread.currentThread().interrupt();
+			
+			throw new IllegalStateException("Perft was interrupted", e);
+			
+		}
+		catch(ExecutionException e) {
+			throw new IllegalStateException("Perft failed", e.getCause());
+			
+		}
+		finally {
+			pool.shutdownNow();
+			
+		}
+		
+	}
+	
+	/**
+	 * Table of subtree counts keyed by position hash and depth
+	 * Like the transposition table, the key is stored xor'd with the data so threads can share it without locks
+	 */
+	public static class HashTable {
+		private static final VarHandle SLOT = MethodHandles.arrayElementVarHandle(long[].class);
+		// Depth takes the low 8 bits of the data, the count the rest
+		private static final int DEPTH_BITS = 8;
+		
+		private final long[] table;
+		private final int mask;
+		
+		/**
+		 * Constructor for the table
+		 *
+		 * @param sizeMb Most memory the table can use in megabytes
+		 */
+		public HashTable(int sizeMb) {
+			if(sizeMb < 1) {
+				throw new IllegalArgumentException("Table size must be at least 1 MB: " + sizeMb);
+				
+			}
+			
+			int entries = Integer.highestOneBit((int) Math.min((long) sizeMb * 1024 * 1024 / 16, Integer.MAX_VALUE / 2));
+			this.table = new long[entries * 2];
+			this.mask = entries - 1;
+			
+		}
+		
+		/**
+		 * Looks up the count of a subtree
+		 *
+		 * @param key   Hash of the position
+		 * @param depth Depth of the subtree
+		 * @return Stored count, or -1 if it isn't in the table
+		 */
+		long probe(long key, int depth) {
+			int index = ((int) key & mask) * 2;
+			long data = (long) SLOT.getOpaque(table, index + 1);
+			
+			if(data != 0 && ((long) SLOT.getOpaque(table, index) ^ data) == key && (data & 0xFF) == depth) {
+				return data >>> DEPTH_BITS;
+				
+			}
+			
+			return -1;
+			
+		}
+		
+		/**
+		 * Stores the count of a subtree, always replacing what was there
+		 *
+		 * @param key   Hash of the position
+		 * @param depth Depth of the subtree, at least 2
+		 * @param nodes Count of the subtree
+		 */
+		void store(long key, int depth, long nodes) {
+			int index = ((int) key & mask) * 2;
+			long data = (nodes << DEPTH_BITS) | depth;
+			
+			SLOT.setOpaque(table, index, key ^ data);
+			SLOT.setOpaque(table, index + 1, data);
+			
+		}
+		
+	}
+	
+}
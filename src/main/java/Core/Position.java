@@ -0,0 +1,171 @@
+package Core;
+
+/**
+ * Immutable snapshot of a position, the pieces as bitboards, the player to move and the Zobrist hash
+ * Taking one from CheckersLogic copies five fields, so it can be done after every move, and since it never changes
+ * it can be handed to other threads, kept in maps or caches and compared without copying or locking
+ * Two positions are equal when their pieces and turn are, the hash is compared first so unequal positions fail fast
+ *
+ * @author Jacob Barrios
+ * @version 1.0, 10/18/2026
+ */
+public final class Position {
+	private final int xPieces;
+	private final int oPieces;
+	private final int kings;
+	private final boolean playerXTurn;
+	private final long hash;
+	
+	/**
+	 * Constructor for a position from bitboards, see Bitboard for the square layout
+	 *
+	 * @param xPieces     Squares of player x's pieces
+	 * @param oPieces     Squares of player o's pieces
+	 * @param kings       Squares of the kings of both players
+	 * @param playerXTurn If it's player x's turn
+	 * @throws IllegalArgumentException If pieces overlap or a king has no piece
+	 */
+	public Position(int xPieces, int oPieces, int kings, boolean playerXTurn) {
+		this(xPieces, oPieces, kings, playerXTurn, Zobrist.hash(xPieces, oPieces, kings, playerXTurn));
+		
+		if((xPieces & oPieces) != 0 || (kings & ~(xPieces | oPieces)) != 0) {
+			throw new IllegalArgumentException("Pieces overlap or a king has no piece");
+			
+		}
+		
+	}
+	
+	/**
+	 * Constructor for a snapshot of a board, which already knows its hash
+	 *
+	 * @param xPieces     Squares of player x's pieces
+	 * @param oPieces     Squares of player o's pieces
+	 * @param kings       Squares of the kings of both players
+	 * @param playerXTurn If it's player x's turn
+	 * @param hash        Zobrist hash of the position
+	 */
+	Position(int xPieces, int oPieces, int kings, boolean playerXTurn, long hash) {
+		this.xPieces = xPieces;
+		this.oPieces = oPieces;
+		this.kings = kings;
+		this.playerXTurn = playerXTurn;
+		this.hash = hash;
+		
+	}
+	
+	/**
+	 * Gets the piece on one square
+	 *
+	 * @param square Square index, see Bitboard
+	 * @return 'x', 'o', 'X', 'O' or '_' if the square is empty
+	 */
+	public char getPiece(int square) {
+		int bit = 1 << square;
+		char piece;
+		
+		if((xPieces & bit) != 0) {
+			piece = 'x';
+			
+		}
+		else if((oPieces & bit) != 0) {
+			piece = 'o';
+			
+		}
+		else {
+			return '_';
+			
+		}
+		
+		return (kings & bit) != 0 ? Character.toUpperCase(piece) : piece;
+		
+	}
+	
+	/**
+	 * Gets the squares of player x's pieces, see Bitboard for the square layout
+	 *
+	 * @return One bit per x piece
+	 */
+	public int getXPieces() {
+		return xPieces;
+		
+	}
+	
+	/**
+	 * Gets the squares of player o's pieces, see Bitboard for the square layout
+	 *
+	 * @return One bit per o piece
+	 */
+	public int getOPieces() {
+		return oPieces;
+		
+	}
+	
+	/**
+	 * Gets the squares of the kings of both players, see Bitboard for the square layout
+	 *
+	 * @return One bit per king
+	 */
+	public int getKings() {
+		return kings;
+		
+	}
+	
+	/**
+	 * Checks if it's player x's turn
+	 *
+	 * @return If it is player x's turn
+	 */
+	public boolean isPlayerXTurn() {
+		return playerXTurn;
+		
+	}
+	
+	/**
+	 * Gets the Zobrist hash of the position, the same as CheckersLogic.getHash on the board it came from
+	 *
+	 * @return Hash of the pieces and the player to move
+	 */
+	public long getHash() {
+		return hash;
+		
+	}
+	
+	/**
+	 * Checks if another object is the same position
+	 *
+	 * @param other Object to compare with
+	 * @return If it is a position with the same pieces and player to move
+	 */
+	@Override
+	public boolean equals(Object other) {
+		return other instanceof Position position && hash == position.hash && xPieces == position.xPieces && oPieces == position.oPieces
+				&& kings == position.kings && playerXTurn == position.playerXTurn;
+		
+	}
+	
+	/**
+	 * Gets a hash code from the Zobrist hash
+	 *
+	 * @return Hash code
+	 */
+	@Override
+	public int hashCode() {
+		return Long.hashCode(hash);
+		
+	}
+	
+	/**
+	 * Writes the position in FEN, like CheckersLogic.toFen
+	 *
+	 * @return FEN text
+	 */
+	@Override
+	public String toString() {
+		CheckersLogic logic = new CheckersLogic();
+		logic.setPosition(this);
+		
+		return logic.toFen();
+		
+	}
+	
+}
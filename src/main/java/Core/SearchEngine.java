@@ -0,0 +1,849 @@
+package Core;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Search engine for the computer player
+ * Uses negamax with alpha-beta pruning, deepening one ply at a time until the depth, node budget or time runs out
+ * Moves are made and unmade on the logic class, so nothing is copied while searching
+ * Positions already searched are kept in a transposition table to cut repeated subtrees and order moves
+ * With more than one thread, helper threads search the same position on their own copy of the board
+ * and share the table with the main thread (Lazy SMP). The move is always the main thread's
+ * With an endgame tablebase, positions with few pieces get their known result instead of being searched
+ * With an opening book, positions in the book are answered with a book move without searching
+ * With an evaluation cache, positions already searched to the full depth, even by another process, aren't searched again
+ *
+ * @author Jacob Barrios
+ * @version 1.0, 10/18/2026
+ */
+public class SearchEngine {
+	public static final int MAX_PLY = 64;
+	public static final int WIN_SCORE = 30000;
+	public static final int DEFAULT_DEPTH = 8;
+	// Score of a position the tablebase says is won, below WIN_SCORE so a win found by the search is still preferred
+	public static final int TABLEBASE_WIN = 20000;
+	private static final int INFINITY = WIN_SCORE + 1;
+	
+	// How often the node budget, clock and cancellation token are checked, must be a power of two minus one
+	private static final int CHECK_INTERVAL = 1023;
+	
+	private final Evaluator evaluator;
+	private TranspositionTable table;
+	private int maxDepth = DEFAULT_DEPTH;
+	private long nodeLimit = 0;
+	private EndgameTablebase tablebase;
+	private boolean probing;
+	private OpeningBook book;
+	private final Random bookRandom = new Random();
+	private EvaluationCache cache;
+	
+	// One move buffer per ply and a triangular table for the principal variation
+	private final int[][] moves = new int[MAX_PLY + 1][CheckersLogic.MAX_MOVES];
+	private final int[][] pv = new int[MAX_PLY + 1][MAX_PLY + 1];
+	private final int[] pvLength = new int[MAX_PLY + 1];
+	
+	private CheckersLogic logic;
+	private long nodes;
+	private boolean stopped;
+	private boolean canStop;
+	
+	// Deadline of a timed search as a System.nanoTime value, no iteration is started after the soft deadline
+	private boolean timed;
+	private long deadline;
+	private long softDeadline;
+	private CancellationToken token = CancellationToken.NONE;
+	
+	// Helper threads for the parallel search, each with its own engine and board
+	private int threads = 1;
+	private ExecutorService helperPool;
+	private final List<SearchEngine> helpers = new ArrayList<>();
+	private final List<CheckersLogic> helperBoards = new ArrayList<>();
+	private final List<Future<?>> helperTasks = new ArrayList<>();
+	private final boolean helper;
+	private volatile boolean stopRequested;
+	
+	/**
+	 * Constructor for the search engine with the default evaluation
+	 */
+	public SearchEngine() {
+		this(new MaterialEvaluator());
+		
+	}
+	
+	/**
+	 * Constructor for the search engine
+	 *
+	 * @param evaluator Evaluation used to score positions at the end of the search
+	 */
+	public SearchEngine(Evaluator evaluator) {
+		this(evaluator, new TranspositionTable());
+		
+	}
+	
+	/**
+	 * Constructor for the search engine with its own transposition table
+	 *
+	 * @param evaluator Evaluation used to score positions at the end of the search
+	 * @param table     Table to remember searched positions in
+	 */
+	public SearchEngine(Evaluator evaluator, TranspositionTable table) {
+		this(evaluator, table, false);
+		
+	}
+	
+	/**
+	 * Constructor for the search engine
+	 *
+	 * @param evaluator Evaluation used to score positions at the end of the search
+	 * @param table     Table to remember searched positions in
+	 * @param helper    If the engine is a helper thread of a parallel search
+	 */
+	private SearchEngine(Evaluator evaluator, TranspositionTable table, boolean helper) {
+		this.evaluator = evaluator;
+		this.table = table;
+		this.helper = helper;
+		
+	}
+	
+	/**
+	 * Finds the best move for the player whose turn it is
+	 * The board is put back the way it was when the search ends
+	 *
+	 * @param logic Position to search
+	 * @return Best move, score and principal variation of the deepest completed iteration
+	 */
+	public SearchResult search(CheckersLogic logic) {
+		return search(logic, CancellationToken.NONE);
+		
+	}
+	
+	/**
+	 * Finds the best move, stopping early if the token is cancelled
+	 *
+	 * @param logic Position to search
+	 * @param token Token another thread can cancel to stop the search
+	 * @return Best move, score and principal variation of the deepest completed iteration
+	 */
+	public SearchResult search(CheckersLogic logic, CancellationToken token) {
+		return run(logic, false, 0, token);
+		
+	}
+	
+	/**
+	 * Finds the best move, stopping at the deadline or if the token is cancelled
+	 * The clock is read with the node budget every few thousand nodes, so the search ends soon after the deadline
+	 * No new iteration is started once half the time is gone, since it would most likely not finish
+	 * The first iteration always completes so there is a move to return
+	 *
+	 * @param logic         Position to search
+	 * @param deadlineNanos Deadline as a System.nanoTime value
+	 * @param token         Token another thread can cancel to stop the search
+	 * @return Best move, score and principal variation of the deepest completed iteration
+	 */
+	public SearchResult search(CheckersLogic logic, long deadlineNanos, CancellationToken token) {
+		return run(logic, true, deadlineNanos, token);
+		
+	}
+	
+	/**
+	 * Runs a search with the limits it was given
+	 *
+	 * @param logic         Position to search
+	 * @param timed         If the search has a deadline
+	 * @param deadlineNanos Deadline as a System.nanoTime value, only used if timed
+	 * @param token         Token another thread can cancel to stop the search
+	 * @return Best move, score and principal variation of the deepest completed iteration
+	 */
+	private SearchResult run(CheckersLogic logic, boolean timed, long deadlineNanos, CancellationToken token) {
+		long start = System.nanoTime();
+		this.timed = timed;
+		this.deadline = deadlineNanos;
+		this.softDeadline = start + (deadlineNanos - start) / 2;
+		this.token = token;
+		
+		// A book move is played straight away, its depth is 0 since nothing was searched
+		if(book != null) {
+			int bookMove = book.pick(logic, bookRandom);
+			
+			if(bookMove != Move.NONE) {
+				return new SearchResult(bookMove, 0, 0, 0, System.nanoTime() - start, new int[] {bookMove});
+				
+			}
+			
+		}
+		
+		// A cached result as deep as this search would go is played as it is, so is a forced win or loss at any depth
+		long hash = logic.getHash();
+		if(cache != null) {
+			long entry = cache.probe(hash);
+			int cachedMove = EvaluationCache.move(entry);
+			
+			if(entry != 0 && (EvaluationCache.depth(entry) >= maxDepth || Math.abs(EvaluationCache.score(entry)) >= WIN_SCORE - MAX_PLY)
+					&& logic.isLegalMove(cachedMove)) {
+				return new SearchResult(cachedMove, EvaluationCache.score(entry), EvaluationCache.depth(entry), 0, System.nanoTime() - start,
+						new int[] {cachedMove});
+				
+			}
+			
+		}
+		
+		table.newSearch();
+		startHelpers(logic);
+		
+		SearchResult result = iterate(logic, 1);
+		long helperNodes = stopHelpers();
+		
+		if(cache != null && result.getBestMove() != Move.NONE) {
+			cache.store(hash, result.getBestMove(), result.getScore(), result.getDepth());
+			
+		}
+		
+		return new SearchResult(result.getBestMove(), result.getScore(), result.getDepth(), result.getNodes() + helperNodes,
+				System.nanoTime() - start, result.getPrincipalVariation());
+		
+	}
+	
+	/**
+	 * Runs the iterative deepening loop
+	 *
+	 * @param logic      Position to search
+	 * @param firstDepth Depth of the first iteration, helpers start at different depths so they don't all search the same tree
+	 * @return Best move, score and principal variation of the deepest completed iteration
+	 */
+	private SearchResult iterate(CheckersLogic logic, int firstDepth) {
+		long start = System.nanoTime();
+		this.logic = logic;
+		this.nodes = 0;
+		this.stopped = false;
+		this.canStop = helper;
+		
+		int bestMove = Move.NONE;
+		int bestScore = -WIN_SCORE;
+		int completedDepth = 0;
+		int[] bestLine = new int[0];
+		
+		int rootCount = logic.generateMoves(moves[0]);
+		
+		// When the root is already in the tablebase, only the moves that keep its result are searched
+		// and the search plays them out normally, otherwise every move would look the same
+		probing = tablebase != null;
+		if(probing && tablebase.probe(logic) != EndgameTablebase.UNKNOWN) {
+			rootCount = keepTablebaseMoves(rootCount);
+			probing = false;
+			
+		}
+		
+		// Deepen one ply at a time, the last completed iteration is always kept
+		for(int depth = firstDepth; depth <= maxDepth && rootCount > 0; depth++) {
+			int score = searchRoot(depth, rootCount, bestMove);
+			
+			if(stopped) {
+				break;
+				
+			}
+			
+			bestMove = pv[0][0];
+			bestScore = score;
+			completedDepth = depth;
+			bestLine = Arrays.copyOf(pv[0], pvLength[0]);
+			canStop = true;
+			
+			// No need to go deeper once a forced win or loss is found
+			if(Math.abs(score) >= WIN_SCORE - MAX_PLY) {
+				break;
+				
+			}
+			if(token.isCancelled() || (timed && System.nanoTime() - softDeadline >= 0)) {
+				break;
+				
+			}
+			
+		}
+		
+		return new SearchResult(bestMove, bestScore, completedDepth, nodes, System.nanoTime() - start, bestLine);
+		
+	}
+	
+	/**
+	 * Removes the root moves that lead to a worse tablebase result than the best one
+	 *
+	 * @param count Number of root moves
+	 * @return Number of root moves left, in the same order
+	 */
+	private int keepTablebaseMoves(int count) {
+		int[] rootMoves = moves[0];
+		int[] values = new int[count];
+		int best = 0;
+		
+		for(int i = 0; i < count; i++) {
+			logic.makeMove(rootMoves[i]);
+			int result = tablebase.probe(logic);
+			logic.unmakeMove();
+			
+			// Results are for the opponent after the move
+			values[i] = result == EndgameTablebase.LOSS ? 2 : result == EndgameTablebase.DRAW ? 1 : 0;
+			best = Math.max(best, values[i]);
+			
+		}
+		
+		int kept = 0;
+		for(int i = 0; i < count; i++) {
+			if(values[i] == best) {
+				rootMoves[kept++] = rootMoves[i];
+				
+			}
+			
+		}
+		
+		return kept;
+		
+	}
+	
+	/**
+	 * Starts the helper threads on copies of the position
+	 *
+	 * @param logic Position to search
+	 */
+	private void startHelpers(CheckersLogic logic) {
+		for(int i = 0; i < helpers.size(); i++) {
+			SearchEngine helperEngine = helpers.get(i);
+			CheckersLogic board = helperBoards.get(i);
+			// Half of the helpers start one ply deeper
+			int firstDepth = 1 + (i & 1);
+			
+			board.copyFrom(logic);
+			helperEngine.maxDepth = maxDepth;
+			helperEngine.stopRequested = false;
+			helperTasks.add(helperPool.submit(() -> helperEngine.iterate(board, firstDepth)));
+			
+		}
+		
+	}
+	
+	/**
+	 * Stops the helper threads and waits for them so the next search starts clean
+	 *
+	 * @return Nodes searched by all the helpers
+	 */
+	private long stopHelpers() {
+		long helperNodes = 0;
+		
+		for(SearchEngine helperEngine : helpers) {
+			helperEngine.stopRequested = true;
+			
+		}
+		
+		for(int i = 0; i < helperTasks.size(); i++) {
+			try {
+				helperTasks.get(i).get();
+				
+			}
+			catch(InterruptedException e) {
+				Thread.currentThread().interrupt();
+				
+			}
+			catch(ExecutionException e) {
+				throw new IllegalStateException("Helper search failed", e.getCause());
+				
+			}
+			
+			helperNodes += helpers.get(i).nodes;
+			
+		}
+		
+		helperTasks.clear();
+		
+		return helperNodes;
+		
+	}
+	
+	/**
+	 * Sets how many threads search each position, the caller's thread counts as one
+	 *
+	 * @param threads Number of threads, at least 1
+	 */
+	public void setThreads(int threads) {
+		shutdown();
+		this.threads = Math.max(1, threads);
+		
+		if(this.threads > 1) {
+			helperPool = Executors.newFixedThreadPool(this.threads - 1, task -> {
+				Thread thread = new Thread(task, "search-helper");
+				thread.setDaemon(true);
+				
+				return thread;
+				
+			});
+			
+			for(int i = 1; i < this.threads; i++) {
+				SearchEngine helperEngine = new SearchEngine(evaluator, table, true);
+				helperEngine.tablebase = tablebase;
+				helpers.add(helperEngine);
+				helperBoards.add(new CheckersLogic());
+				
+			}
+			
+		}
+		
+	}
+	
+	/**
+	 * Gets how many threads search each position
+	 *
+	 * @return Number of threads
+	 */
+	public int getThreads() {
+		return threads;
+		
+	}
+	
+	/**
+	 * Stops the helper threads, the engine goes back to searching on one thread
+	 */
+	public void shutdown() {
+		if(helperPool != null) {
+			helperPool.shutdownNow();
+			helperPool = null;
+			
+		}
+		
+		helpers.clear();
+		helperBoards.clear();
+		threads = 1;
+		
+	}
+	
+	/**
+	 * Searches every root move to the given depth
+	 *
+	 * @param depth     Depth of this iteration
+	 * @param count     Number of root moves
+	 * @param firstMove Best move of the last iteration, searched first
+	 * @return Score of the best root move
+	 */
+	private int searchRoot(int depth, int count, int firstMove) {
+		int[] rootMoves = moves[0];
+		int alpha = -INFINITY;
+		
+		moveToFront(rootMoves, count, firstMove);
+		pvLength[0] = 0;
+		
+		for(int i = 0; i < count; i++) {
+			int move = rootMoves[i];
+			
+			logic.makeMove(move);
+			int score = -negamax(depth - 1, -INFINITY, -alpha, 1);
+			logic.unmakeMove();
+			
+			if(stopped) {
+				break;
+				
+			}
+			
+			if(score > alpha) {
+				alpha = score;
+				updatePv(0, move);
+				
+			}
+			
+		}
+		
+		return alpha;
+		
+	}
+	
+	/**
+	 * Searches a position with alpha-beta pruning
+	 *
+	 * @param depth Plies left to search
+	 * @param alpha Score the player to move is already sure of
+	 * @param beta  Score the opponent is already sure of
+	 * @param ply   Distance from the root
+	 * @return Score of the position for the player to move
+	 */
+	private int negamax(int depth, int alpha, int beta, int ply) {
+		pvLength[ply] = ply;
+		
+		if(countNode()) {
+			return 0;
+			
+		}
+		
+		// Positions in the tablebase already have a known result, closer wins score higher
+		if(probing) {
+			int result = tablebase.probe(logic);
+			
+			if(result == EndgameTablebase.WIN) {
+				return TABLEBASE_WIN - ply;
+				
+			}
+			if(result == EndgameTablebase.LOSS) {
+				return -TABLEBASE_WIN + ply;
+				
+			}
+			if(result == EndgameTablebase.DRAW) {
+				return 0;
+				
+			}
+			
+		}
+		
+		if(depth <= 0 || ply >= MAX_PLY) {
+			return quiescence(alpha, beta, ply);
+			
+		}
+		
+		// Use what an earlier search found for this position, either as the answer or as the first move to try
+		long key = logic.getHash();
+		long entry = table.probe(key);
+		int hashMove = Move.NONE;
+		
+		if(entry != 0) {
+			hashMove = TranspositionTable.move(entry);
+			
+			if(TranspositionTable.depth(entry) >= depth) {
+				int score = TranspositionTable.fromTableScore(TranspositionTable.score(entry), ply);
+				int bound = TranspositionTable.bound(entry);
+				
+				if(bound == TranspositionTable.EXACT
+						|| (bound == TranspositionTable.LOWER && score >= beta)
+						|| (bound == TranspositionTable.UPPER && score <= alpha)) {
+					return score;
+					
+				}
+				
+			}
+			
+		}
+		
+		int[] plyMoves = moves[ply];
+		int count = logic.generateMoves(plyMoves);
+		
+		// No legal moves is a loss, losing later is better than losing sooner
+		if(count == 0) {
+			return -WIN_SCORE + ply;
+			
+		}
+		
+		moveToFront(plyMoves, count, hashMove);
+		
+		int alphaStart = alpha;
+		int best = -INFINITY;
+		int bestMove = Move.NONE;
+		
+		for(int i = 0; i < count; i++) {
+			int move = plyMoves[i];
+			
+			logic.makeMove(move);
+			int score = -negamax(depth - 1, -beta, -alpha, ply + 1);
+			logic.unmakeMove();
+			
+			if(stopped) {
+				return 0;
+				
+			}
+			
+			if(score > best) {
+				best = score;
+				bestMove = move;
+				
+				if(score > alpha) {
+					alpha = score;
+					updatePv(ply, move);
+					
+					if(alpha >= beta) {
+						break;
+						
+					}
+					
+				}
+				
+			}
+			
+		}
+		
+		int bound;
+		if(best >= beta) {
+			bound = TranspositionTable.LOWER;
+			
+		}
+		else if(best > alphaStart) {
+			bound = TranspositionTable.EXACT;
+			
+		}
+		else {
+			bound = TranspositionTable.UPPER;
+			
+		}
+		
+		table.store(key, bestMove, TranspositionTable.toTableScore(best, ply), depth, bound);
+		
+		return best;
+		
+	}
+	
+	/**
+	 * Keeps searching captures at the end of the search so the evaluation isn't taken in the middle of a trade
+	 *
+	 * @param alpha Score the player to move is already sure of
+	 * @param beta  Score the opponent is already sure of
+	 * @param ply   Distance from the root
+	 * @return Score of the position for the player to move
+	 */
+	private int quiescence(int alpha, int beta, int ply) {
+		pvLength[ply] = ply;
+		int[] plyMoves = moves[ply];
+		int count = logic.generateCaptures(plyMoves);
+		
+		// Jumping is forced, so the player to move can only stand pat when there is nothing to capture
+		if(count == 0) {
+			// No steps either, the player to move has lost
+			if(logic.isGameOver()) {
+				return -WIN_SCORE + ply;
+				
+			}
+			
+			return Math.max(alpha, evaluator.evaluate(logic));
+			
+		}
+		if(ply >= MAX_PLY) {
+			return evaluator.evaluate(logic);
+			
+		}
+		
+		for(int i = 0; i < count; i++) {
+			int move = plyMoves[i];
+			
+			if(countNode()) {
+				return 0;
+				
+			}
+			
+			logic.makeMove(move);
+			int score = -quiescence(-beta, -alpha, ply + 1);
+			logic.unmakeMove();
+			
+			if(stopped) {
+				return 0;
+				
+			}
+			
+			if(score > alpha) {
+				alpha = score;
+				updatePv(ply, move);
+				
+				if(alpha >= beta) {
+					break;
+					
+				}
+				
+			}
+			
+		}
+		
+		return alpha;
+		
+	}
+	
+	/**
+	 * Counts a node and checks the node budget, clock and cancellation token every so often
+	 *
+	 * @return If the search should stop
+	 */
+	private boolean countNode() {
+		nodes++;
+		
+		// The first iteration always finishes so there is a move to return, helpers can stop any time
+		if((nodes & CHECK_INTERVAL) == 0 && canStop) {
+			stopped = stopRequested || (nodeLimit > 0 && nodes >= nodeLimit) || token.isCancelled()
+					|| (timed && System.nanoTime() - deadline >= 0);
+			
+		}
+		
+		return stopped;
+		
+	}
+	
+	/**
+	 * Puts a move at the start of the ply's principal variation followed by the line below it
+	 *
+	 * @param ply  Ply the move was made at
+	 * @param move Best move so far at that ply
+	 */
+	private void updatePv(int ply, int move) {
+		pv[ply][ply] = move;
+		int childLength = pvLength[ply + 1];
+		
+		System.arraycopy(pv[ply + 1], ply + 1, pv[ply], ply + 1, childLength - (ply + 1));
+		pvLength[ply] = Math.max(childLength, ply + 1);
+		
+	}
+	
+	/**
+	 * Moves a move to the start of the list so it's searched first, the other moves keep their order
+	 *
+	 * @param list  Move list
+	 * @param count Number of moves in the list
+	 * @param move  Move to put first, nothing happens if it's not in the list
+	 */
+	private static void moveToFront(int[] list, int count, int move) {
+		for(int i = 0; i < count; i++) {
+			if(list[i] == move) {
+				System.arraycopy(list, 0, list, 1, i);
+				list[0] = move;
+				
+				return;
+				
+			}
+			
+		}
+		
+	}
+	
+	/**
+	 * Replaces the transposition table with an empty one
+	 *
+	 * @param sizeMb Most memory the table can use in megabytes
+	 */
+	public void setHashSizeMb(int sizeMb) {
+		this.table = new TranspositionTable(sizeMb);
+		
+		// Helpers have to share the new table
+		int threadCount = threads;
+		setThreads(threadCount);
+		
+	}
+	
+	/**
+	 * Gets the transposition table so its size and hit counters can be checked
+	 *
+	 * @return Table used by the search
+	 */
+	public TranspositionTable getTable() {
+		return table;
+		
+	}
+	
+	/**
+	 * Sets the endgame tablebase the search looks positions up in
+	 *
+	 * @param tablebase Tablebase to use, null for none
+	 */
+	public void setTablebase(EndgameTablebase tablebase) {
+		this.tablebase = tablebase;
+		
+		for(SearchEngine helperEngine : helpers) {
+			helperEngine.tablebase = tablebase;
+			
+		}
+		
+	}
+	
+	/**
+	 * Gets the endgame tablebase the search looks positions up in
+	 *
+	 * @return Tablebase used, null if there is none
+	 */
+	public EndgameTablebase getTablebase() {
+		return tablebase;
+		
+	}
+	
+	/**
+	 * Sets the opening book the search takes moves from before searching
+	 *
+	 * @param book Opening book to use, null for none
+	 */
+	public void setBook(OpeningBook book) {
+		this.book = book;
+		
+	}
+	
+	/**
+	 * Seeds the random choice between book moves, so games played with a book can be played again the same way
+	 *
+	 * @param seed Seed for the next book move picked
+	 */
+	public void setBookSeed(long seed) {
+		bookRandom.setSeed(seed);
+		
+	}
+	
+	/**
+	 * Gets the opening book the search takes moves from
+	 *
+	 * @return Opening book used, null if there is none
+	 */
+	public OpeningBook getBook() {
+		return book;
+		
+	}
+	
+	/**
+	 * Sets the evaluation cache searched positions are kept in between runs
+	 *
+	 * @param cache Evaluation cache to use, null for none
+	 */
+	public void setCache(EvaluationCache cache) {
+		this.cache = cache;
+		
+	}
+	
+	/**
+	 * Gets the evaluation cache searched positions are kept in
+	 *
+	 * @return Evaluation cache used, null if there is none
+	 */
+	public EvaluationCache getCache() {
+		return cache;
+		
+	}
+	
+	/**
+	 * Sets how deep the search goes
+	 *
+	 * @param maxDepth Depth in plies, at least 1
+	 */
+	public void setMaxDepth(int maxDepth) {
+		this.maxDepth = Math.max(1, Math.min(maxDepth, MAX_PLY));
+		
+	}
+	
+	/**
+	 * Gets how deep the search goes
+	 *
+	 * @return Depth in plies
+	 */
+	public int getMaxDepth() {
+		return maxDepth;
+		
+	}
+	
+	/**
+	 * Sets the most nodes a search can visit, the first iteration always completes
+	 *
+	 * @param nodeLimit Node budget, 0 for no limit
+	 */
+	public void setNodeLimit(long nodeLimit) {
+		this.nodeLimit = Math.max(0, nodeLimit);
+		
+	}
+	
+	/**
+	 * Gets the most nodes a search can visit
+	 *
+	 * @return Node budget, 0 for no limit
+	 */
+	public long getNodeLimit() {
+		return nodeLimit;
+		
+	}
+	
+}
@@ -0,0 +1,117 @@
+package Core;
+
+/**
+ * Holds what the search engine found for a position
+ *
+ * @author Jacob Barrios
+ * @version 1.0, 10/18/2026
+ */
+public class SearchResult {
+	private final int bestMove;
+	private final int score;
+	private final int depth;
+	private final long nodes;
+	private final long elapsedNanos;
+	private final int[] principalVariation;
+	
+	/**
+	 * Constructor for the search result
+	 *
+	 * @param bestMove           Best move found, Move.NONE if there are no legal moves
+	 * @param score              Score of the best move for the player to move
+	 * @param depth              Deepest iteration that was completed
+	 * @param nodes              Positions visited during the whole search
+	 * @param elapsedNanos       Time the search took
+	 * @param principalVariation Expected line of play starting with the best move
+	 */
+	public SearchResult(int bestMove, int score, int depth, long nodes, long elapsedNanos, int[] principalVariation) {
+		this.bestMove = bestMove;
+		this.score = score;
+		this.depth = depth;
+		this.nodes = nodes;
+		this.elapsedNanos = elapsedNanos;
+		this.principalVariation = principalVariation;
+		
+	}
+	
+	/**
+	 * Gets the best move found
+	 *
+	 * @return Packed move, see Move, or Move.NONE if there are no legal moves
+	 */
+	public int getBestMove() {
+		return bestMove;
+		
+	}
+	
+	/**
+	 * Gets the score of the best move for the player to move
+	 *
+	 * @return Score, a man is worth about 100
+	 */
+	public int getScore() {
+		return score;
+		
+	}
+	
+	/**
+	 * Gets the deepest iteration that was completed
+	 *
+	 * @return Depth in plies
+	 */
+	public int getDepth() {
+		return depth;
+		
+	}
+	
+	/**
+	 * Gets how many positions the search visited
+	 *
+	 * @return Number of nodes
+	 */
+	public long getNodes() {
+		return nodes;
+		
+	}
+	
+	/**
+	 * Gets how long the search took
+	 *
+	 * @return Time in nanoseconds
+	 */
+	public long getElapsedNanos() {
+		return elapsedNanos;
+		
+	}
+	
+	/**
+	 * Gets the search speed
+	 *
+	 * @return Nodes searched per second
+	 */
+	public long getNodesPerSecond() {
+		return elapsedNanos == 0 ? 0 : nodes * 1_000_000_000L / elapsedNanos;
+		
+	}
+	
+	/**
+	 * Gets the expected line of play, starting with the best move
+	 *
+	 * @return Copy of the packed moves in the line
+	 */
+	public int[] getPrincipalVariation() {
+		return principalVariation.clone();
+		
+	}
+	
+	/**
+	 * Checks if the score means one of the players can force a win
+	 *
+	 * @return If the score is a win or loss found by the search
+	 */
+	public boolean isWinScore() {
+		return Math.abs(score) >= SearchEngine.WIN_SCORE - SearchEngine.MAX_PLY;
+		
+	}
+	
+}
@@ -0,0 +1,107 @@
+package Core;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * Fixed size records of a file sorted by the position hash they start with, used by the opening book and explorer
+ * The records are memory mapped in chunks of whole records, so a file can be bigger than one buffer
+ * and a record is never split between two chunks. The rest of a record is int fields read by offset
+ *
+ * @author Jacob Barrios
+ * @version 1.0, 10/18/2026
+ */
+final class SortedRecords {
+	// Records per chunk, a chunk stays under 2 GB for records up to 32 bytes
+	private static final int CHUNK_RECORDS = 1 << 26;
+	
+	private final MappedByteBuffer[] chunks;
+	private final int recordBytes;
+	private final long size;
+	
+	/**
+	 * Maps the records of a file, the caller checks they are all in the file
+	 *
+	 * @param channel     File to map
+	 * @param offset      Where the records start in the file
+	 * @param size        Number of records
+	 * @param recordBytes Size of one record
+	 * @throws IOException If the file can't be mapped
+	 */
+	SortedRecords(FileChannel channel, long offset, long size, int recordBytes) throws IOException {
+		this.recordBytes = recordBytes;
+		this.size = size;
+		this.chunks = new MappedByteBuffer[(int) ((size + CHUNK_RECORDS - 1) / CHUNK_RECORDS)];
+		
+		for(int i = 0; i < chunks.length; i++) {
+			long first = (long) i * CHUNK_RECORDS;
+			chunks[i] = channel.map(FileChannel.MapMode.READ_ONLY, offset + first * recordBytes,
+					Math.min(CHUNK_RECORDS, size - first) * recordBytes);
+			
+		}
+		
+	}
+	
+	/**
+	 * Finds the first record with a hash, or where it would be if there isn't one
+	 *
+	 * @param hash Position hash
+	 * @return Index of the record
+	 */
+	long first(long hash) {
+		long low = 0;
+		long high = size;
+		
+		while(low < high) {
+			long middle = (low + high) >>> 1;
+			
+			if(hash(middle) < hash) {
+				low = middle + 1;
+				
+			}
+			else {
+				high = middle;
+				
+			}
+			
+		}
+		
+		return low;
+		
+	}
+	
+	/**
+	 * Gets the position hash of a record
+	 *
+	 * @param index Index of the record
+	 * @return Position hash
+	 */
+	long hash(long index) {
+		return chunks[(int) (index / CHUNK_RECORDS)].getLong((int) (index % CHUNK_RECORDS) * recordBytes);
+		
+	}
+	
+	/**
+	 * Gets one of the int fields of a record
+	 *
+	 * @param index  Index of the record
+	 * @param offset Offset of the field in the record
+	 * @return Value of the field
+	 */
+	int field(long index, int offset) {
+		return chunks[(int) (index / CHUNK_RECORDS)].getInt((int) (index % CHUNK_RECORDS) * recordBytes + offset);
+		
+	}
+	
+	/**
+	 * Gets how many records there are
+	 *
+	 * @return Number of records
+	 */
+	long size() {
+		return size;
+		
+	}
+	
+}
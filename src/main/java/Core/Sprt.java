@@ -0,0 +1,187 @@
+package Core;
+
+/**
+ * Sequential probability ratio test for deciding if one engine is stronger than another
+ * Tests the hypothesis that the Elo difference is elo1 against the hypothesis that it is elo0,
+ * using the log likelihood ratio of the game results so far (the generalized SPRT on the score per game)
+ * The test can stop as soon as the ratio crosses one of its bounds instead of after a fixed number of games
+ *
+ * @author Jacob Barrios
+ * @version 1.0, 10/18/2026
+ */
+public class Sprt {
+	// Decisions, keep playing, the engine isn't better by elo1 (H0), or it is (H1)
+	public static final int CONTINUE = 0;
+	public static final int ACCEPT_H0 = 1;
+	public static final int ACCEPT_H1 = 2;
+	
+	private final double elo0;
+	private final double elo1;
+	private final double lowerBound;
+	private final double upperBound;
+	
+	/**
+	 * Constructor for the test
+	 *
+	 * @param elo0  Elo difference of the null hypothesis, usually 0
+	 * @param elo1  Elo difference of the alternative hypothesis, the gain being looked for
+	 * @param alpha Chance of accepting H1 when H0 is true
+	 * @param beta  Chance of accepting H0 when H1 is true
+	 */
+	public Sprt(double elo0, double elo1, double alpha, double beta) {
+		if(elo1 <= elo0 || alpha <= 0 || alpha >= 1 || beta <= 0 || beta >= 1) {
+			throw new IllegalArgumentException("Need elo0 < elo1 and error rates between 0 and 1");
+			
+		}
+		
+		this.elo0 = elo0;
+		this.elo1 = elo1;
+		this.lowerBound = Math.log(beta / (1 - alpha));
+		this.upperBound = Math.log((1 - beta) / alpha);
+		
+	}
+	
+	/**
+	 * Computes the log likelihood ratio of the results
+	 *
+	 * @param wins   Games won by the engine being tested
+	 * @param draws  Games drawn
+	 * @param losses Games lost
+	 * @return Log likelihood ratio, 0 if there are no games or only draws
+	 */
+	public double llr(long wins, long draws, long losses) {
+		long games = wins + draws + losses;
+		
+		if(games == 0) {
+			return 0;
+			
+		}
+		
+		// Every game won or every game lost has no spread, a pseudo draw gives it some so the test can still stop
+		if(wins == games || losses == games) {
+			draws++;
+			games++;
+			
+		}
+		
+		double score = score(wins, draws, losses);
+		double variance = (wins * Math.pow(1 - score, 2) + draws * Math.pow(0.5 - score, 2) + losses * Math.pow(score, 2)) / games;
+		
+		// Only draws say nothing about which engine is stronger
+		if(variance <= 0) {
+			return 0;
+			
+		}
+		
+		double score0 = expectedScore(elo0);
+		double score1 = expectedScore(elo1);
+		
+		return games * (score1 - score0) * (2 * score - score0 - score1) / (2 * variance);
+		
+	}
+	
+	/**
+	 * Checks if the results are enough to stop
+	 *
+	 * @param wins   Games won by the engine being tested
+	 * @param draws  Games drawn
+	 * @param losses Games lost
+	 * @return CONTINUE, ACCEPT_H0 or ACCEPT_H1
+	 */
+	public int decide(long wins, long draws, long losses) {
+		double llr = llr(wins, draws, losses);
+		
+		if(llr >= upperBound) {
+			return ACCEPT_H1;
+			
+		}
+		if(llr <= lowerBound) {
+			return ACCEPT_H0;
+			
+		}
+		
+		return CONTINUE;
+		
+	}
+	
+	/**
+	 * Gets the ratio the test stops at to accept H0
+	 *
+	 * @return Lower bound of the log likelihood ratio
+	 */
+	public double getLowerBound() {
+		return lowerBound;
+		
+	}
+	
+	/**
+	 * Gets the ratio the test stops at to accept H1
+	 *
+	 * @return Upper bound of the log likelihood ratio
+	 */
+	public double getUpperBound() {
+		return upperBound;
+		
+	}
+	
+	/**
+	 * Gets the average points per game, a win is 1 and a draw is 0.5
+	 *
+	 * @param wins   Games won
+	 * @param draws  Games drawn
+	 * @param losses Games lost
+	 * @return Score between 0 and 1
+	 */
+	public static double score(long wins, long draws, long losses) {
+		return (wins + draws / 2.0) / (wins + draws + losses);
+		
+	}
+	
+	/**
+	 * Gets the score expected from an Elo difference
+	 *
+	 * @param elo Elo difference
+	 * @return Expected score between 0 and 1
+	 */
+	public static double expectedScore(double elo) {
+		return 1 / (1 + Math.pow(10, -elo / 400));
+		
+	}
+	
+	/**
+	 * Gets the Elo difference that matches the results
+	 *
+	 * @param wins   Games won
+	 * @param draws  Games drawn
+	 * @param losses Games lost
+	 * @return Elo difference, infinite if every game was won or lost
+	 */
+	public static double elo(long wins, long draws, long losses) {
+		double score = score(wins, draws, losses);
+		
+		return -400 * Math.log10(1 / score - 1);
+		
+	}
+	
+	/**
+	 * Gets the 95% error margin of the Elo difference
+	 *
+	 * @param wins   Games won
+	 * @param draws  Games drawn
+	 * @param losses Games lost
+	 * @return Half the width of the confidence interval in Elo
+	 */
+	public static double eloError(long wins, long draws, long losses) {
+		long games = wins + draws + losses;
+		double score = score(wins, draws, losses);
+		double variance = (wins * Math.pow(1 - score, 2) + draws * Math.pow(0.5 - score, 2) + losses * Math.pow(score, 2)) / games;
+		double margin = 1.96 * Math.sqrt(variance / games);
+		
+		double high = Math.min(score + margin, 1 - 1e-9);
+		double low = Math.max(score - margin, 1e-9);
+		
+		return (-400 * Math.log10(1 / high - 1) + 400 * Math.log10(1 / low - 1)) / 2;
+		
+	}
+	
+}
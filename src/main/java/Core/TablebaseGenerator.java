@@ -0,0 +1,432 @@
+package Core;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Builds the endgame tablebase by retrograde analysis, starting from the positions with the fewest pieces
+ * A slice can only move into its mirror slice (the same pieces with the other player to move)
+ * or slices with fewer pieces or fewer men, so slices are solved in that order. Slices with the same
+ * number of pieces and men never depend on each other and are solved in parallel
+ * A slice and its mirror are solved together. Every position's moves are generated once with CheckersLogic:
+ * captures and promotions leave the pair and are looked up in the solved slices, and the quiet moves that stay
+ * in the pair are counted. Decided positions are then taken from a queue and their parents found by unmoving
+ * a piece. A parent of a loss is won, and a parent whose counter reaches 0 because every quiet move leads to a win
+ * is lost, unless a move out of the pair draws. Whatever is left when the queue is empty is a draw
+ * Each position needs a byte for its result, a byte for its counter and an int in the queue while it is solved
+ *
+ * @author Jacob Barrios
+ * @version 1.0, 10/18/2026
+ */
+public class TablebaseGenerator {
+	// Returned by lookup for a position in the slices being solved
+	private static final int IN_PAIR = -1;
+	// Set in a counter when a move out of the pair draws, so running out of quiet moves is a draw and not a loss
+	private static final int CAN_DRAW = 0x40;
+	
+	private final int maxPieces;
+	private final int threads;
+	
+	// Solved slices, results packed four to a byte like in the file
+	private final Map<Integer, byte[]> solved = new ConcurrentHashMap<>();
+	
+	/**
+	 * Constructor for the generator
+	 *
+	 * @param maxPieces Most pieces on the board, from 2 to 8
+	 * @param threads   Number of threads to solve slices on
+	 */
+	public TablebaseGenerator(int maxPieces, int threads) {
+		if(maxPieces < 2 || maxPieces > 8) {
+			throw new IllegalArgumentException("Pieces must be between 2 and 8: " + maxPieces);
+			
+		}
+		
+		this.maxPieces = maxPieces;
+		this.threads = Math.max(1, threads);
+		
+	}
+	
+	/**
+	 * Solves every slice and writes the tablebase file
+	 *
+	 * @param file File to write, replaced if it exists
+	 * @throws IOException If the file can't be written
+	 */
+	public void generate(Path file) throws IOException {
+		// Slices grouped by pieces then men, each group only depends on the groups before it
+		Map<Integer, List<Integer>> levels = new TreeMap<>();
+		
+		for(int key : sliceKeys()) {
+			int men = TablebaseIndex.count(key, 0) + TablebaseIndex.count(key, 2);
+			
+			// Mirror slices are solved together, only the smaller key starts the work
+			if(key <= TablebaseIndex.flipKey(key)) {
+				levels.computeIfAbsent(TablebaseIndex.pieces(key) * 32 + men, level -> new ArrayList<>()).add(key);
+				
+			}
+			
+		}
+		
+		ExecutorService pool = Executors.newFixedThreadPool(threads);
+		
+		try {
+			for(List<Integer> level : levels.values()) {
+				List<Future<?>> tasks = new ArrayList<>();
+				
+				for(int key : level) {
+					tasks.add(pool.submit(() -> solvePair(key)));
+					
+				}
+				
+				for(Future<?> task : tasks) {
+					task.get();
+					
+				}
+				
+			}
+			
+		}
+		catch(InterruptedException e) {
+			Thread.currentThread().interrupt();
+			
+			throw new IllegalStateException("Tablebase generation was interrupted", e);
+			
+		}
+		catch(ExecutionException e) {
+			throw new IllegalStateException("Tablebase generation failed", e.getCause());
+			
+		}
+		finally {
+			pool.shutdownNow();
+			
+		}
+		
+		write(file);
+		
+	}
+	
+	/**
+	 * Gets every slice with at least one piece for each player and at most maxPieces pieces
+	 *
+	 * @return Slice keys in order
+	 */
+	private List<Integer> sliceKeys() {
+		List<Integer> keys = new ArrayList<>();
+		
+		for(int xMen = 0; xMen <= maxPieces; xMen++) {
+			for(int xKings = 0; xMen + xKings <= maxPieces; xKings++) {
+				for(int oMen = 0; xMen + xKings + oMen <= maxPieces; oMen++) {
+					for(int oKings = 0; xMen + xKings + oMen + oKings <= maxPieces; oKings++) {
+						if(xMen + xKings > 0 && oMen + oKings > 0) {
+							keys.add(TablebaseIndex.sliceKey(xMen, xKings, oMen, oKings));
+							
+						}
+						
+					}
+					
+				}
+				
+			}
+			
+		}
+		
+		return keys;
+		
+	}
+	
+	/**
+	 * Solves a slice together with its mirror slice
+	 *
+	 * @param key Key of one of the slices
+	 */
+	private void solvePair(int key) {
+		int mirrorKey = TablebaseIndex.flipKey(key);
+		// A slice with the same pieces for both players is its own mirror
+		int[] keys = key == mirrorKey ? new int[] {key} : new int[] {key, mirrorKey};
+		byte[][] results = new byte[keys.length][];
+		byte[][] counters = new byte[keys.length][];
+		int[][] queues = new int[keys.length][];
+		int[] queued = new int[keys.length];
+		
+		for(int i = 0; i < keys.length; i++) {
+			int size = Math.toIntExact(TablebaseIndex.size(keys[i]));
+			results[i] = new byte[size];
+			counters[i] = new byte[size];
+			queues[i] = new int[size];
+			
+		}
+		
+		CheckersLogic logic = new CheckersLogic();
+		int[] moves = new int[CheckersLogic.MAX_MOVES];
+		
+		// Moves out of the pair decide what they can, the quiet moves inside it are counted
+		for(int slice = 0; slice < keys.length; slice++) {
+			for(int index = 0; index < results[slice].length; index++) {
+				TablebaseIndex.position(keys[slice], index, logic);
+				int count = logic.generateMoves(moves);
+				int inside = 0;
+				boolean drawn = false;
+				boolean won = false;
+				
+				for(int i = 0; i < count && !won; i++) {
+					logic.makeMove(moves[i]);
+					int child = lookup(logic, keys);
+					logic.unmakeMove();
+					
+					if(child == IN_PAIR) {
+						inside++;
+						
+					}
+					else if(child == EndgameTablebase.LOSS) {
+						won = true;
+						
+					}
+					else if(child != EndgameTablebase.WIN) {
+						drawn = true;
+						
+					}
+					
+				}
+				
+				if(won || inside == 0) {
+					// No moves at all is a loss too
+					int result = won ? EndgameTablebase.WIN : drawn ? EndgameTablebase.DRAW : EndgameTablebase.LOSS;
+					results[slice][index] = (byte) result;
+					
+					if(result != EndgameTablebase.DRAW) {
+						queues[slice][queued[slice]++] = index;
+						
+					}
+					
+				}
+				else {
+					counters[slice][index] = (byte) (inside | (drawn ? CAN_DRAW : 0));
+					
+				}
+				
+			}
+			
+		}
+		
+		int[] taken = new int[keys.length];
+		boolean waiting = true;
+		
+		while(waiting) {
+			waiting = false;
+			
+			for(int slice = 0; slice < keys.length; slice++) {
+				// The parents of a position are in the mirror slice
+				int parentSlice = keys.length - 1 - slice;
+				
+				while(taken[slice] < queued[slice]) {
+					int index = queues[slice][taken[slice]++];
+					TablebaseIndex.position(keys[slice], index, logic);
+					propagate(logic, results[slice][index], results[parentSlice], counters[parentSlice], queues[parentSlice],
+								queued, parentSlice);
+					waiting = true;
+					
+				}
+				
+			}
+			
+		}
+		
+		for(int slice = 0; slice < keys.length; slice++) {
+			solved.put(keys[slice], pack(results[slice]));
+			
+		}
+		
+	}
+	
+	/**
+	 * Passes the result of a decided position on to every position in the pair with a quiet move to it
+	 * The parents are found by moving one of the pieces of the player who just moved back a square
+	 *
+	 * @param logic    Decided position, with player x to move
+	 * @param result   WIN or LOSS for player x
+	 * @param results  Results of the parent slice
+	 * @param counters Quiet moves of each parent still not known to lose
+	 * @param queue    Queue of the parent slice
+	 * @param queued   Length of each queue
+	 * @param slice    Which queue is the parent slice's
+	 */
+	private static void propagate(CheckersLogic logic, int result, byte[] results, byte[] counters, int[] queue, int[] queued,
+			int slice) {
+		// Turn the position back to the parent's side, the player who just moved is player x again
+		int mover = TablebaseIndex.rotate(logic.getOPieces());
+		int other = TablebaseIndex.rotate(logic.getXPieces());
+		int kings = TablebaseIndex.rotate(logic.getKings());
+		int empty = ~(mover | other);
+		
+		for(int pieces = mover; pieces != 0; pieces &= pieces - 1) {
+			int to = Integer.numberOfTrailingZeros(pieces);
+			int toBit = 1 << to;
+			boolean king = (kings & toBit) != 0;
+			
+			// A man on the crowning row would have been crowned by the move, so it came from another slice
+			if(!king && (toBit & Bitboard.TOP_ROW) != 0) {
+				continue;
+				
+			}
+			
+			for(int direction = Bitboard.firstDirection(true, king); direction <= Bitboard.lastDirection(true, king); direction++) {
+				// The opposite direction leads back to where the piece came from
+				int fromBit = Bitboard.neighbor(3 - direction, to) & empty;
+				if(fromBit == 0) {
+					continue;
+					
+				}
+				
+				int parent = (int) TablebaseIndex.index(mover ^ toBit ^ fromBit, other, king ? kings ^ toBit ^ fromBit : kings);
+				// A decided parent either was already or has a capture, which rules out this move
+				if(results[parent] != EndgameTablebase.UNKNOWN) {
+					continue;
+					
+				}
+				
+				if(result == EndgameTablebase.LOSS) {
+					results[parent] = EndgameTablebase.WIN;
+					queue[queued[slice]++] = parent;
+					
+				}
+				else if(--counters[parent] == 0) {
+					results[parent] = EndgameTablebase.LOSS;
+					queue[queued[slice]++] = parent;
+					
+				}
+				else if(counters[parent] == CAN_DRAW) {
+					results[parent] = EndgameTablebase.DRAW;
+					
+				}
+				
+			}
+			
+		}
+		
+	}
+	
+	/**
+	 * Looks up a position after a move, which has player o to move
+	 *
+	 * @param logic Position to look up
+	 * @param keys  Keys of the slices being solved
+	 * @return Result for player o, or IN_PAIR if it is in one of the slices being solved
+	 */
+	private int lookup(CheckersLogic logic, int[] keys) {
+		int mover = TablebaseIndex.rotate(logic.getOPieces());
+		int other = TablebaseIndex.rotate(logic.getXPieces());
+		int kings = TablebaseIndex.rotate(logic.getKings());
+		
+		if(mover == 0) {
+			return EndgameTablebase.LOSS;
+			
+		}
+		
+		int key = TablebaseIndex.sliceKey(mover, other, kings);
+		for(int slice : keys) {
+			if(slice == key) {
+				return IN_PAIR;
+				
+			}
+			
+		}
+		
+		byte[] packed = solved.get(key);
+		
+		if(packed == null) {
+			throw new IllegalStateException("Slice not solved yet: " + Integer.toHexString(key));
+			
+		}
+		
+		long index = TablebaseIndex.index(mover, other, kings);
+		
+		return packed[(int) (index >>> 2)] >>> ((index & 3) * 2) & 3;
+		
+	}
+	
+	/**
+	 * Packs results four to a byte, anything not decided is a draw
+	 *
+	 * @param results Results one to a byte
+	 * @return Packed results
+	 */
+	private static byte[] pack(byte[] results) {
+		byte[] packed = new byte[Math.toIntExact(EndgameTablebase.packedBytes(results.length))];
+		
+		for(int i = 0; i < results.length; i++) {
+			int result = results[i] == EndgameTablebase.UNKNOWN ? EndgameTablebase.DRAW : results[i];
+			packed[i >>> 2] |= (byte) (result << ((i & 3) * 2));
+			
+		}
+		
+		return packed;
+		
+	}
+	
+	/**
+	 * Writes the header, the slice entries and the packed results
+	 *
+	 * @param file File to write
+	 * @throws IOException If the file can't be written
+	 */
+	private void write(Path file) throws IOException {
+		Map<Integer, byte[]> slices = new TreeMap<>(solved);
+		
+		try(OutputStream stream = Files.newOutputStream(file);
+				DataOutputStream out = new DataOutputStream(new BufferedOutputStream(stream))) {
+			out.writeInt(EndgameTablebase.MAGIC);
+			out.writeInt(EndgameTablebase.VERSION);
+			out.writeInt(maxPieces);
+			out.writeInt(slices.size());
+			
+			long offset = EndgameTablebase.HEADER_BYTES + (long) slices.size() * EndgameTablebase.SLICE_ENTRY_BYTES;
+			
+			for(Map.Entry<Integer, byte[]> slice : slices.entrySet()) {
+				out.writeInt(slice.getKey());
+				out.writeLong(offset);
+				out.writeLong(TablebaseIndex.size(slice.getKey()));
+				offset += slice.getValue().length;
+				
+			}
+			
+			for(byte[] packed : slices.values()) {
+				out.write(packed);
+				
+			}
+			
+		}
+		
+	}
+	
+	/**
+	 * Gets how many positions have been solved
+	 *
+	 * @return Number of positions in the solved slices
+	 */
+	public long getPositions() {
+		long positions = 0;
+		
+		for(int key : solved.keySet()) {
+			positions += TablebaseIndex.size(key);
+			
+		}
+		
+		return positions;
+		
+	}
+	
+}
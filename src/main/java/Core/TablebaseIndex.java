@@ -0,0 +1,271 @@
+package Core;
+
+/**
+ * Turns an endgame position into its index in the tablebase and back
+ * Positions are split into slices by how many men and kings each player has. Inside a slice
+ * each group of pieces is ranked as a combination of the squares the earlier groups left free,
+ * so every index in a slice puts each piece on its own square. Men on the row where they would
+ * have been crowned can't be reached in a game but still get indexes, which keeps the numbering simple
+ * Only positions with player x to move are stored. Positions with player o to move are turned
+ * around first, which swaps the colors and rotates the board so square s becomes square 31 - s
+ *
+ * @author Jacob Barrios
+ * @version 1.0, 10/18/2026
+ */
+final class TablebaseIndex {
+	// Most pieces of one kind, a player can't have more than 12
+	static final int MAX_GROUP = 12;
+	
+	// Binomial coefficients, CHOOSE[n][k] is the number of ways to pick k of n squares
+	private static final long[][] CHOOSE = new long[Bitboard.SQUARES + 1][MAX_GROUP + 1];
+	
+	static {
+		for(int n = 0; n <= Bitboard.SQUARES; n++) {
+			CHOOSE[n][0] = 1;
+			
+			for(int k = 1; k <= Math.min(n, MAX_GROUP); k++) {
+				CHOOSE[n][k] = CHOOSE[n - 1][k - 1] + (k <= n - 1 ? CHOOSE[n - 1][k] : 0);
+				
+			}
+			
+		}
+		
+	}
+	
+	/**
+	 * Private constructor, only static helpers in this class
+	 */
+	private TablebaseIndex() {
+	
+	}
+	
+	/**
+	 * Packs the piece counts of a slice into one number
+	 *
+	 * @param xMen   Men of the player to move
+	 * @param xKings Kings of the player to move
+	 * @param oMen   Men of the other player
+	 * @param oKings Kings of the other player
+	 * @return Slice key
+	 */
+	static int sliceKey(int xMen, int xKings, int oMen, int oKings) {
+		return xMen | xKings << 4 | oMen << 8 | oKings << 12;
+		
+	}
+	
+	/**
+	 * Gets the key of the slice a position belongs to, the position must already have player x to move
+	 *
+	 * @param xPieces Squares of the player to move
+	 * @param oPieces Squares of the other player
+	 * @param kings   Squares of the kings
+	 * @return Slice key
+	 */
+	static int sliceKey(int xPieces, int oPieces, int kings) {
+		return sliceKey(Integer.bitCount(xPieces & ~kings), Integer.bitCount(xPieces & kings),
+				Integer.bitCount(oPieces & ~kings), Integer.bitCount(oPieces & kings));
+		
+	}
+	
+	/**
+	 * Gets the key of the same slice seen from the other player
+	 *
+	 * @param key Slice key
+	 * @return Slice key with the players swapped
+	 */
+	static int flipKey(int key) {
+		return (key >>> 8) | (key & 0xFF) << 8;
+		
+	}
+	
+	/**
+	 * Gets one piece count out of a slice key
+	 *
+	 * @param key   Slice key
+	 * @param group 0 for x men, 1 for x kings, 2 for o men, 3 for o kings
+	 * @return Number of pieces
+	 */
+	static int count(int key, int group) {
+		return key >>> (group * 4) & 0xF;
+		
+	}
+	
+	/**
+	 * Gets how many pieces are in a slice
+	 *
+	 * @param key Slice key
+	 * @return Total number of pieces
+	 */
+	static int pieces(int key) {
+		return count(key, 0) + count(key, 1) + count(key, 2) + count(key, 3);
+		
+	}
+	
+	/**
+	 * Gets how many positions a slice has
+	 *
+	 * @param key Slice key
+	 * @return Number of positions
+	 */
+	static long size(int key) {
+		long size = 1;
+		int free = Bitboard.SQUARES;
+		
+		for(int group = 0; group < 4; group++) {
+			int count = count(key, group);
+			size *= CHOOSE[free][count];
+			free -= count;
+			
+		}
+		
+		return size;
+		
+	}
+	
+	/**
+	 * Turns a board around so the other player is the one moving up the board
+	 *
+	 * @param pieces Squares to turn around
+	 * @return Squares rotated half a turn
+	 */
+	static int rotate(int pieces) {
+		// Square s becomes square 31 - s, which is the bit order reversed
+		return Integer.reverse(pieces);
+		
+	}
+	
+	/**
+	 * Gets the index of a position in its slice, the position must already have player x to move
+	 *
+	 * @param xPieces Squares of the player to move
+	 * @param oPieces Squares of the other player
+	 * @param kings   Squares of the kings
+	 * @return Index in the slice
+	 */
+	static long index(int xPieces, int oPieces, int kings) {
+		// The four groups are ranked in order without an array, this runs on every probe
+		int xMen = xPieces & ~kings;
+		int xKings = xPieces & kings;
+		int oMen = oPieces & ~kings;
+		int free = Bitboard.SQUARES - Integer.bitCount(xMen);
+		
+		long index = rank(xMen, 0);
+		index = index * CHOOSE[free][Integer.bitCount(xKings)] + rank(xKings, xMen);
+		free -= Integer.bitCount(xKings);
+		index = index * CHOOSE[free][Integer.bitCount(oMen)] + rank(oMen, xPieces);
+		free -= Integer.bitCount(oMen);
+		
+		return index * CHOOSE[free][Integer.bitCount(oPieces & kings)] + rank(oPieces & kings, xPieces | oMen);
+		
+	}
+	
+	/**
+	 * Sets up the position at an index of a slice, with player x to move
+	 *
+	 * @param key   Slice key
+	 * @param index Index in the slice
+	 * @param logic Board to set the position on
+	 */
+	static void position(int key, long index, CheckersLogic logic) {
+		int[] groups = new int[4];
+		long[] sizes = new long[4];
+		int free = Bitboard.SQUARES;
+		
+		for(int group = 0; group < 4; group++) {
+			sizes[group] = CHOOSE[free][count(key, group)];
+			free -= count(key, group);
+			
+		}
+		
+		// The last group is the least significant part of the index
+		long[] ranks = new long[4];
+		for(int group = 3; group >= 0; group--) {
+			ranks[group] = index % sizes[group];
+			index /= sizes[group];
+			
+		}
+		
+		int used = 0;
+		for(int group = 0; group < 4; group++) {
+			groups[group] = unrank(ranks[group], count(key, group), used);
+			used |= groups[group];
+			
+		}
+		
+		logic.setPosition(groups[0] | groups[1], groups[2] | groups[3], groups[1] | groups[3], true);
+		
+	}
+	
+	/**
+	 * Ranks a set of squares among the squares not already used
+	 *
+	 * @param squares Squares to rank
+	 * @param used    Squares taken by earlier groups, skipped when numbering
+	 * @return Rank of the combination
+	 */
+	private static long rank(int squares, int used) {
+		long rank = 0;
+		int k = 1;
+		
+		while(squares != 0) {
+			int square = Integer.numberOfTrailingZeros(squares);
+			// Number the square by how many free squares come before it
+			int position = square - Integer.bitCount(used & ((1 << square) - 1));
+			
+			rank += CHOOSE[position][k++];
+			squares &= squares - 1;
+			
+		}
+		
+		return rank;
+		
+	}
+	
+	/**
+	 * Turns a rank back into a set of squares, see rank
+	 *
+	 * @param rank  Rank of the combination
+	 * @param count Number of squares in the set
+	 * @param used  Squares taken by earlier groups
+	 * @return Squares of the combination
+	 */
+	private static int unrank(long rank, int count, int used) {
+		int squares = 0;
+		int position = Bitboard.SQUARES - Integer.bitCount(used);
+		
+		for(int k = count; k > 0; k--) {
+			// Largest position whose coefficient still fits in the rank
+			do {
+				position--;
+				
+			} while(CHOOSE[position][k] > rank);
+			
+			rank -= CHOOSE[position][k];
+			squares |= freeSquare(position, used);
+			
+		}
+		
+		return squares;
+		
+	}
+	
+	/**
+	 * Finds a free square by its number among the free squares
+	 *
+	 * @param position Number of the square among the free squares
+	 * @param used     Squares that are taken
+	 * @return Bit of the square
+	 */
+	private static int freeSquare(int position, int used) {
+		int free = ~used;
+		
+		for(int i = 0; i < position; i++) {
+			free &= free - 1;
+			
+		}
+		
+		return Integer.lowestOneBit(free);
+		
+	}
+	
+}
@@ -0,0 +1,71 @@
+package Core;
+
+/**
+ * Divides the time left on a game clock across the moves still to play
+ * Each move gets an equal share of the time left, assuming a few more moves are left the longer the game goes,
+ * plus most of the increment. A fixed overhead is kept back for the time spent outside the search,
+ * and no move gets more than half of what is left so one long search can't lose on time
+ *
+ * @author Jacob Barrios
+ * @version 1.0, 10/18/2026
+ */
+public class TimeManager {
+	// Moves a game is expected to still have at the start, and the fewest it is ever expected to have
+	public static final int DEFAULT_MOVES_TO_GO = 40;
+	public static final int MIN_MOVES_TO_GO = 10;
+	// Time kept back for each move for everything that isn't searching
+	public static final long DEFAULT_OVERHEAD_MILLIS = 20;
+	
+	private final long overheadMillis;
+	
+	/**
+	 * Constructor for the time manager with the default overhead
+	 */
+	public TimeManager() {
+		this(DEFAULT_OVERHEAD_MILLIS);
+		
+	}
+	
+	/**
+	 * Constructor for the time manager
+	 *
+	 * @param overheadMillis Time kept back for each move in milliseconds
+	 */
+	public TimeManager(long overheadMillis) {
+		if(overheadMillis < 0) {
+			throw new IllegalArgumentException("Overhead can't be negative: " + overheadMillis);
+			
+		}
+		
+		this.overheadMillis = overheadMillis;
+		
+	}
+	
+	/**
+	 * Works out how long the next search can take
+	 *
+	 * @param remainingMillis Time left on the player's clock
+	 * @param incrementMillis Time added to the clock after each move
+	 * @param movesPlayed     Moves the player has already made
+	 * @return Time budget for the search in milliseconds, 0 if there is no time to spare
+	 */
+	public long budgetMillis(long remainingMillis, long incrementMillis, int movesPlayed) {
+		long usable = Math.max(0, remainingMillis - overheadMillis);
+		int movesToGo = Math.max(MIN_MOVES_TO_GO, DEFAULT_MOVES_TO_GO - movesPlayed);
+		long budget = usable / movesToGo + incrementMillis * 3 / 4;
+		
+		return Math.min(budget, usable / 2);
+		
+	}
+	
+	/**
+	 * Gets the time kept back for each move
+	 *
+	 * @return Overhead in milliseconds
+	 */
+	public long getOverheadMillis() {
+		return overheadMillis;
+		
+	}
+	
+}
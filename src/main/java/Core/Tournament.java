@@ -0,0 +1,412 @@
+package Core;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Plays engine against engine games without any UI to compare two versions of the engine
+ * Every game runs on its own virtual thread, so thousands of games can be in progress at once,
+ * but the searches run on a pool with one thread per core so they don't fight over the CPU
+ * Each search thread keeps its own pair of engines, so memory doesn't grow with the number of games
+ * Games are played in pairs from the same random opening with the colors swapped
+ * Results are from the view of the first engine
+ *
+ * @author Jacob Barrios
+ * @version 1.0, 10/18/2026
+ */
+public class Tournament {
+	// Random moves played before the engines take over, so the games aren't all the same
+	public static final int OPENING_PLIES = 4;
+	// Games this long are drawn
+	public static final int MAX_PLIES = 300;
+	// A position seen this many times is a draw
+	private static final int REPETITIONS = 3;
+	
+	private static final int FIRST = 0;
+	private static final int SECOND = 1;
+	
+	private final Supplier<SearchEngine> first;
+	private final Supplier<SearchEngine> second;
+	private final int searchThreads;
+	private final long seed;
+	private EndgameTablebase tablebase;
+	private Sprt sprt;
+	private OpeningBookBuilder bookBuilder;
+	
+	// Results so far, read by the progress report while games are running
+	private final LongAdder wins = new LongAdder();
+	private final LongAdder draws = new LongAdder();
+	private final LongAdder losses = new LongAdder();
+	private final LongAdder plies = new LongAdder();
+	private final Latencies[] latencies = {new Latencies(), new Latencies()};
+	private volatile int decision = Sprt.CONTINUE;
+	
+	/**
+	 * Constructor for the tournament
+	 *
+	 * @param first         Makes the engine being tested, called once per search thread
+	 * @param second        Makes the engine it's tested against, called once per search thread
+	 * @param searchThreads Number of searches that can run at once, usually the number of cores
+	 * @param seed          Seed for the random openings
+	 */
+	public Tournament(Supplier<SearchEngine> first, Supplier<SearchEngine> second, int searchThreads, long seed) {
+		this.first = first;
+		this.second = second;
+		this.searchThreads = Math.max(1, searchThreads);
+		this.seed = seed;
+		
+	}
+	
+	/**
+	 * Plays the games, stopping early if the SPRT reaches a decision
+	 *
+	 * @param games Most games to play, rounded up to an even number so every opening is played with both colors
+	 * @return Number of games finished
+	 */
+	public long play(int games) {
+		int pairs = (games + 1) / 2;
+		ThreadLocal<SearchEngine[]> engines = ThreadLocal.withInitial(() -> new SearchEngine[] {first.get(), second.get()});
+		
+		ExecutorService searchPool = Executors.newFixedThreadPool(searchThreads, task -> {
+			Thread thread = new Thread(task, "tournament-search");
+			thread.setDaemon(true);
+			
+			return thread;
+			
+		});
+		List<Future<?>> tasks = new ArrayList<>();
+		
+		try(ExecutorService gamePool = Executors.newVirtualThreadPerTaskExecutor()) {
+			for(int game = 0; game < pairs * 2; game++) {
+				long openingSeed = seed + game / 2;
+				boolean firstIsX = (game & 1) == 0;
+				
+				tasks.add(gamePool.submit(() -> {
+					playGame(openingSeed, firstIsX, searchPool, engines);
+					
+					return null;
+					
+				}));
+				
+			}
+			
+			for(Future<?> task : tasks) {
+				task.get();
+				
+			}
+			
+		}
+		catch(InterruptedException e) {
+			Thread.currentThread().interrupt();
+			
+			throw new IllegalStateException("Tournament was interrupted", e);
+			
+		}
+		catch(ExecutionException e) {
+			throw new IllegalStateException("Game failed", e.getCause());
+			
+		}
+		finally {
+			searchPool.shutdownNow();
+			
+		}
+		
+		return getGames();
+		
+	}
+	
+	/**
+	 * Plays one game and records its result
+	 *
+	 * @param openingSeed Seed for the opening moves
+	 * @param firstIsX    If the first engine plays x
+	 * @param searchPool  Pool the searches run on
+	 * @param engines     Engines of each search thread
+	 * @throws InterruptedException If the game is interrupted waiting for a search
+	 * @throws ExecutionException   If a search fails
+	 */
+	private void playGame(long openingSeed, boolean firstIsX, ExecutorService searchPool, ThreadLocal<SearchEngine[]> engines)
+			throws InterruptedException, ExecutionException {
+		CheckersLogic game = new CheckersLogic();
+		int[] moves = new int[CheckersLogic.MAX_MOVES];
+		long[] seen = new long[MAX_PLIES + 1];
+		int[] played = new int[MAX_PLIES];
+		long[] times = new long[2 * MAX_PLIES];
+		int[] timeCounts = new int[2];
+		Random random = new Random(openingSeed);
+		
+		// Result for player x, 1 win, 0 draw, -1 loss
+		int result = 0;
+		int ply = 0;
+		
+		for(; ply < MAX_PLIES; ply++) {
+			if(decision != Sprt.CONTINUE) {
+				// Stopped early, this game doesn't count
+				return;
+				
+			}
+			
+			int count = game.generateMoves(moves);
+			
+			if(count == 0) {
+				result = game.isPlayerXTurn() ? -1 : 1;
+				break;
+				
+			}
+			if(repeated(seen, ply, game.getHash())) {
+				break;
+				
+			}
+			if(tablebase != null) {
+				int known = tablebase.probe(game);
+				
+				if(known != EndgameTablebase.UNKNOWN) {
+					int forMover = known == EndgameTablebase.WIN ? 1 : known == EndgameTablebase.LOSS ? -1 : 0;
+					result = game.isPlayerXTurn() ? forMover : -forMover;
+					break;
+					
+				}
+				
+			}
+			
+			seen[ply] = game.getHash();
+			
+			if(ply < OPENING_PLIES) {
+				played[ply] = moves[random.nextInt(count)];
+				game.makeMove(played[ply]);
+				continue;
+				
+			}
+			
+			int side = game.isPlayerXTurn() == firstIsX ? FIRST : SECOND;
+			// Book moves come from the game's seed too, so the game can be played again
+			long bookSeed = random.nextLong();
+			// The game's thread waits here, so the search can use the board
+			SearchResult searched = searchPool.submit(() -> {
+				SearchEngine engine = engines.get()[side];
+				engine.setBookSeed(bookSeed);
+				
+				return engine.search(game);
+				
+			}).get();
+			
+			times[side * MAX_PLIES + timeCounts[side]++] = searched.getElapsedNanos();
+			played[ply] = searched.getBestMove();
+			game.makeMove(played[ply]);
+			
+		}
+		
+		int firstResult = firstIsX ? result : -result;
+		if(firstResult > 0) {
+			wins.increment();
+			
+		}
+		else if(firstResult < 0) {
+			losses.increment();
+			
+		}
+		else {
+			draws.increment();
+			
+		}
+		
+		plies.add(ply);
+		
+		if(bookBuilder != null) {
+			bookBuilder.addGame(played, ply, result);
+			
+		}
+		latencies[FIRST].add(times, FIRST * MAX_PLIES, timeCounts[FIRST]);
+		latencies[SECOND].add(times, SECOND * MAX_PLIES, timeCounts[SECOND]);
+		
+		if(sprt != null && decision == Sprt.CONTINUE) {
+			decision = sprt.decide(wins.sum(), draws.sum(), losses.sum());
+			
+		}
+		
+	}
+	
+	/**
+	 * Checks if a position has already been seen enough times to be a draw
+	 *
+	 * @param seen Hashes of the earlier positions of the game
+	 * @param ply  Number of earlier positions
+	 * @param hash Hash of the position
+	 * @return If the position is repeated too many times
+	 */
+	static boolean repeated(long[] seen, int ply, long hash) {
+		int count = 1;
+		
+		for(int i = 0; i < ply; i++) {
+			if(seen[i] == hash) {
+				count++;
+				
+			}
+			
+		}
+		
+		return count >= REPETITIONS;
+		
+	}
+	
+	/**
+	 * Sets the tablebase used to end games whose result is already known
+	 *
+	 * @param tablebase Tablebase, null to play every game out
+	 */
+	public void setTablebase(EndgameTablebase tablebase) {
+		this.tablebase = tablebase;
+		
+	}
+	
+	/**
+	 * Sets the builder every finished game's opening is added to
+	 *
+	 * @param bookBuilder Opening book builder, null to not collect openings
+	 */
+	public void setBookBuilder(OpeningBookBuilder bookBuilder) {
+		this.bookBuilder = bookBuilder;
+		
+	}
+	
+	/**
+	 * Sets the test used to stop the tournament early
+	 *
+	 * @param sprt Test, null to play every game
+	 */
+	public void setSprt(Sprt sprt) {
+		this.sprt = sprt;
+		
+	}
+	
+	/**
+	 * Gets the decision of the SPRT
+	 *
+	 * @return Sprt.CONTINUE until the test stops, then ACCEPT_H0 or ACCEPT_H1
+	 */
+	public int getDecision() {
+		return decision;
+		
+	}
+	
+	/**
+	 * Gets how many games the first engine won
+	 *
+	 * @return Number of wins
+	 */
+	public long getWins() {
+		return wins.sum();
+		
+	}
+	
+	/**
+	 * Gets how many games were drawn
+	 *
+	 * @return Number of draws
+	 */
+	public long getDraws() {
+		return draws.sum();
+		
+	}
+	
+	/**
+	 * Gets how many games the first engine lost
+	 *
+	 * @return Number of losses
+	 */
+	public long getLosses() {
+		return losses.sum();
+		
+	}
+	
+	/**
+	 * Gets how many games were finished
+	 *
+	 * @return Number of games
+	 */
+	public long getGames() {
+		return wins.sum() + draws.sum() + losses.sum();
+		
+	}
+	
+	/**
+	 * Gets the average length of the finished games
+	 *
+	 * @return Plies per game, 0 if no game finished
+	 */
+	public double getAveragePlies() {
+		long games = getGames();
+		
+		return games == 0 ? 0 : (double) plies.sum() / games;
+		
+	}
+	
+	/**
+	 * Gets a percentile of the time one engine's searches took, not counting the wait for a search thread
+	 *
+	 * @param firstEngine If the time is for the first engine or the second
+	 * @param percentile  Percentile from 0 to 100
+	 * @return Time in nanoseconds, 0 if the engine hasn't moved
+	 */
+	public long getMoveLatency(boolean firstEngine, double percentile) {
+		return latencies[firstEngine ? FIRST : SECOND].percentile(percentile);
+		
+	}
+	
+	/**
+	 * Times of every move of one engine, added to by many games at once
+	 */
+	private static class Latencies {
+		private long[] times = new long[1024];
+		private int size;
+		
+		/**
+		 * Adds the times of one game
+		 *
+		 * @param source Array holding the times
+		 * @param offset Index of the first time
+		 * @param count  Number of times
+		 */
+		synchronized void add(long[] source, int offset, int count) {
+			if(size + count > times.length) {
+				times = Arrays.copyOf(times, Math.max(times.length * 2, size + count));
+				
+			}
+			
+			System.arraycopy(source, offset, times, size, count);
+			size += count;
+			
+		}
+		
+		/**
+		 * Gets a percentile of the times
+		 *
+		 * @param percentile Percentile from 0 to 100
+		 * @return Time in nanoseconds, 0 if there are no times
+		 */
+		synchronized long percentile(double percentile) {
+			if(size == 0) {
+				return 0;
+				
+			}
+			
+			long[] sorted = Arrays.copyOf(times, size);
+			Arrays.sort(sorted);
+			
+			int index = (int) Math.ceil(percentile / 100 * size) - 1;
+			
+			return sorted[Math.max(0, Math.min(size - 1, index))];
+			
+		}
+		
+	}
+	
+}
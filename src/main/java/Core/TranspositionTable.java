@@ -0,0 +1,363 @@
+package Core;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Fixed size hash table of positions the search engine has already searched
+ * Entries are stored in a plain long array, two longs per entry (the key and the packed data)
+ * and two entries per bucket. When a bucket is full the entry from an older search
+ * or with the shallower depth is replaced
+ * The table can be shared by several search threads without locks. The key is stored xor'd with the data,
+ * so an entry torn by two threads writing at once fails the key check and is treated as a miss
+ *
+ * @author Jacob Barrios
+ * @version 1.0, 10/18/2026
+ */
+public class TranspositionTable {
+	public static final int DEFAULT_SIZE_MB = 16;
+	
+	// Bound types, the stored score is exact, at least the score, or at most the score
+	public static final int EXACT = 1;
+	public static final int LOWER = 2;
+	public static final int UPPER = 3;
+	
+	// Longs used by one bucket, two entries of key and data
+	private static final int BUCKET_LONGS = 4;
+	private static final int BUCKET_BYTES = BUCKET_LONGS * Long.BYTES;
+	
+	// Reads and writes each long whole, even on platforms where plain long writes can be split
+	private static final VarHandle SLOT = MethodHandles.arrayElementVarHandle(long[].class);
+	
+	private final long[] table;
+	private final int bucketMask;
+	private final int sizeMb;
+	private volatile int generation;
+	
+	private final LongAdder probes = new LongAdder();
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder stores = new LongAdder();
+	private final LongAdder replacements = new LongAdder();
+	
+	/**
+	 * Constructor for the table with the default size
+	 */
+	public TranspositionTable() {
+		this(DEFAULT_SIZE_MB);
+		
+	}
+	
+	/**
+	 * Constructor for the table
+	 *
+	 * @param sizeMb Most memory the table can use in megabytes, rounded down to a power of two number of buckets
+	 */
+	public TranspositionTable(int sizeMb) {
+		if(sizeMb < 1) {
+			throw new IllegalArgumentException("Table size must be at least 1 MB: " + sizeMb);
+			
+		}
+		
+		long maxBuckets = (long) sizeMb * 1024 * 1024 / BUCKET_BYTES;
+		int buckets = Integer.highestOneBit((int) Math.min(maxBuckets, Integer.MAX_VALUE / BUCKET_LONGS));
+		
+		this.table = new long[buckets * BUCKET_LONGS];
+		this.bucketMask = buckets - 1;
+		this.sizeMb = sizeMb;
+		
+	}
+	
+	/**
+	 * Looks up a position
+	 *
+	 * @param key Hash of the position
+	 * @return Packed data of the entry, or 0 if the position isn't in the table
+	 */
+	public long probe(long key) {
+		int index = bucketIndex(key);
+		probes.increment();
+		
+		for(int i = index; i < index + BUCKET_LONGS; i += 2) {
+			long data = (long) SLOT.getOpaque(table, i + 1);
+			
+			if(data != 0 && ((long) SLOT.getOpaque(table, i) ^ data) == key) {
+				hits.increment();
+				
+				return data;
+				
+			}
+			
+		}
+		
+		return 0;
+		
+	}
+	
+	/**
+	 * Stores the result of searching a position
+	 *
+	 * @param key   Hash of the position
+	 * @param move  Best move found, Move.NONE if there isn't one
+	 * @param score Score of the position, win scores should already be adjusted with toTableScore
+	 * @param depth Depth the position was searched to
+	 * @param bound EXACT, LOWER or UPPER
+	 */
+	public void store(long key, int move, int score, int depth, int bound) {
+		int index = bucketIndex(key);
+		int replace = index;
+		int replaceValue = Integer.MAX_VALUE;
+		
+		int currentGeneration = generation;
+		
+		for(int i = index; i < index + BUCKET_LONGS; i += 2) {
+			long data = (long) SLOT.getOpaque(table, i + 1);
+			
+			// Same position, keep its old best move if this search didn't find one
+			if(data == 0 || ((long) SLOT.getOpaque(table, i) ^ data) == key) {
+				if(move == Move.NONE && data != 0) {
+					move = move(data);
+					
+				}
+				
+				replace = i;
+				replaceValue = Integer.MIN_VALUE;
+				
+				break;
+				
+			}
+			
+			// Entries from older searches are replaced first, then the shallowest one
+			int value = depth(data) + (generation(data) == currentGeneration ? 256 : 0);
+			if(value < replaceValue) {
+				replace = i;
+				replaceValue = value;
+				
+			}
+			
+		}
+		
+		if(replaceValue != Integer.MIN_VALUE) {
+			replacements.increment();
+			
+		}
+		
+		// Another thread can write the same slot in between, the xor check catches a mixed up pair
+		long data = pack(move, score, depth, bound, currentGeneration);
+		stores.increment();
+		SLOT.setOpaque(table, replace, key ^ data);
+		SLOT.setOpaque(table, replace + 1, data);
+		
+	}
+	
+	/**
+	 * Starts a new search so entries from older searches are replaced first
+	 */
+	public void newSearch() {
+		generation = (generation + 1) & 0x3F;
+		
+	}
+	
+	/**
+	 * Empties the table and resets the counters, no search can be using the table
+	 */
+	public void clear() {
+		Arrays.fill(table, 0);
+		probes.reset();
+		hits.reset();
+		stores.reset();
+		replacements.reset();
+		
+	}
+	
+	/**
+	 * Gets the bucket of a key
+	 *
+	 * @param key Hash of the position
+	 * @return Index of the first long of the bucket
+	 */
+	private int bucketIndex(long key) {
+		// The low bits pick the bucket, the full key is still checked
+		return ((int) key & bucketMask) * BUCKET_LONGS;
+		
+	}
+	
+	/**
+	 * Packs an entry into one long
+	 * Bits 0-31 hold the move, 32-47 the score, 48-55 the depth, 56-57 the bound and 58-63 the generation
+	 *
+	 * @param move       Best move
+	 * @param score      Score, must fit in a short
+	 * @param depth      Search depth
+	 * @param bound      Bound type
+	 * @param generation Search the entry is from
+	 * @return Packed data
+	 */
+	private static long pack(int move, int score, int depth, int bound, int generation) {
+		return (move & 0xFFFFFFFFL)
+				| ((score & 0xFFFFL) << 32)
+				| ((long) (depth & 0xFF) << 48)
+				| ((long) bound << 56)
+				| ((long) generation << 58);
+		
+	}
+	
+	/**
+	 * Gets the best move from packed data
+	 *
+	 * @param data Packed data from probe
+	 * @return Packed move, see Move
+	 */
+	public static int move(long data) {
+		return (int) data;
+		
+	}
+	
+	/**
+	 * Gets the score from packed data
+	 *
+	 * @param data Packed data from probe
+	 * @return Stored score, win scores need fromTableScore
+	 */
+	public static int score(long data) {
+		return (short) (data >>> 32);
+		
+	}
+	
+	/**
+	 * Gets the depth from packed data
+	 *
+	 * @param data Packed data from probe
+	 * @return Depth the position was searched to
+	 */
+	public static int depth(long data) {
+		return (int) (data >>> 48) & 0xFF;
+		
+	}
+	
+	/**
+	 * Gets the bound type from packed data
+	 *
+	 * @param data Packed data from probe
+	 * @return EXACT, LOWER or UPPER
+	 */
+	public static int bound(long data) {
+		return (int) (data >>> 56) & 3;
+		
+	}
+	
+	/**
+	 * Gets the generation from packed data
+	 *
+	 * @param data Packed data
+	 * @return Search the entry is from
+	 */
+	private static int generation(long data) {
+		return (int) (data >>> 58);
+		
+	}
+	
+	/**
+	 * Converts a win score from distance to the root into distance to this position so it can be reused anywhere
+	 *
+	 * @param score Score from the search
+	 * @param ply   Distance from the root
+	 * @return Score to store
+	 */
+	public static int toTableScore(int score, int ply) {
+		if(score >= SearchEngine.WIN_SCORE - SearchEngine.MAX_PLY) {
+			return score + ply;
+			
+		}
+		if(score <= -SearchEngine.WIN_SCORE + SearchEngine.MAX_PLY) {
+			return score - ply;
+			
+		}
+		
+		return score;
+		
+	}
+	
+	/**
+	 * Converts a stored win score back into distance from the root
+	 *
+	 * @param score Stored score
+	 * @param ply   Distance from the root
+	 * @return Score for the search
+	 */
+	public static int fromTableScore(int score, int ply) {
+		if(score >= SearchEngine.WIN_SCORE - SearchEngine.MAX_PLY) {
+			return score - ply;
+			
+		}
+		if(score <= -SearchEngine.WIN_SCORE + SearchEngine.MAX_PLY) {
+			return score + ply;
+			
+		}
+		
+		return score;
+		
+	}
+	
+	/**
+	 * Gets the memory cap the table was made with
+	 *
+	 * @return Size in megabytes
+	 */
+	public int getSizeMb() {
+		return sizeMb;
+		
+	}
+	
+	/**
+	 * Gets how many entries the table holds
+	 *
+	 * @return Number of entries
+	 */
+	public int getCapacity() {
+		return table.length / 2;
+		
+	}
+	
+	/**
+	 * Gets how many lookups found their position
+	 *
+	 * @return Number of hits
+	 */
+	public long getHits() {
+		return hits.sum();
+		
+	}
+	
+	/**
+	 * Gets how many lookups didn't find their position
+	 *
+	 * @return Number of misses
+	 */
+	public long getMisses() {
+		return probes.sum() - hits.sum();
+		
+	}
+	
+	/**
+	 * Gets how many entries were stored
+	 *
+	 * @return Number of stores
+	 */
+	public long getStores() {
+		return stores.sum();
+		
+	}
+	
+	/**
+	 * Gets how many stores overwrote a different position
+	 *
+	 * @return Number of replacements
+	 */
+	public long getReplacements() {
+		return replacements.sum();
+		
+	}
+	
+}
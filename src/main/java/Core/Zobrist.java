@@ -0,0 +1,105 @@
+package Core;
+
+import java.util.SplittableRandom;
+
+/**
+ * Random keys used to hash a position
+ * Each piece type on each square has a key, the hash of a position is all its keys xor'd together
+ * so moving a piece only needs a few xors. The seed is fixed so hashes match between runs and files
+ *
+ * @author Jacob Barrios
+ * @version 1.0, 10/18/2026
+ */
+public final class Zobrist {
+	private static final long SEED = 0x5DEECE66DL;
+	
+	// Keys for each piece type, indexed by square
+	private static final long[] X_MEN = new long[Bitboard.SQUARES];
+	private static final long[] O_MEN = new long[Bitboard.SQUARES];
+	private static final long[] X_KINGS = new long[Bitboard.SQUARES];
+	private static final long[] O_KINGS = new long[Bitboard.SQUARES];
+	
+	// Xor'd in when it's player o's turn
+	public static final long O_TO_MOVE;
+	
+	static {
+		SplittableRandom random = new SplittableRandom(SEED);
+		
+		for(int square = 0; square < Bitboard.SQUARES; square++) {
+			X_MEN[square] = random.nextLong();
+			O_MEN[square] = random.nextLong();
+			X_KINGS[square] = random.nextLong();
+			O_KINGS[square] = random.nextLong();
+			
+		}
+		
+		O_TO_MOVE = random.nextLong();
+		
+	}
+	
+	/**
+	 * Private constructor, only static helpers in this class
+	 */
+	private Zobrist() {
+	
+	}
+	
+	/**
+	 * Gets the key of one piece on one square
+	 *
+	 * @param xPiece If the piece belongs to player x
+	 * @param king   If the piece is a king
+	 * @param square Square of the piece
+	 * @return Key of the piece
+	 */
+	public static long piece(boolean xPiece, boolean king, int square) {
+		if(xPiece) {
+			return king ? X_KINGS[square] : X_MEN[square];
+			
+		}
+		
+		return king ? O_KINGS[square] : O_MEN[square];
+		
+	}
+	
+	/**
+	 * Xors together the keys of every piece in a set of squares
+	 *
+	 * @param squares Squares to hash
+	 * @param xPieces Squares of player x's pieces
+	 * @param kings   Squares of the kings
+	 * @return Combined key of the pieces
+	 */
+	public static long pieces(int squares, int xPieces, int kings) {
+		long hash = 0;
+		
+		while(squares != 0) {
+			int square = Integer.numberOfTrailingZeros(squares);
+			int bit = 1 << square;
+			
+			hash ^= piece((xPieces & bit) != 0, (kings & bit) != 0, square);
+			squares &= squares - 1;
+			
+		}
+		
+		return hash;
+		
+	}
+	
+	/**
+	 * Hashes a whole position from scratch
+	 *
+	 * @param xPieces     Squares of player x's pieces
+	 * @param oPieces     Squares of player o's pieces
+	 * @param kings       Squares of the kings
+	 * @param playerXTurn If it's player x's turn
+	 * @return Hash of the position
+	 */
+	public static long hash(int xPieces, int oPieces, int kings, boolean playerXTurn) {
+		long hash = pieces(xPieces | oPieces, xPieces, kings);
+		
+		return playerXTurn ? hash : hash ^ O_TO_MOVE;
+		
+	}
+	
+}
@@ -0,0 +1,136 @@
+package Tools;
+
+import Core.CheckersLogic;
+import Core.GameArchive;
+import Core.GameArchiveWriter;
+import Core.PdnGame;
+import Core.PdnReader;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Converts PDN files to binary game archives and replays archives
+ * Usage: ArchiveTool convert in.pdn out.ckga
+ * or:    ArchiveTool replay file [threads]
+ * convert writes the legal games of the PDN file, replay plays every game of the archive on all cores
+ *
+ * @author Jacob Barrios
+ * @version 1.0, 10/18/2026
+ */
+public class ArchiveTool {
+
+	/**
+	 * Runs the command
+	 *
+	 * @param args Command and its files
+	 * @throws IOException If a file can't be read or written
+	 */
+	public static void main(String[] args) throws IOException {
+		if(args.length >= 3 && args[0].equals("convert")) {
+			convert(Path.of(args[1]), Path.of(args[2]));
+			
+		}
+		else if(args.length >= 2 && args[0].equals("replay")) {
+			int threads = args.length > 2 ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+			replay(Path.of(args[1]), threads);
+			
+		}
+		else {
+			System.out.println("Usage: ArchiveTool convert in.pdn out.ckga");
+			System.out.println("       ArchiveTool replay file [threads]");
+			
+		}
+		
+	}
+	
+	/**
+	 * Writes the legal games of a PDN file to an archive
+	 *
+	 * @param in  PDN file to read
+	 * @param out Archive to write
+	 * @throws IOException If a file can't be read or written
+	 */
+	private static void convert(Path in, Path out) throws IOException {
+		long skipped = 0;
+		long added;
+		
+		try(PdnReader reader = new PdnReader(in); GameArchiveWriter writer = new GameArchiveWriter(out)) {
+			PdnGame game;
+			
+			while((game = reader.next()) != null) {
+				if(!writer.add(game)) {
+					skipped++;
+					
+				}
+				
+			}
+			
+			added = writer.size();
+			
+		}
+		
+		System.out.printf("Converted %d games, skipped %d%n", added, skipped);
+		System.out.printf("%d bytes of PDN to %d bytes%n", Files.size(in), Files.size(out));
+		
+	}
+	
+	/**
+	 * Replays every game of an archive, each thread takes every threads-th game
+	 *
+	 * @param file    Archive file
+	 * @param threads Number of games replayed at once
+	 * @throws IOException If the file can't be read
+	 */
+	private static void replay(Path file, int threads) throws IOException {
+		try(GameArchive archive = new GameArchive(file)) {
+			LongAdder plies = new LongAdder();
+			Thread[] workers = new Thread[threads];
+			long start = System.nanoTime();
+			
+			for(int i = 0; i < threads; i++) {
+				int first = i;
+				
+				workers[i] = new Thread(() -> {
+					CheckersLogic logic = new CheckersLogic();
+					int[] moves = new int[PdnReader.MAX_PLIES];
+					long count = 0;
+					
+					for(long game = first; game < archive.size(); game += threads) {
+						count += archive.replay(game, logic, moves);
+						
+					}
+					
+					plies.add(count);
+					
+				}, "archive-replay");
+				workers[i].start();
+				
+			}
+			
+			for(Thread worker : workers) {
+				try {
+					worker.join();
+					
+				}
+				catch(InterruptedException e) {
+					Thread.currentThread().interrupt();
+					
+					throw new IllegalStateException("Replay was interrupted", e);
+					
+				}
+				
+			}
+			
+			double seconds = (System.nanoTime() - start) / 1e9;
+			System.out.printf("%d games, %d moves in %.2f s (%.0f games/s) on %d threads%n", archive.size(), plies.sum(), seconds,
+					archive.size() / seconds, threads);
+			System.out.printf("%.2f bytes per move%n", (double) Files.size(file) / Math.max(1, plies.sum()));
+			
+		}
+		
+	}
+	
+}
@@ -0,0 +1,119 @@
+package Tools;
+
+import Core.CheckersLogic;
+import Core.GameArchive;
+import Core.OpeningExplorer;
+import Core.OpeningExplorerBuilder;
+import Core.PdnWriter;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Builds an opening explorer from a game archive and looks up positions in it
+ * Usage: ExplorerTool build archive.ckga out.ckox [plies] [minGames] [threads]
+ * or:    ExplorerTool query file.ckox [fen]
+ * query prints every move played from the position, the start position if no FEN is given
+ *
+ * @author Jacob Barrios
+ * @version 1.0, 10/18/2026
+ */
+public class ExplorerTool {
+
+	/**
+	 * Runs the command
+	 *
+	 * @param args Command and its files
+	 * @throws IOException If a file can't be read or written
+	 */
+	public static void main(String[] args) throws IOException {
+		if(args.length >= 3 && args[0].equals("build")) {
+			int plies = args.length > 3 ? Integer.parseInt(args[3]) : OpeningExplorerBuilder.DEFAULT_PLIES;
+			int minGames = args.length > 4 ? Integer.parseInt(args[4]) : 1;
+			int threads = args.length > 5 ? Integer.parseInt(args[5]) : Runtime.getRuntime().availableProcessors();
+			build(Path.of(args[1]), Path.of(args[2]), plies, minGames, threads);
+			
+		}
+		else if(args.length >= 2 && args[0].equals("query")) {
+			query(Path.of(args[1]), args.length > 2 ? args[2] : null);
+			
+		}
+		else {
+			System.out.println("Usage: ExplorerTool build archive.ckga out.ckox [plies] [minGames] [threads]");
+			System.out.println("       ExplorerTool query file.ckox [fen]");
+			
+		}
+		
+	}
+	
+	/**
+	 * Replays every game of an archive and writes the explorer
+	 *
+	 * @param in       Archive to read
+	 * @param out      Explorer file to write
+	 * @param plies    Plies from the start of each game to count
+	 * @param minGames Fewest games a move needs to be kept
+	 * @param threads  Number of games replayed at once
+	 * @throws IOException If a file can't be read or written
+	 */
+	private static void build(Path in, Path out, int plies, int minGames, int threads) throws IOException {
+		OpeningExplorerBuilder builder = new OpeningExplorerBuilder(plies, threads);
+		long start = System.nanoTime();
+		
+		try(GameArchive archive = new GameArchive(in)) {
+			builder.addArchive(archive);
+			
+		}
+		
+		double replaySeconds = (System.nanoTime() - start) / 1e9;
+		long records = builder.write(out, minGames);
+		double seconds = (System.nanoTime() - start) / 1e9;
+		
+		System.out.printf("%d games replayed in %.1f s on %d threads, %d position and move pairs%n", builder.getGames(), replaySeconds,
+				threads, builder.size());
+		System.out.printf("Wrote %d records played at least %d times in %.1f s%n", records, minGames, seconds);
+		
+	}
+	
+	/**
+	 * Prints the moves played from a position
+	 *
+	 * @param file Explorer file
+	 * @param fen  Position to look up, or null for the standard start position
+	 * @throws IOException If the file can't be read
+	 */
+	private static void query(Path file, String fen) throws IOException {
+		CheckersLogic logic = new CheckersLogic();
+		if(fen != null) {
+			logic.loadFen(fen);
+			
+		}
+		else {
+			// Archives of PDN games start like standard PDN, with player o to move
+			logic.changeTurn();
+			
+		}
+		
+		int[] moves = new int[CheckersLogic.MAX_MOVES];
+		int[] wins = new int[CheckersLogic.MAX_MOVES];
+		int[] draws = new int[CheckersLogic.MAX_MOVES];
+		int[] losses = new int[CheckersLogic.MAX_MOVES];
+		
+		try(OpeningExplorer explorer = new OpeningExplorer(file)) {
+			long start = System.nanoTime();
+			int count = explorer.probe(logic, moves, wins, draws, losses);
+			double micros = (System.nanoTime() - start) / 1e3;
+			
+			System.out.printf("%d moves from %s in %.0f us%n", count, logic.toFen(), micros);
+			for(int i = 0; i < count; i++) {
+				int games = wins[i] + draws[i] + losses[i];
+				System.out.printf("%-12s %8d games  +%d =%d -%d  %.1f%%%n", PdnWriter.moveText(moves[i]), games, wins[i], draws[i], losses[i],
+						100.0 * (wins[i] + draws[i] / 2.0) / games);
+				
+			}
+			
+		}
+		
+	}
+	
+}
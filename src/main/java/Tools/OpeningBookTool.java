@@ -0,0 +1,116 @@
+package Tools;
+
+import Core.OpeningBook;
+import Core.OpeningBookBuilder;
+import Core.SearchEngine;
+import Core.Tournament;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Builds an opening book from self-play games or from a file of game records
+ * Usage: OpeningBookTool file selfplay [games] [depth] [plies] [minWeight]
+ * or:    OpeningBookTool file import records [plies] [minWeight]
+ * A game record is one line of moves followed by the result, see OpeningBookBuilder.addGame
+ *
+ * @author Jacob Barrios
+ * @version 1.0, 10/18/2026
+ */
+public class OpeningBookTool {
+	private static final int DEFAULT_GAMES = 1000;
+	private static final int DEFAULT_DEPTH = 6;
+	private static final int HASH_MB = 4;
+	
+	/**
+	 * Builds the book
+	 *
+	 * @param args File to write, the source of the games and its options
+	 * @throws IOException If the records can't be read or the book can't be written
+	 */
+	public static void main(String[] args) throws IOException {
+		if(args.length < 2 || (!args[1].equals("selfplay") && !(args[1].equals("import") && args.length > 2))) {
+			System.out.println("Usage: OpeningBookTool file selfplay [games] [depth] [plies] [minWeight]");
+			System.out.println("       OpeningBookTool file import records [plies] [minWeight]");
+			
+			return;
+			
+		}
+		
+		Path file = Path.of(args[0]);
+		boolean selfPlay = args[1].equals("selfplay");
+		// Self-play has one more option before the plies
+		int first = selfPlay ? 4 : 3;
+		int plies = args.length > first ? Integer.parseInt(args[first]) : OpeningBookBuilder.DEFAULT_PLIES;
+		int minWeight = args.length > first + 1 ? Integer.parseInt(args[first + 1]) : 1;
+		
+		OpeningBookBuilder builder = new OpeningBookBuilder(plies);
+		long start = System.nanoTime();
+		
+		if(selfPlay) {
+			int games = args.length > 2 ? Integer.parseInt(args[2]) : DEFAULT_GAMES;
+			int depth = args.length > 3 ? Integer.parseInt(args[3]) : DEFAULT_DEPTH;
+			
+			Tournament tournament = new Tournament(() -> engine(depth), () -> engine(depth), Runtime.getRuntime().availableProcessors(),
+					System.nanoTime());
+			tournament.setBookBuilder(builder);
+			tournament.play(games);
+			
+		}
+		else {
+			int skipped = 0;
+			
+			try(BufferedReader reader = Files.newBufferedReader(Path.of(args[2]))) {
+				String line;
+				
+				while((line = reader.readLine()) != null) {
+					if(!line.isBlank() && !builder.addGame(line)) {
+						skipped++;
+						
+					}
+					
+				}
+				
+			}
+			
+			if(skipped > 0) {
+				System.out.printf("Skipped %d records with an illegal move or no result%n", skipped);
+				
+			}
+			
+		}
+		
+		int records = builder.write(file, minWeight);
+		double seconds = (System.nanoTime() - start) / 1e9;
+		
+		try(OpeningBook book = new OpeningBook(file)) {
+			System.out.printf("%d games, %d moves seen, %d records with at least %d games written to %s (%.1f s)%n", builder.getGames(),
+					builder.size(), book.size(), minWeight, file, seconds);
+			
+		}
+		
+		if(records == 0) {
+			System.out.println("The book is empty, try more games or a lower minWeight");
+			
+		}
+		
+	}
+	
+	/**
+	 * Makes an engine for self-play
+	 *
+	 * @param depth Search depth
+	 * @return Engine with a small table, one is made per search thread
+	 */
+	private static SearchEngine engine(int depth) {
+		SearchEngine engine = new SearchEngine();
+		engine.setHashSizeMb(HASH_MB);
+		engine.setMaxDepth(depth);
+		
+		return engine;
+		
+	}
+	
+}
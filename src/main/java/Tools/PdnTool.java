@@ -0,0 +1,102 @@
+package Tools;
+
+import Core.CheckersLogic;
+import Core.PdnGame;
+import Core.PdnReader;
+import Core.PdnValidator;
+import Core.PdnWriter;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Checks or copies PDN game archives
+ * Usage: PdnTool validate file [threads]
+ * or:    PdnTool copy in out
+ * validate replays every game on all cores and prints how many were legal,
+ * copy writes only the legal games again, with the moves written out in full
+ *
+ * @author Jacob Barrios
+ * @version 1.0, 10/18/2026
+ */
+public class PdnTool {
+
+	/**
+	 * Runs the command
+	 *
+	 * @param args Command and its files
+	 * @throws IOException If a file can't be read or written
+	 */
+	public static void main(String[] args) throws IOException {
+		if(args.length >= 2 && args[0].equals("validate")) {
+			int threads = args.length > 2 ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+			validate(Path.of(args[1]), threads);
+			
+		}
+		else if(args.length >= 3 && args[0].equals("copy")) {
+			copy(Path.of(args[1]), Path.of(args[2]));
+			
+		}
+		else {
+			System.out.println("Usage: PdnTool validate file [threads]");
+			System.out.println("       PdnTool copy in out");
+			
+		}
+		
+	}
+	
+	/**
+	 * Replays every game of a file and prints the counts
+	 *
+	 * @param file    PDN file
+	 * @param threads Number of games replayed at once
+	 * @throws IOException If the file can't be read
+	 */
+	private static void validate(Path file, int threads) throws IOException {
+		PdnValidator validator = new PdnValidator(threads);
+		long start = System.nanoTime();
+		validator.validate(file);
+		double seconds = (System.nanoTime() - start) / 1e9;
+		
+		long games = validator.getLegal() + validator.getIllegal() + validator.getUnreadable();
+		System.out.printf("%d games in %.1f s (%.0f games/s) on %d threads%n", games, seconds, games / seconds, threads);
+		System.out.printf("Legal %d, illegal move %d, unreadable %d%n", validator.getLegal(), validator.getIllegal(),
+				validator.getUnreadable());
+		System.out.printf("%d moves, x won %d, drawn %d, o won %d%n", validator.getPlies(), validator.getXWins(), validator.getDraws(),
+				validator.getOWins());
+		
+	}
+	
+	/**
+	 * Copies the legal games of a file, one game at a time
+	 *
+	 * @param in  PDN file to read
+	 * @param out PDN file to write
+	 * @throws IOException If a file can't be read or written
+	 */
+	private static void copy(Path in, Path out) throws IOException {
+		CheckersLogic logic = new CheckersLogic();
+		int[] moves = new int[PdnReader.MAX_PLIES];
+		long skipped = 0;
+		
+		try(PdnReader reader = new PdnReader(in); PdnWriter writer = new PdnWriter(out)) {
+			PdnGame game;
+			
+			while((game = reader.next()) != null) {
+				if(game.getError() != null || game.replay(logic, moves) < game.getPlies()) {
+					skipped++;
+					continue;
+					
+				}
+				
+				writer.write(game.getTags(), moves, game.getPlies(), game.getResult());
+				
+			}
+			
+			System.out.printf("Copied %d games, skipped %d%n", writer.getGamesWritten(), skipped);
+			
+		}
+		
+	}
+	
+}
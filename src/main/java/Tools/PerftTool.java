@@ -0,0 +1,55 @@
+package Tools;
+
+import Core.CheckersLogic;
+import Core.Perft;
+
+/**
+ * Runs perft from the start position or a FEN position and prints the count and speed for each depth
+ * Usage: PerftTool depth [threads] [hashMb] [fen]
+ * A hash size of 0 counts without a table
+ *
+ * @author Jacob Barrios
+ * @version 1.0, 10/18/2026
+ */
+public class PerftTool {
+
+	/**
+	 * Runs perft
+	 *
+	 * @param args Depth, then optional threads, table size in megabytes and FEN position
+	 */
+	public static void main(String[] args) {
+		if(args.length < 1) {
+			System.out.println("Usage: PerftTool depth [threads] [hashMb] [fen]");
+			
+			return;
+			
+		}
+		
+		int depth = Integer.parseInt(args[0]);
+		int threads = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+		int hashMb = args.length > 2 ? Integer.parseInt(args[2]) : 0;
+		
+		CheckersLogic logic = new CheckersLogic();
+		if(args.length > 3) {
+			logic.loadFen(args[3]);
+			
+		}
+		
+		Perft.HashTable table = hashMb > 0 ? new Perft.HashTable(hashMb) : null;
+		
+		System.out.println("Position: " + logic.toFen());
+		System.out.printf("%6s %16s %12s %16s%n", "depth", "nodes", "time (ms)", "nodes/sec");
+		
+		for(int d = 1; d <= depth; d++) {
+			long start = System.nanoTime();
+			long nodes = Perft.countParallel(logic, d, threads, table);
+			long elapsed = Math.max(1, System.nanoTime() - start);
+			
+			System.out.printf("%6d %16d %12.1f %16d%n", d, nodes, elapsed / 1e6, nodes * 1_000_000_000L / elapsed);
+			
+		}
+		
+	}
+	
+}
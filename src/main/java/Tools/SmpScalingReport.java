@@ -0,0 +1,97 @@
+package Tools;
+
+import Core.CheckersLogic;
+import Core.SearchEngine;
+import Core.SearchResult;
+
+/**
+ * Prints how long the parallel search takes to reach a fixed depth with 1, 2, 4, 8, 16 and 32 threads
+ * Each run starts with an empty table so the times can be compared
+ * Usage: SmpScalingReport [depth] [maxThreads] [hashMb]
+ *
+ * @author Jacob Barrios
+ * @version 1.0, 10/18/2026
+ */
+public class SmpScalingReport {
+	private static final int DEFAULT_DEPTH = 14;
+	private static final int DEFAULT_MAX_THREADS = 32;
+	private static final int DEFAULT_HASH_MB = 64;
+	
+	// Plies played from the start to get the second test position
+	private static final int OPENING_PLIES = 6;
+	
+	/**
+	 * Runs the report
+	 *
+	 * @param args Optional depth, most threads and table size in megabytes
+	 */
+	public static void main(String[] args) {
+		int depth = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_DEPTH;
+		int maxThreads = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_MAX_THREADS;
+		int hashMb = args.length > 2 ? Integer.parseInt(args[2]) : DEFAULT_HASH_MB;
+		
+		CheckersLogic start = new CheckersLogic();
+		CheckersLogic opening = playOpening(OPENING_PLIES);
+		
+		System.out.printf("Time to depth %d, %d cores available%n", depth, Runtime.getRuntime().availableProcessors());
+		System.out.printf("%8s %12s %10s %14s %14s%n", "threads", "time (ms)", "speedup", "nodes", "nodes/sec");
+		
+		long baseline = 0;
+		
+		for(int threads = 1; threads <= maxThreads; threads *= 2) {
+			long elapsed = 0;
+			long nodes = 0;
+			
+			// Each thread count searches both positions from an empty table
+			for(CheckersLogic position : new CheckersLogic[] {start, opening}) {
+				SearchEngine engine = new SearchEngine();
+				engine.setHashSizeMb(hashMb);
+				engine.setThreads(threads);
+				engine.setMaxDepth(depth);
+				
+				SearchResult result = engine.search(new CheckersLogic(position));
+				engine.shutdown();
+				
+				elapsed += result.getElapsedNanos();
+				nodes += result.getNodes();
+				
+			}
+			
+			if(threads == 1) {
+				baseline = elapsed;
+				
+			}
+			
+			System.out.printf("%8d %12.1f %10.2f %14d %14d%n", threads, elapsed / 1e6, (double) baseline / elapsed, nodes,
+					nodes * 1_000_000_000L / Math.max(1, elapsed));
+			
+		}
+		
+	}
+	
+	/**
+	 * Plays the first few moves of a game with a shallow search to get a position out of the opening
+	 *
+	 * @param plies Number of moves to play
+	 * @return Position after the moves
+	 */
+	private static CheckersLogic playOpening(int plies) {
+		CheckersLogic logic = new CheckersLogic();
+		SearchEngine engine = new SearchEngine();
+		engine.setMaxDepth(4);
+		
+		for(int i = 0; i < plies; i++) {
+			int move = engine.search(logic).getBestMove();
+			
+			if(!logic.processMove(move)) {
+				break;
+				
+			}
+			
+		}
+		
+		return new CheckersLogic(logic);
+		
+	}
+	
+}
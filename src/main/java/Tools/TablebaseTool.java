@@ -0,0 +1,50 @@
+package Tools;
+
+import Core.EndgameTablebase;
+import Core.TablebaseGenerator;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Generates the endgame tablebase file
+ * Usage: TablebaseTool file [maxPieces] [threads]
+ *
+ * @author Jacob Barrios
+ * @version 1.0, 10/18/2026
+ */
+public class TablebaseTool {
+	private static final int DEFAULT_PIECES = 4;
+	
+	/**
+	 * Generates the tablebase
+	 *
+	 * @param args File to write, then optional most pieces and threads
+	 * @throws IOException If the file can't be written
+	 */
+	public static void main(String[] args) throws IOException {
+		if(args.length < 1) {
+			System.out.println("Usage: TablebaseTool file [maxPieces] [threads]");
+			
+			return;
+			
+		}
+		
+		Path file = Path.of(args[0]);
+		int maxPieces = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_PIECES;
+		int threads = args.length > 2 ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+		
+		TablebaseGenerator generator = new TablebaseGenerator(maxPieces, threads);
+		long start = System.nanoTime();
+		generator.generate(file);
+		long elapsed = System.nanoTime() - start;
+		
+		try(EndgameTablebase tablebase = new EndgameTablebase(file)) {
+			System.out.printf("Solved %d positions with up to %d pieces in %.1f s, %d bytes written to %s%n",
+					generator.getPositions(), tablebase.getMaxPieces(), elapsed / 1e9, file.toFile().length(), file);
+			
+		}
+		
+	}
+	
+}
@@ -0,0 +1,108 @@
+package Tools;
+
+import Core.EndgameTablebase;
+import Core.SearchEngine;
+import Core.Sprt;
+import Core.Tournament;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Plays a self-play match between two search depths and prints the result, Elo difference and SPRT decision
+ * Usage: TournamentRunner [games] [depthA] [depthB] [elo0] [elo1] [tablebase]
+ * Engine A is the one being tested, the SPRT checks if it's at least elo1 stronger than B
+ *
+ * @author Jacob Barrios
+ * @version 1.0, 10/18/2026
+ */
+public class TournamentRunner {
+	private static final int DEFAULT_GAMES = 2000;
+	private static final int DEFAULT_DEPTH = 4;
+	private static final int HASH_MB = 4;
+	private static final double ALPHA = 0.05;
+	private static final double BETA = 0.05;
+	
+	/**
+	 * Runs the match
+	 *
+	 * @param args Optional games, depth of each engine, SPRT Elo bounds and tablebase file
+	 * @throws IOException If the tablebase can't be opened
+	 */
+	public static void main(String[] args) throws IOException {
+		int games = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_GAMES;
+		int depthA = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_DEPTH + 1;
+		int depthB = args.length > 2 ? Integer.parseInt(args[2]) : DEFAULT_DEPTH;
+		double elo0 = args.length > 3 ? Double.parseDouble(args[3]) : 0;
+		double elo1 = args.length > 4 ? Double.parseDouble(args[4]) : 10;
+		int cores = Runtime.getRuntime().availableProcessors();
+		
+		Tournament tournament = new Tournament(() -> engine(depthA), () -> engine(depthB), cores, System.nanoTime());
+		Sprt sprt = new Sprt(elo0, elo1, ALPHA, BETA);
+		tournament.setSprt(sprt);
+		
+		if(args.length > 5) {
+			tournament.setTablebase(new EndgameTablebase(Path.of(args[5])));
+			
+		}
+		
+		System.out.printf("Depth %d against depth %d, up to %d games on %d search threads%n", depthA, depthB, games, cores);
+		long start = System.nanoTime();
+		tournament.play(games);
+		double seconds = (System.nanoTime() - start) / 1e9;
+		
+		long wins = tournament.getWins();
+		long draws = tournament.getDraws();
+		long losses = tournament.getLosses();
+		
+		System.out.printf("Games %d (%.1f s), W %d  D %d  L %d, score %.3f%n", tournament.getGames(), seconds, wins, draws, losses,
+				Sprt.score(wins, draws, losses));
+		System.out.printf("Elo %.1f +/- %.1f%n", Sprt.elo(wins, draws, losses), Sprt.eloError(wins, draws, losses));
+		System.out.printf("LLR %.2f [%.2f, %.2f] for elo0 %.1f, elo1 %.1f: %s%n", sprt.llr(wins, draws, losses), sprt.getLowerBound(),
+				sprt.getUpperBound(), elo0, elo1, decision(tournament.getDecision()));
+		System.out.printf("Average game length %.1f plies%n", tournament.getAveragePlies());
+		
+		for(boolean first : new boolean[] {true, false}) {
+			System.out.printf("Engine %s move time p50 %.2f ms, p99 %.2f ms%n", first ? "A" : "B",
+					tournament.getMoveLatency(first, 50) / 1e6, tournament.getMoveLatency(first, 99) / 1e6);
+			
+		}
+		
+	}
+	
+	/**
+	 * Makes an engine for one side
+	 *
+	 * @param depth Search depth
+	 * @return Engine with a small table, one is made per search thread
+	 */
+	private static SearchEngine engine(int depth) {
+		SearchEngine engine = new SearchEngine();
+		engine.setHashSizeMb(HASH_MB);
+		engine.setMaxDepth(depth);
+		
+		return engine;
+		
+	}
+	
+	/**
+	 * Describes a decision of the SPRT
+	 *
+	 * @param decision Decision from Sprt
+	 * @return Text for the report
+	 */
+	private static String decision(int decision) {
+		if(decision == Sprt.ACCEPT_H1) {
+			return "A is stronger (H1 accepted)";
+			
+		}
+		if(decision == Sprt.ACCEPT_H0) {
+			return "A is not stronger (H0 accepted)";
+			
+		}
+		
+		return "no decision yet";
+		
+	}
+	
+}
@@ -0,0 +1,56 @@
+package Ui;
+
+import Core.CheckersLogic;
+
+import javafx.scene.Node;
+import javafx.scene.paint.Color;
+
+/**
+ * Draws a checkers board for the GUI
+ * NodeBoardRenderer builds the board out of scene graph nodes and CanvasBoardRenderer draws it on a canvas
+ * All methods are called on the JavaFX Application Thread
+ *
+ * @author Jacob Barrios
+ * @version 1.0, 10/18/2026
+ */
+public interface BoardRenderer {
+	int BOARD_SIZE = 8;
+	// Width of the ring drawn around a king
+	double KING_RING = 4;
+	// Space between a piece and the edge of its tile
+	double PIECE_MARGIN = 5;
+	
+	/**
+	 * Gets the node to put in the window
+	 *
+	 * @return Node showing the board
+	 */
+	Node getView();
+	
+	/**
+	 * Shows every piece of a position, used for the first position and after the board is set up by hand
+	 *
+	 * @param logic Board to show
+	 */
+	void showPosition(CheckersLogic logic);
+	
+	/**
+	 * Shows the last move made on a board, only the squares it changed are redrawn
+	 *
+	 * @param logic Board the move was made on
+	 */
+	void showLastMove(CheckersLogic logic);
+	
+	/**
+	 * Gets the color of a piece, 'o' pieces are red and 'x' pieces are black
+	 * Kings are drawn with a gold ring around them
+	 *
+	 * @param piece 'x', 'o', 'X' or 'O'
+	 * @return Fill color of the piece
+	 */
+	static Color pieceColor(char piece) {
+		return Character.toLowerCase(piece) == 'o' ? Color.RED : Color.BLACK;
+		
+	}
+	
+}
@@ -0,0 +1,379 @@
+package Ui;
+
+import Core.Bitboard;
+import Core.CheckersLogic;
+import Core.Move;
+
+import java.util.Arrays;
+
+import javafx.animation.AnimationTimer;
+import javafx.scene.Node;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.paint.Color;
+
+/**
+ * Draws the board and pieces on a canvas instead of building a node for every tile and piece
+ * Only the tiles that change are redrawn, and a moving piece slides along its path once per frame,
+ * so each frame only repaints the tiles under the piece
+ * A renderer can own its canvas or draw into one area of a shared canvas, so many boards can be shown
+ * with a single node. A shared canvas has no timer of its own, its owner calls tick every frame
+ *
+ * @author Jacob Barrios
+ * @version 1.0, 10/18/2026
+ */
+public class CanvasBoardRenderer implements BoardRenderer {
+	// Time a piece takes to slide one step or one jump
+	private static final long STEP_NANOS = 120_000_000L;
+	// Number of dark squares, see Bitboard
+	private static final int SQUARES = 32;
+	private static final char EMPTY = '_';
+	
+	// Null when drawing into a shared canvas
+	private final Canvas canvas;
+	private final AnimationTimer timer;
+	private final GraphicsContext graphics;
+	private final double left;
+	private final double top;
+	private final double tileSize;
+	// Small tiles get a thinner margin and ring so their pieces are still visible
+	private final double pieceMargin;
+	private final double ringWidth;
+	
+	// Piece drawn on each square by square index, the moving piece isn't on its landing square until it gets there
+	private final char[] shown = new char[SQUARES];
+	
+	// Moving piece and the top left corners of the tiles on its path, one more than the number of steps
+	private boolean animating;
+	private char movingPiece;
+	private int movingTo;
+	private final double[] pathX = new double[Move.MAX_JUMPS + 1];
+	private final double[] pathY = new double[Move.MAX_JUMPS + 1];
+	private int pathLength;
+	// System.nanoTime of the first frame of the animation, 0 before it is drawn
+	private long animationStart;
+	// Where the moving piece was last drawn, so its old spot can be painted over
+	private double movingX;
+	private double movingY;
+	private boolean movingDrawn;
+	
+	/**
+	 * Constructor for a renderer with its own canvas, its animations are driven by a timer
+	 *
+	 * @param tileSize Width of a tile in pixels
+	 */
+	public CanvasBoardRenderer(double tileSize) {
+		this.canvas = new Canvas(tileSize * BOARD_SIZE, tileSize * BOARD_SIZE);
+		this.graphics = canvas.getGraphicsContext2D();
+		this.left = 0;
+		this.top = 0;
+		this.tileSize = tileSize;
+		this.pieceMargin = Math.min(PIECE_MARGIN, tileSize / 10);
+		this.ringWidth = Math.min(KING_RING, tileSize / 12);
+		this.timer = new AnimationTimer() {
+			@Override
+			public void handle(long now) {
+				if(!tick(now)) {
+					stop();
+					
+				}
+				
+			}
+			
+		};
+		
+		drawEmptyBoard();
+		
+	}
+	
+	/**
+	 * Constructor for a renderer that draws into an area of a shared canvas
+	 *
+	 * @param graphics Graphics context of the shared canvas
+	 * @param left     X of the board's left edge on the canvas
+	 * @param top      Y of the board's top edge on the canvas
+	 * @param tileSize Width of a tile in pixels
+	 */
+	public CanvasBoardRenderer(GraphicsContext graphics, double left, double top, double tileSize) {
+		this.canvas = null;
+		this.timer = null;
+		this.graphics = graphics;
+		this.left = left;
+		this.top = top;
+		this.tileSize = tileSize;
+		this.pieceMargin = Math.min(PIECE_MARGIN, tileSize / 10);
+		this.ringWidth = Math.min(KING_RING, tileSize / 12);
+		
+		drawEmptyBoard();
+		
+	}
+	
+	/**
+	 * Paints every tile with no pieces on it
+	 */
+	private void drawEmptyBoard() {
+		Arrays.fill(shown, EMPTY);
+		
+		for(int row = 0; row < BOARD_SIZE; row++) {
+			for(int col = 0; col < BOARD_SIZE; col++) {
+				drawTile(row, col);
+				
+			}
+			
+		}
+		
+	}
+	
+	@Override
+	public Node getView() {
+		if(canvas == null) {
+			throw new IllegalStateException("Board is drawn on a shared canvas");
+			
+		}
+		
+		return canvas;
+		
+	}
+	
+	/**
+	 * Shows a position, only the squares that differ from what is drawn are repainted
+	 * A piece that is still moving is put straight on its landing square first
+	 *
+	 * @param logic Board to show
+	 */
+	@Override
+	public void showPosition(CheckersLogic logic) {
+		finishAnimation();
+		
+		for(int square = 0; square < SQUARES; square++) {
+			char piece = logic.getPiece(square);
+			
+			if(shown[square] != piece) {
+				shown[square] = piece;
+				drawTile(Bitboard.row(square), Bitboard.col(square));
+				
+			}
+			
+		}
+		
+	}
+	
+	/**
+	 * Shows the last move, the start square and the captured squares are cleared at once
+	 * and the piece slides through each landing square to the end square
+	 *
+	 * @param logic Board the move was made on
+	 */
+	@Override
+	public void showLastMove(CheckersLogic logic) {
+		finishAnimation();
+		
+		int move = logic.getLastMove();
+		if(move == Move.NONE) {
+			showPosition(logic);
+			
+			return;
+			
+		}
+		
+		int to = Move.to(move);
+		int changed = logic.getLastChangedSquares();
+		
+		while(changed != 0) {
+			int square = Integer.numberOfTrailingZeros(changed);
+			// The end square stays empty until the piece slides onto it
+			shown[square] = square == to ? EMPTY : logic.getPiece(square);
+			drawTile(Bitboard.row(square), Bitboard.col(square));
+			changed &= changed - 1;
+			
+		}
+		
+		// The path is the start square, every landing square and the end square
+		int jumps = Move.jumpCount(move);
+		pathLength = 0;
+		addToPath(Move.from(move));
+		
+		for(int i = 0; i < jumps; i++) {
+			addToPath(Move.landing(move, i));
+			
+		}
+		if(jumps == 0) {
+			addToPath(to);
+			
+		}
+		
+		movingPiece = logic.getPiece(to);
+		movingTo = to;
+		movingDrawn = false;
+		animationStart = 0;
+		animating = true;
+		
+		if(timer != null) {
+			timer.start();
+			
+		}
+		
+	}
+	
+	/**
+	 * Adds the corner of a square's tile to the path of the moving piece
+	 *
+	 * @param square Square index
+	 */
+	private void addToPath(int square) {
+		pathX[pathLength] = left + Bitboard.col(square) * tileSize;
+		pathY[pathLength] = top + Bitboard.row(square) * tileSize;
+		pathLength++;
+		
+	}
+	
+	/**
+	 * Draws the next frame of the move animation
+	 *
+	 * @param now Time of the frame as a System.nanoTime value
+	 * @return If the piece is still moving and tick should be called again next frame
+	 */
+	public boolean tick(long now) {
+		if(!animating) {
+			return false;
+			
+		}
+		
+		if(animationStart == 0) {
+			animationStart = now;
+			
+		}
+		
+		int steps = pathLength - 1;
+		double progress = Math.min(1.0, (double) (now - animationStart) / (steps * STEP_NANOS));
+		
+		eraseMovingPiece();
+		
+		if(progress >= 1.0) {
+			landMovingPiece();
+			
+			return false;
+			
+		}
+		
+		// Find the step the piece is on and how far along it
+		double position = progress * steps;
+		int step = Math.min((int) position, steps - 1);
+		double along = position - step;
+		
+		movingX = pathX[step] + (pathX[step + 1] - pathX[step]) * along;
+		movingY = pathY[step] + (pathY[step + 1] - pathY[step]) * along;
+		movingDrawn = true;
+		drawPiece(movingX, movingY, movingPiece);
+		
+		return true;
+		
+	}
+	
+	/**
+	 * Checks if a piece is still sliding to its square
+	 *
+	 * @return If tick has more frames to draw
+	 */
+	public boolean isAnimating() {
+		return animating;
+		
+	}
+	
+	/**
+	 * Puts a moving piece straight on its landing square
+	 */
+	private void finishAnimation() {
+		if(animating) {
+			eraseMovingPiece();
+			landMovingPiece();
+			
+		}
+		
+		if(timer != null) {
+			timer.stop();
+			
+		}
+		
+	}
+	
+	/**
+	 * Draws the moving piece on its end square and ends the animation
+	 */
+	private void landMovingPiece() {
+		animating = false;
+		shown[movingTo] = movingPiece;
+		drawTile(Bitboard.row(movingTo), Bitboard.col(movingTo));
+		
+	}
+	
+	/**
+	 * Repaints the tiles under the spot the moving piece was last drawn, at most four tiles
+	 */
+	private void eraseMovingPiece() {
+		if(!movingDrawn) {
+			return;
+			
+		}
+		
+		int firstCol = (int) Math.floor((movingX - left) / tileSize);
+		int firstRow = (int) Math.floor((movingY - top) / tileSize);
+		int lastCol = (int) Math.ceil((movingX - left) / tileSize);
+		int lastRow = (int) Math.ceil((movingY - top) / tileSize);
+		
+		for(int row = Math.max(0, firstRow); row <= Math.min(BOARD_SIZE - 1, lastRow); row++) {
+			for(int col = Math.max(0, firstCol); col <= Math.min(BOARD_SIZE - 1, lastCol); col++) {
+				drawTile(row, col);
+				
+			}
+			
+		}
+		
+		movingDrawn = false;
+		
+	}
+	
+	/**
+	 * Paints a tile and the piece shown on it
+	 *
+	 * @param row Row of the board
+	 * @param col Column of the board
+	 */
+	private void drawTile(int row, int col) {
+		double x = left + col * tileSize;
+		double y = top + row * tileSize;
+		
+		graphics.setFill((row + col) % 2 == 0 ? Color.BLACK : Color.WHITE);
+		graphics.fillRect(x, y, tileSize, tileSize);
+		
+		int square = Bitboard.square(row, col);
+		if(square >= 0 && shown[square] != EMPTY) {
+			drawPiece(x, y, shown[square]);
+			
+		}
+		
+	}
+	
+	/**
+	 * Draws a piece centered on a tile sized area, kings get a gold ring
+	 *
+	 * @param x     X of the area's left edge
+	 * @param y     Y of the area's top edge
+	 * @param piece 'x', 'o', 'X' or 'O'
+	 */
+	private void drawPiece(double x, double y, char piece) {
+		double size = tileSize - 2 * pieceMargin;
+		
+		graphics.setFill(BoardRenderer.pieceColor(piece));
+		graphics.fillOval(x + pieceMargin, y + pieceMargin, size, size);
+		
+		if(Character.isUpperCase(piece)) {
+			graphics.setStroke(Color.GOLD);
+			graphics.setLineWidth(ringWidth);
+			graphics.strokeOval(x + pieceMargin, y + pieceMargin, size, size);
+			
+		}
+		
+	}
+	
+}
@@ -3,7 +3,10 @@ package Ui;
 import javafx.application.Application;
 import Core.CheckersComputerPlayer;
 import Core.CheckersLogic;
+import Core.OpeningExplorer;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.Scanner;
 
 /**
@@ -14,9 +17,13 @@ import java.util.Scanner;
  * @version 3.0, 9/16/2024
  */
 public class CheckerTextConsole {
+	public static final String EXPLORER_PROPERTY = "checkers.explorer";
+	
 	private final CheckersLogic logic;
 	private final CheckersComputerPlayer computer;
 	private final Scanner scanner;
+	// Moves played from each position in past games, null if no explorer file was given
+	private OpeningExplorer explorer;
 	// Checks if the player chose to play with a computer or player
 	private boolean computerOn = false;
 	
@@ -29,6 +36,20 @@ public class CheckerTextConsole {
 		this.computer = new CheckersComputerPlayer(logic);
 		this.scanner = new Scanner(System.in);
 		
+		String file = System.getProperty(EXPLORER_PROPERTY);
+		if(file != null) {
+			try {
+				this.explorer = new OpeningExplorer(Path.of(file));
+				
+			}
+			catch(IOException e) {
+				// The game is still played without it
+				System.err.println("Couldn't open the opening explorer: " + e.getMessage());
+				
+			}
+			
+		}
+		
 	}
 	
 	/**
@@ -94,6 +115,8 @@ public class CheckerTextConsole {
 	 */
 	public void startGame() {
 		String move = "";
+		// The computer thinks about its next move while the player types theirs
+		computer.setPondering(computerOn);
 		
 		while(true) {
 			boolean validInput = false;
@@ -109,8 +132,16 @@ public class CheckerTextConsole {
 						System.out.println("Player O - turn.");
 					}
 					
-					System.out.print("Choose a cell position of piece to be moved and the new position (e.g., 3a-4b): ");
+					System.out.print("Choose a cell position of piece to be moved and the new position (e.g., 3a-4b)" +
+							(explorer != null ? ", or 'E' to explore the position: " : ": "));
 					move = scanner.nextLine();
+					
+					if(explorer != null && move.equalsIgnoreCase("E")) {
+						displayExplorer();
+						continue;
+						
+					}
+					
 					validInput = ValidateMove(move);
 					
 				}
@@ -123,7 +154,7 @@ public class CheckerTextConsole {
 			
 			// Process move and checks if a player won
 			if(logic.processMove(move)) {
-				if(logic.checkWin()) {
+				if(logic.isGameOver()) {
 					displayBoard();
 					System.out.println("Player " + (logic.isPlayerXTurn() ? "O" : "X") + " wins!");
 					break;
@@ -140,7 +171,7 @@ public class CheckerTextConsole {
 				String computerMove = computer.moveForComputer();
 				
 				if(logic.processMove(computerMove)) {
-					if(logic.checkWin()) {
+					if(logic.isGameOver()) {
 						displayBoard();
 						System.out.println("Player " + (logic.isPlayerXTurn() ? "O" : "X") + " wins!");
 						break;
@@ -154,6 +185,8 @@ public class CheckerTextConsole {
 				
 			}
 		}
+		
+		computer.setPondering(false);
 	}
 	
 	/**
@@ -172,6 +205,33 @@ public class CheckerTextConsole {
 		System.out.println("  a b c d e f g h");
 	}
 	
+	/**
+	 * Displays the moves played from the current position in past games and how they scored
+	 *
+	 */
+	private void displayExplorer() {
+		int[] moves = new int[CheckersLogic.MAX_MOVES];
+		int[] wins = new int[CheckersLogic.MAX_MOVES];
+		int[] draws = new int[CheckersLogic.MAX_MOVES];
+		int[] losses = new int[CheckersLogic.MAX_MOVES];
+		int count = explorer.probe(logic, moves, wins, draws, losses);
+		
+		if(count == 0) {
+			System.out.println("This position isn't in the explorer.");
+			return;
+			
+		}
+		
+		System.out.println("Move        Games    Won  Drawn   Lost  Score");
+		for(int i = 0; i < count; i++) {
+			int games = wins[i] + draws[i] + losses[i];
+			System.out.printf("%-9s %7d %6d %6d %6d %5.1f%%%n", logic.convertToMove(moves[i]), games, wins[i], draws[i], losses[i],
+					100.0 * (wins[i] + draws[i] / 2.0) / games);
+			
+		}
+		
+	}
+	
 	/**
 	 * Checks whether the input from the menu is valid
 	 *
@@ -212,7 +272,8 @@ public class CheckerTextConsole {
 	 * @throws InvalidMove Throws if the move is invalid
 	 */
 	public boolean ValidateMove(String move) throws InvalidMove {
-		if(move.length() != 5) {
+		// A step or jump like "3a-4b", a multi-jump can list every square it lands on
+		if(!move.matches("[1-8][a-h](-[1-8][a-h])+")) {
 			throw new InvalidMove(move);
 			
 		}
@@ -1,38 +1,51 @@
 package Ui;
 
+import Core.CancellationToken;
 import Core.CheckersLogic;
 import Core.CheckersComputerPlayer;
 
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.scene.Scene;
 import javafx.scene.control.Button;
+import javafx.scene.control.Label;
 import javafx.scene.control.TextField;
 import javafx.scene.layout.BorderPane;
-import javafx.scene.layout.GridPane;
 import javafx.scene.layout.HBox;
-import javafx.scene.layout.StackPane;
-import javafx.scene.paint.Color;
-import javafx.scene.shape.Circle;
-import javafx.scene.shape.Rectangle;
 import javafx.stage.Stage;
 
 /**
  * This class launches a GUI of the checkers board and lets players submit
  * there move in a text box, and submit it with a button
+ * The computer searches on its own thread so the window keeps responding while it thinks
+ * The board is drawn by a BoardRenderer, after a move only the squares it changed are redrawn
+ * Setting the checkers.renderer system property to "canvas" draws it on a single canvas with animated moves,
+ * otherwise it is built out of nodes
  *
  * @author Jacob Barrios
  * @version 1.0, 9/16/24
  */
 public class CheckersGUI extends Application {
+	public static final String RENDERER_PROPERTY = "checkers.renderer";
+	
 	private static final int TILE_SIZE = 60;
 	private static final int BOARD_SIZE = 8;
-	private final GridPane grid = new GridPane();
-	private final Circle[][] pieces = new Circle[BOARD_SIZE][BOARD_SIZE];
+	private BoardRenderer renderer;
 	private final CheckersLogic logic = new CheckersLogic();
-	private char[][] board;
 	private CheckersComputerPlayer computer;
 	private static boolean isComputerOn = false;
 	
+	// The computer's searches run here, the board belongs to the search until the move comes back
+	private ExecutorService engineThread;
+	// Token of the search that is running, null when the computer isn't thinking
+	private CancellationToken thinkingToken;
+	private final Label status = new Label();
+	private Button moveButton;
+	private Button cancelButton;
+	
 	/**
 	 * Starts the GUI for the Checkers board
 	 *
@@ -42,27 +55,39 @@ public class CheckersGUI extends Application {
 	public void start(Stage primaryStage) {
 		BorderPane root = new BorderPane();
 		this.computer = new CheckersComputerPlayer(logic);
+		// The computer thinks about its next move while the player types theirs
+		computer.setPondering(isComputerOn);
+		this.engineThread = Executors.newSingleThreadExecutor(task -> {
+			Thread thread = new Thread(task, "computer-player");
+			thread.setDaemon(true);
+			
+			return thread;
+			
+		});
 		
-		// Create checkerboard
-		createBoard();
-		
-		// Initialize pieces
-		initializePieces();
+		// Create checkerboard and show the pieces
+		renderer = createRenderer();
+		renderer.showPosition(logic);
 		
 		// Text box for move input
 		TextField moveInput = new TextField();
 		
 		// Button to submit move
-		Button moveButton = new Button("Make Move");
+		moveButton = new Button("Make Move");
 		moveButton.setOnAction(e -> handleMove(moveInput.getText()));
 		
-		// Layout the input box and button in an HBox with padding
+		// Button to stop the computer's search, it plays the best move found so far
+		cancelButton = new Button("Cancel");
+		cancelButton.setDisable(true);
+		cancelButton.setOnAction(e -> cancelComputerMove());
+		
+		// Layout the input box and buttons in an HBox with padding
 		HBox bottomPane = new HBox(10);
-		bottomPane.getChildren().addAll(moveInput, moveButton);
+		bottomPane.getChildren().addAll(moveInput, moveButton, cancelButton, status);
 		bottomPane.setStyle("-fx-padding: 10;");  // Adds padding around the text box and button
 		
 		// Set the layout in BorderPane
-		root.setCenter(grid);
+		root.setCenter(renderer.getView());
 		root.setBottom(bottomPane);
 		
 		// Resize the scene to fit the board and input controls
@@ -73,32 +98,41 @@ public class CheckersGUI extends Application {
 		
 	}
 	
+	/**
+	 * Stops the computer's searches when the window closes
+	 */
+	@Override
+	public void stop() {
+		cancelComputerMove();
+		
+		// Runs after any search still going, so the computer is only ever used from its own thread
+		engineThread.execute(() -> computer.setPondering(false));
+		engineThread.shutdown();
+		
+	}
+	
 	/**
 	 * Handler method to check the input of the player after clicking the submit button
 	 *
 	 * @param move The move the player wants to make in String form
 	 */
 	private void handleMove(String move) {
+		// The search is using the board, so moves can't be made until it's done
+		if(thinkingToken != null) {
+			status.setText("Wait for the computer to move");
+			
+			return;
+			
+		}
+		
 		// Process the move from the text field
 		if(logic.processMove(move)) {
-			this.board = logic.getBoard();
-			updateCircleArray();
+			renderer.showLastMove(logic);
 			checkGameOver();
 			
 			// Makes a computer move if computer is on
 			if(isComputerOn && !logic.isPlayerXTurn()) {
-				String computerMove = computer.moveForComputer();
-				if(computerMove.equals("No more moves")) {
-					System.out.println("Player X");
-					
-				}
-				
-				// Process computer move
-				if(logic.processMove(computerMove)) {
-					updateCircleArray();
-					checkGameOver();
-					
-				}
+				startComputerMove();
 				
 			}
 			
@@ -111,168 +145,92 @@ public class CheckersGUI extends Application {
 	}
 	
 	/**
-	 * Updates the array of circles so it matches the updated board array
-	 * Help to update the board on the GUI too
-	 *
+	 * Starts the computer's search on the engine thread, the move is made on the FX thread when it's found
 	 */
-	private void updateCircleArray() {
-		// Iterate through the circle array to see where all the pieces are
-		for(int i = 0; i < BOARD_SIZE; i++) {
-			for(int j = 0; j < BOARD_SIZE; j++) {
-				// Current board piece ('o', 'x', or '_')
-				char boardPiece = this.board[i][j];
+	private void startComputerMove() {
+		CancellationToken token = new CancellationToken();
+		thinkingToken = token;
+		setThinking(true);
+		
+		engineThread.execute(() -> {
+			try {
+				String computerMove = computer.moveForComputer(token);
+				Platform.runLater(() -> finishComputerMove(computerMove));
 				
-				// Compare the board array to the circle array to check if they both match and update it they don't
-				if(boardPiece == 'o') {
-					// Check if o piece matches with red circle in the circle array
-					if(pieces[i][j] == null || pieces[i][j].getFill() != Color.RED) {
-						removePiece(i, j);
-						addPiece(i, j, Color.RED);
-						
-					}
-					
-				}
-				else if(boardPiece == 'x') {
-					// Check if x piece matches with black circle in the circle array
-					if(pieces[i][j] == null || pieces[i][j].getFill() != Color.BLACK) {
-						removePiece(i, j);
-						addPiece(i, j, Color.BLACK);
-						
-					}
-					
-				}
-				// if the board piece is null, make sure it's null on the circle array
-				else {
-					removePiece(i, j);
+			}
+			catch(RuntimeException e) {
+				Platform.runLater(() -> {
+					thinkingToken = null;
+					setThinking(false);
+					status.setText("Computer failed: " + e.getMessage());
 					
-				}
+				});
 				
 			}
 			
-		}
+		});
 		
 	}
 	
 	/**
-	 * Creates either a black or red piece depending on where the iteration is at the start of the game
+	 * Makes the computer's move once its search is done
 	 *
+	 * @param computerMove Move from the computer
 	 */
-	private void initializePieces() {
-		// Create the pieces on top of the tiles
-		for(int i = 0; i < BOARD_SIZE; i++) {
-			for(int j = 0; j < BOARD_SIZE; j++) {
-				if(i < 3 && (i + j) % 2 == 1) {
-					addPiece(i, j, Color.RED);
-					
-				}
-				else if(i > 4 && (i + j) % 2 == 1) {
-					addPiece(i, j, Color.BLACK);
-					
-				}
-				
-			}
+	private void finishComputerMove(String computerMove) {
+		thinkingToken = null;
+		setThinking(false);
+		
+		if(computerMove.equals("No more moves")) {
+			System.out.println("Player X");
 			
 		}
 		
-	}
-	
-	/**
-	 * Creates the board in the GUI
-	 *
-	 */
-	private void createBoard() {
-		// Clear board
-		grid.getChildren().clear();
-		
-		// Create tiles in a grid
-		for(int row = 0; row < BOARD_SIZE; row++) {
-			for(int col = 0; col < BOARD_SIZE; col++) {
-				Rectangle tile = new Rectangle(TILE_SIZE, TILE_SIZE);
-				
-				if((row + col) % 2 == 0) {
-					tile.setFill(Color.BLACK);
-					
-				}
-				else {
-					tile.setFill(Color.WHITE);
-					
-				}
-				
-				// Add stack to a part of the grid
-				StackPane stack = new StackPane(tile);
-				grid.add(stack, col + 1, row + 1);
-				
-			}
+		// Process computer move
+		if(logic.processMove(computerMove)) {
+			renderer.showLastMove(logic);
+			checkGameOver();
 			
 		}
 		
 	}
 	
 	/**
-	 * Removes a piece that is taken
-	 *
-	 * @param row The row the piece is on
-	 * @param col The column the piece is on
+	 * Stops the computer's search, it still moves with the best move it found so far
 	 */
-	private void removePiece(int row, int col) {
-		// Get the stack in the grid pane
-		StackPane stack = getNodeFromGridPane(grid, col + 1, row + 1);
-		
-		if(stack != null && pieces[row][col] != null) {
-			// Make content in stack null
-			stack.getChildren().remove(pieces[row][col]);
-			// Make content in board array null
-			pieces[row][col] = null;
+	private void cancelComputerMove() {
+		if(thinkingToken != null) {
+			thinkingToken.cancel();
+			status.setText("Stopping...");
 			
 		}
 		
 	}
 	
 	/**
-	 * Adds a piece in the circle array that represents the board
+	 * Shows if the computer is thinking and only enables the buttons that can be used
 	 *
-	 * @param row   Row to add the piece
-	 * @param col   Column to add the piece
-	 * @param color Color of the piece added
+	 * @param thinking If the computer is searching
 	 */
-	private void addPiece(int row, int col, Color color) {
-		// Create the piece
-		Circle piece = new Circle((double) (TILE_SIZE / 2) - 5);
-		piece.setFill(color);
-		
-		// Create a stack pane to center the circle piece
-		StackPane stack = getNodeFromGridPane(grid, col + 1, row + 1);
-		
-		if(stack != null) {
-			stack.getChildren().add(piece);
-			
-		}
-		
-		pieces[row][col] = piece;
+	private void setThinking(boolean thinking) {
+		moveButton.setDisable(thinking);
+		cancelButton.setDisable(!thinking);
+		status.setText(thinking ? "Computer is thinking..." : "");
 		
 	}
 	
 	/**
-	 * Gets the node/piece in the stack pane within the grid
-	 * A piece is added to a stack pane to center it and then added to the grid
+	 * Makes the renderer picked with the checkers.renderer system property
 	 *
-	 * @param gridPane The grid pane shown in the GUI
-	 * @param col      Column the stack pane is in
-	 * @param row      Row the Stack pane is in
-	 * @return Returns the node/piece in the stack pane
+	 * @return Canvas renderer if the property is "canvas", otherwise the node renderer
 	 */
-	private StackPane getNodeFromGridPane(GridPane gridPane, int col, int row) {
-		// Get stack from the grid pane
-		
-		for(javafx.scene.Node node : gridPane.getChildren()) {
-			if(GridPane.getColumnIndex(node) == col && GridPane.getRowIndex(node) == row) {
-				return (StackPane) node;
-				
-			}
+	private static BoardRenderer createRenderer() {
+		if("canvas".equalsIgnoreCase(System.getProperty(RENDERER_PROPERTY))) {
+			return new CanvasBoardRenderer(TILE_SIZE);
 			
 		}
 		
-		return null;
+		return new NodeBoardRenderer(TILE_SIZE);
 		
 	}
 	
@@ -283,7 +241,7 @@ public class CheckersGUI extends Application {
 	 */
 	private void checkGameOver() {
 		// Use logic method to check for with on the board array
-		if(logic.checkWin()) {
+		if(logic.isGameOver()) {
 			String winner = logic.isPlayerXTurn() ? "Player O" : "Player X";
 			System.out.println(winner);
 			
@@ -0,0 +1,142 @@
+package Ui;
+
+import Core.Bitboard;
+import Core.CheckersLogic;
+
+import javafx.scene.Node;
+import javafx.scene.layout.GridPane;
+import javafx.scene.layout.StackPane;
+import javafx.scene.paint.Color;
+import javafx.scene.shape.Circle;
+import javafx.scene.shape.Rectangle;
+
+/**
+ * Builds the board out of a grid of tiles with a stack pane per cell
+ * Every dark square gets one piece node when the board is made, after a move only the squares
+ * it changed are redrawn by showing, hiding or recoloring their node
+ *
+ * @author Jacob Barrios
+ * @version 1.0, 10/18/2026
+ */
+public class NodeBoardRenderer implements BoardRenderer {
+	// Number of dark squares, see Bitboard
+	private static final int SQUARES = 32;
+	
+	private final GridPane grid = new GridPane();
+	// Piece node of each dark square by square index, hidden when the square is empty
+	private final Circle[] pieces = new Circle[SQUARES];
+	// Stack pane of each cell, kept so a cell is found without searching the grid's children
+	private final StackPane[][] cells = new StackPane[BOARD_SIZE][BOARD_SIZE];
+	
+	/**
+	 * Constructor for the renderer, makes the tiles and a hidden piece node for every dark square
+	 *
+	 * @param tileSize Width of a tile in pixels
+	 */
+	public NodeBoardRenderer(double tileSize) {
+		createBoard(tileSize);
+		
+		// These are the only piece nodes made, moves reuse them
+		for(int square = 0; square < SQUARES; square++) {
+			Circle piece = new Circle(tileSize / 2 - PIECE_MARGIN);
+			piece.setStrokeWidth(KING_RING);
+			piece.setVisible(false);
+			
+			cells[Bitboard.row(square)][Bitboard.col(square)].getChildren().add(piece);
+			pieces[square] = piece;
+			
+		}
+		
+	}
+	
+	/**
+	 * Creates the tiles of the board
+	 *
+	 * @param tileSize Width of a tile in pixels
+	 */
+	private void createBoard(double tileSize) {
+		for(int row = 0; row < BOARD_SIZE; row++) {
+			for(int col = 0; col < BOARD_SIZE; col++) {
+				Rectangle tile = new Rectangle(tileSize, tileSize);
+				
+				if((row + col) % 2 == 0) {
+					tile.setFill(Color.BLACK);
+					
+				}
+				else {
+					tile.setFill(Color.WHITE);
+					
+				}
+				
+				// Add stack to a part of the grid
+				StackPane stack = new StackPane(tile);
+				grid.add(stack, col + 1, row + 1);
+				cells[row][col] = stack;
+				
+			}
+			
+		}
+		
+	}
+	
+	@Override
+	public Node getView() {
+		return grid;
+		
+	}
+	
+	@Override
+	public void showPosition(CheckersLogic logic) {
+		for(int square = 0; square < SQUARES; square++) {
+			showPiece(square, logic.getPiece(square));
+			
+		}
+		
+	}
+	
+	@Override
+	public void showLastMove(CheckersLogic logic) {
+		int changed = logic.getLastChangedSquares();
+		
+		while(changed != 0) {
+			int square = Integer.numberOfTrailingZeros(changed);
+			showPiece(square, logic.getPiece(square));
+			changed &= changed - 1;
+			
+		}
+		
+	}
+	
+	/**
+	 * Makes the piece node of a square match the board, only properties that differ are changed
+	 *
+	 * @param square     Square index, see Bitboard
+	 * @param boardPiece 'x', 'o', 'X', 'O' or '_' for an empty square
+	 */
+	private void showPiece(int square, char boardPiece) {
+		Circle piece = pieces[square];
+		
+		if(boardPiece == '_') {
+			piece.setVisible(false);
+			
+			return;
+			
+		}
+		
+		Color color = BoardRenderer.pieceColor(boardPiece);
+		Color ring = Character.isUpperCase(boardPiece) ? Color.GOLD : null;
+		
+		if(piece.getFill() != color) {
+			piece.setFill(color);
+			
+		}
+		if(piece.getStroke() != ring) {
+			piece.setStroke(ring);
+			
+		}
+		
+		piece.setVisible(true);
+		
+	}
+	
+}
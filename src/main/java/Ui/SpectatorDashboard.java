@@ -0,0 +1,204 @@
+package Ui;
+
+import Core.CheckersLogic;
+import Core.GameRunner;
+import Core.SearchEngine;
+
+import java.util.List;
+
+import javafx.animation.AnimationTimer;
+import javafx.application.Application;
+import javafx.scene.Scene;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.control.Label;
+import javafx.scene.layout.BorderPane;
+import javafx.stage.Stage;
+
+/**
+ * Shows a grid of live engine games so many games can be watched at once
+ * The games are played by a GameRunner in the background. All boards are drawn on one canvas
+ * and once per frame the dashboard takes the newest update of each board, so a board is redrawn
+ * at most once per frame however fast its game is going
+ * Usage: SpectatorDashboard [boards] [depth] [moveDelayMillis]
+ *
+ * @author Jacob Barrios
+ * @version 1.0, 10/18/2026
+ */
+public class SpectatorDashboard extends Application {
+	private static final int DEFAULT_BOARDS = 64;
+	private static final int DEFAULT_DEPTH = 4;
+	private static final int DEFAULT_MOVE_DELAY = 500;
+	private static final int HASH_MB = 4;
+	// Space between boards in pixels
+	private static final double GAP = 6;
+	// Largest area the grid of boards is fit into
+	private static final double MAX_WIDTH = 1200;
+	private static final double MAX_HEIGHT = 900;
+	private static final double MAX_TILE = 24;
+	private static final long NANOS_PER_SECOND = 1_000_000_000L;
+	
+	private GameRunner runner;
+	private CanvasBoardRenderer[] renderers;
+	// What each board shows, only used on the JavaFX Application Thread
+	private CheckersLogic[] shown;
+	private long[] shownGames;
+	private int[] shownPlies;
+	
+	// Frame rate shown in the status line
+	private final Label status = new Label();
+	private long secondStart;
+	private int frames;
+	private long updates;
+	
+	/**
+	 * Launches the dashboard
+	 *
+	 * @param args Optional number of boards, search depth and wait after each move
+	 */
+	public static void main(String[] args) {
+		launch(args);
+		
+	}
+	
+	/**
+	 * Starts the games and the grid of boards
+	 *
+	 * @param primaryStage The stage where the boards will be displayed
+	 */
+	@Override
+	public void start(Stage primaryStage) {
+		List<String> args = getParameters().getRaw();
+		int boards = args.size() > 0 ? Integer.parseInt(args.get(0)) : DEFAULT_BOARDS;
+		int depth = args.size() > 1 ? Integer.parseInt(args.get(1)) : DEFAULT_DEPTH;
+		long moveDelay = args.size() > 2 ? Long.parseLong(args.get(2)) : DEFAULT_MOVE_DELAY;
+		
+		// Lay the boards out as close to a square as possible, with the tiles as big as fit
+		int columns = (int) Math.ceil(Math.sqrt(boards));
+		int rows = (boards + columns - 1) / columns;
+		double tileSize = Math.floor(Math.min(MAX_TILE, Math.min((MAX_WIDTH - GAP * (columns + 1)) / (columns * BoardRenderer.BOARD_SIZE),
+				(MAX_HEIGHT - GAP * (rows + 1)) / (rows * BoardRenderer.BOARD_SIZE))));
+		double boardSize = tileSize * BoardRenderer.BOARD_SIZE;
+		
+		Canvas canvas = new Canvas(columns * (boardSize + GAP) + GAP, rows * (boardSize + GAP) + GAP);
+		renderers = new CanvasBoardRenderer[boards];
+		shown = new CheckersLogic[boards];
+		shownGames = new long[boards];
+		shownPlies = new int[boards];
+		
+		for(int board = 0; board < boards; board++) {
+			double left = GAP + (board % columns) * (boardSize + GAP);
+			double top = GAP + (board / columns) * (boardSize + GAP);
+			
+			renderers[board] = new CanvasBoardRenderer(canvas.getGraphicsContext2D(), left, top, tileSize);
+			shown[board] = new CheckersLogic();
+			shownGames[board] = -1;
+			renderers[board].showPosition(shown[board]);
+			
+		}
+		
+		runner = new GameRunner(boards, () -> engine(depth), Runtime.getRuntime().availableProcessors(), System.nanoTime());
+		runner.setMoveDelay(moveDelay);
+		runner.start();
+		
+		// One render pulse per frame for every board
+		new AnimationTimer() {
+			@Override
+			public void handle(long now) {
+				renderFrame(now);
+				
+			}
+			
+		}.start();
+		
+		BorderPane root = new BorderPane(canvas);
+		root.setBottom(status);
+		status.setStyle("-fx-padding: 4;");
+		
+		primaryStage.setScene(new Scene(root));
+		primaryStage.setTitle("Checkers - " + boards + " live games");
+		primaryStage.show();
+		
+	}
+	
+	/**
+	 * Stops the games when the window closes
+	 */
+	@Override
+	public void stop() {
+		runner.close();
+		
+	}
+	
+	/**
+	 * Draws one frame, each board takes at most one update and moves its animation forward
+	 *
+	 * @param now Time of the frame as a System.nanoTime value
+	 */
+	private void renderFrame(long now) {
+		for(int board = 0; board < renderers.length; board++) {
+			GameRunner.Update update = runner.take(board);
+			
+			if(update != null) {
+				showUpdate(board, update);
+				updates++;
+				
+			}
+			
+			renderers[board].tick(now);
+			
+		}
+		
+		frames++;
+		if(now - secondStart >= NANOS_PER_SECOND) {
+			status.setText(String.format("%d fps, %d board updates/s, %d games finished, %d moves", frames, updates, runner.getGames(),
+					runner.getMoves()));
+			secondStart = now;
+			frames = 0;
+			updates = 0;
+			
+		}
+		
+	}
+	
+	/**
+	 * Shows a board's newest position, the move is animated if it follows straight on from what is shown
+	 * Otherwise some updates were skipped, so the board jumps to the new position redrawing only what changed
+	 *
+	 * @param board  Index of the board
+	 * @param update Newest update of the board
+	 */
+	private void showUpdate(int board, GameRunner.Update update) {
+		CheckersLogic logic = shown[board];
+		
+		if(update.getGame() == shownGames[board] && update.getPly() == shownPlies[board] + 1) {
+			logic.makeMove(update.getMove());
+			renderers[board].showLastMove(logic);
+			
+		}
+		else {
+			update.setUp(logic);
+			renderers[board].showPosition(logic);
+			
+		}
+		
+		shownGames[board] = update.getGame();
+		shownPlies[board] = update.getPly();
+		
+	}
+	
+	/**
+	 * Makes an engine for the live games
+	 *
+	 * @param depth Search depth
+	 * @return Engine with a small table, one is made per search thread
+	 */
+	private static SearchEngine engine(int depth) {
+		SearchEngine engine = new SearchEngine();
+		engine.setHashSizeMb(HASH_MB);
+		engine.setMaxDepth(depth);
+		
+		return engine;
+		
+	}
+	
+}